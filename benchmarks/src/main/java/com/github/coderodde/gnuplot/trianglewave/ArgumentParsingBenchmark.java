@@ -0,0 +1,68 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the command line argument parsing and the configuration 
+ * validation.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentParsingBenchmark {
+    
+    private final String[] args = {
+        "--amplitude=2",
+        "--period=4",
+        "--shift=-1",
+        "--color=#12ab9f",
+        "--lineWidth=3",
+        "--xRangeStart=-12",
+        "--xRangeEnd=12",
+        "--yRangeStart=-3",
+        "--yRangeEnd=3",
+        "--plotWidth=1000",
+        "--plotHeight=600",
+        "TriangleWave.png"
+    };
+    
+    @Benchmark
+    public TriangleWavePlotterConfiguration buildConfiguration() {
+        return TriangleWavePlotter.buildTriangleWavePlotterConfiguration(args);
+    }
+    
+    @Benchmark
+    public TriangleWavePlotterConfiguration processSingleArgument() {
+        TriangleWavePlotterConfiguration.Builder builder = 
+                TriangleWavePlotterConfiguration.builder();
+        
+        ConfigurationArgumentParser.parseArgument(builder, "--period=4");
+        return builder.build();
+    }
+    
+    @Benchmark
+    public String validateLongHexColor() {
+        return TriangleWavePlotterConfiguration.validateHexColor("#12ab9f");
+    }
+    
+    @Benchmark
+    public String validateShortHexColor() {
+        return TriangleWavePlotterConfiguration.validateHexColor("#1a9");
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This class runs the JMH benchmarks of the render pipeline with allocation 
+ * profiling enabled. The command line arguments are the usual JMH ones, for
+ * example a benchmark name regex or {@code -rf json} for machine-readable
+ * results.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class BenchmarkRunner {
+    
+    public static void main(String[] args) 
+            throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                           .parent(new CommandLineOptions(args))
+                           .addProfiler(GCProfiler.class)
+                           .build()).run();
+    }
+    
+    private BenchmarkRunner() {}
+}
@@ -0,0 +1,108 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures end-to-end renders. The Gnuplot backends run against a stub 
+ * Gnuplot executable, so they measure the script writing, the process spawn 
+ * and the output handling, but not Gnuplot itself.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RenderBenchmark {
+    
+    private Path directory;
+    private Path outputFile;
+    private TriangleWavePlotterConfiguration configuration;
+    private GnuplotRenderer fileGnuplotRenderer;
+    private GnuplotRenderer standardInputGnuplotRenderer;
+    private GnuplotSessionRenderer sessionGnuplotRenderer;
+    private Java2DRenderer java2DRenderer;
+    
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("triangle-wave-benchmark");
+        outputFile = directory.resolve("out.png");
+        configuration = new TriangleWavePlotterConfiguration();
+        
+        String stub = StubGnuplotExecutable.create(directory).toString();
+        
+        fileGnuplotRenderer = 
+                new GnuplotRenderer(stub, GnuplotRenderer.ScriptInput.FILE);
+        
+        standardInputGnuplotRenderer = 
+                new GnuplotRenderer(
+                        stub, 
+                        GnuplotRenderer.ScriptInput.STANDARD_INPUT);
+        
+        sessionGnuplotRenderer = new GnuplotSessionRenderer(stub);
+        java2DRenderer = new Java2DRenderer();
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        sessionGnuplotRenderer.close();
+        
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder())
+                                  .toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+    
+    @Benchmark
+    public Path gnuplotThroughScriptFile() throws IOException {
+        fileGnuplotRenderer.render(configuration, outputFile);
+        return outputFile;
+    }
+    
+    @Benchmark
+    public Path gnuplotThroughStandardInput() throws IOException {
+        standardInputGnuplotRenderer.render(configuration, outputFile);
+        return outputFile;
+    }
+    
+    @Benchmark
+    public byte[] gnuplotToByteArray() throws IOException {
+        return TriangleWavePlotter.plotToByteArray(
+                standardInputGnuplotRenderer, 
+                configuration);
+    }
+    
+    @Benchmark
+    public Path gnuplotSession() throws IOException {
+        sessionGnuplotRenderer.render(configuration, outputFile);
+        return outputFile;
+    }
+    
+    @Benchmark
+    public byte[] java2DToByteArray() throws IOException {
+        return TriangleWavePlotter.plotToByteArray(java2DRenderer, 
+                                                   configuration);
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures filling the Gnuplot script template.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScriptTemplateBenchmark {
+    
+    @Param({ "function", "vertices", "minmax" })
+    public String sampling;
+    
+    private GnuplotScriptTemplate plotTemplate;
+    private TriangleWavePlotterConfiguration configuration;
+    private StringBuilder scriptBuilder;
+    
+    @Setup
+    public void setUp() throws IOException {
+        plotTemplate = GnuplotScriptTemplate.getDefault();
+        configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                        .setSampling(TriangleWaveSampling.fromName(sampling))
+                        .build();
+        
+        scriptBuilder = new StringBuilder(plotTemplate.estimateScriptLength());
+    }
+    
+    @Benchmark
+    public String renderToString() {
+        return plotTemplate.render(configuration, "triangle-wave.png");
+    }
+    
+    @Benchmark
+    public StringBuilder renderIntoReusedBuilder() {
+        scriptBuilder.setLength(0);
+        plotTemplate.render(configuration, "triangle-wave.png", scriptBuilder);
+        return scriptBuilder;
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * Writes a POSIX shell script that stands in for Gnuplot: it consumes the 
+ * script and writes a fake PNG wherever the script sets the output. This 
+ * makes the process spawn and script transfer costs measurable without 
+ * measuring Gnuplot itself.
+ */
+final class StubGnuplotExecutable {
+    
+    private static final String SCRIPT = 
+            """
+            #!/bin/sh
+            out=""
+            flush() {
+                if [ "$out" = "-" ]; then printf 'PNG'
+                elif [ -n "$out" ]; then printf 'PNG' > "$out"; fi
+                out=""
+            }
+            if [ -n "$1" ]; then exec < "$1"; fi
+            while IFS= read -r line; do
+                case "$line" in
+                    "set output '"*) out=${line#"set output '"}; out=${out%%"'"};;
+                    "set output"|"set output ") out="-";;
+                    "unset output") flush;;
+                    "print '"*) m=${line#"print '"}; echo "${m%%"'"}" >&2;;
+                esac
+            done
+            flush
+            """;
+    
+    private StubGnuplotExecutable() {}
+    
+    static Path create(Path directory) throws IOException {
+        Path stub = directory.resolve("gnuplot-stub.sh");
+        Files.writeString(stub, SCRIPT);
+        Files.setPosixFilePermissions(
+                stub, 
+                PosixFilePermissions.fromString("rwxr-xr-x"));
+        
+        return stub;
+    }
+}
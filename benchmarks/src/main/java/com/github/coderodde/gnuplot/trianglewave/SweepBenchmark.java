@@ -0,0 +1,97 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the frame throughput of parallel parameter sweeps: one operation 
+ * is one frame. The Gnuplot sessions run against a stub Gnuplot executable.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SweepBenchmark {
+    
+    private static final int NUMBER_OF_FRAMES = 64;
+    
+    @Param({ "1", "4" })
+    public int numberOfWorkers;
+    
+    private Path directory;
+    private Path outputFile;
+    private String stub;
+    private TriangleWavePlotterConfiguration configuration;
+    private ParameterSweep sweep;
+    
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("triangle-wave-benchmark");
+        outputFile = directory.resolve("frame.png");
+        stub = StubGnuplotExecutable.create(directory).toString();
+        configuration = new TriangleWavePlotterConfiguration();
+        sweep = new ParameterSweep(SweepParameter.SHIFT, 
+                                   0.0, 
+                                   2.0 * Math.PI, 
+                                   NUMBER_OF_FRAMES);
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder())
+                                  .toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_FRAMES)
+    public RenderSummary java2DFrames() 
+            throws IOException, InterruptedException {
+        return render(Java2DRenderer::new);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_FRAMES)
+    public RenderSummary gnuplotSessionFrames() 
+            throws IOException, InterruptedException {
+        return render(() -> new GnuplotSessionRenderer(stub));
+    }
+    
+    private RenderSummary render(
+            RenderScheduler.RendererFactory rendererFactory) 
+            throws IOException, InterruptedException {
+        
+        return SweepRenderer.withScheduler(
+                new RenderScheduler(rendererFactory, 
+                                    numberOfWorkers, 
+                                    2 * numberOfWorkers), 
+                SweepRenderer.DEFAULT_FRAME_DELAY)
+                            .render(configuration, sweep, outputFile);
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * This class assembles PNG frames into a looping animated GIF with the JDK
+ * GIF encoder. The frames are read one at a time, so only a single decoded
+ * frame is held in memory.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+final class AnimatedGifWriter {
+    
+    private static final String GIF_FORMAT = "gif";
+    private static final String GIF_METADATA_FORMAT = 
+            "javax_imageio_gif_image_1.0";
+    
+    private static final class MetadataNodes {
+        static final String GRAPHIC_CONTROL_EXTENSION = 
+                "GraphicControlExtension";
+        
+        static final String APPLICATION_EXTENSIONS = "ApplicationExtensions";
+        static final String APPLICATION_EXTENSION  = "ApplicationExtension" ;
+    }
+    
+    /**
+     * The Netscape application extension making the animation loop forever.
+     */
+    private static final class LoopExtension {
+        static final String APPLICATION_ID   = "NETSCAPE";
+        static final String AUTHENTICATION   = "2.0"     ;
+        static final byte[] LOOP_FOREVER     = { 1, 0, 0 };
+    }
+    
+    private AnimatedGifWriter() {}
+    
+    /**
+     * Writes the PNG files {@code frameFiles} as the frames of the animated
+     * GIF file {@code gifFile}.
+     * 
+     * @param frameFiles the PNG frames in the order of display.
+     * @param gifFile    the output GIF file.
+     * @param frameDelay the display time of each frame, rounded to
+     *                   hundredths of a second.
+     * @throws IOException if a frame cannot be read or the GIF cannot be
+     *                     written.
+     */
+    static void write(List<Path> frameFiles, 
+                      Path gifFile, 
+                      Duration frameDelay) throws IOException {
+        
+        if (frameFiles.isEmpty()) {
+            throw new IllegalArgumentException("There are no frames.");
+        }
+        
+        Iterator<ImageWriter> imageWriters = 
+                ImageIO.getImageWritersByFormatName(GIF_FORMAT);
+        
+        if (!imageWriters.hasNext()) {
+            throw new IOException("No GIF encoder available.");
+        }
+        
+        ImageWriter imageWriter = imageWriters.next();
+        String delayCentiseconds = 
+                Long.toString(Math.max(1L, 
+                                       Math.round(frameDelay.toMillis()
+                                                          / 10.0)));
+        
+        Files.deleteIfExists(gifFile);
+        
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault()
+                             .startStage(RenderStage.GIF_ENCODING);
+             ImageOutputStream imageOutputStream = 
+                ImageIO.createImageOutputStream(gifFile.toFile())) {
+            
+            imageWriter.setOutput(imageOutputStream);
+            imageWriter.prepareWriteSequence(null);
+            ImageWriteParam writeParam = imageWriter.getDefaultWriteParam();
+            boolean firstFrame = true;
+            
+            for (Path frameFile : frameFiles) {
+                BufferedImage frame = ImageIO.read(frameFile.toFile());
+                
+                if (frame == null) {
+                    throw new IOException(
+                            "Could not decode the frame " + frameFile + ".");
+                }
+                
+                IIOMetadata metadata = 
+                        createFrameMetadata(imageWriter, 
+                                            writeParam, 
+                                            frame, 
+                                            delayCentiseconds, 
+                                            firstFrame);
+                
+                imageWriter.writeToSequence(
+                        new IIOImage(frame, null, metadata), 
+                        writeParam);
+                
+                firstFrame = false;
+            }
+            
+            imageWriter.endWriteSequence();
+            timer.markSuccessful();
+        } finally {
+            imageWriter.dispose();
+        }
+    }
+    
+    private static IIOMetadata createFrameMetadata(ImageWriter imageWriter, 
+                                                   ImageWriteParam writeParam, 
+                                                   BufferedImage frame, 
+                                                   String delayCentiseconds, 
+                                                   boolean firstFrame)
+            throws IOException {
+        
+        IIOMetadata metadata = 
+                imageWriter.getDefaultImageMetadata(
+                        ImageTypeSpecifier.createFromRenderedImage(frame), 
+                        writeParam);
+        
+        IIOMetadataNode root = 
+                (IIOMetadataNode) metadata.getAsTree(GIF_METADATA_FORMAT);
+        
+        IIOMetadataNode graphicControlExtension = 
+                new IIOMetadataNode(MetadataNodes.GRAPHIC_CONTROL_EXTENSION);
+        
+        graphicControlExtension.setAttribute("disposalMethod", "none");
+        graphicControlExtension.setAttribute("userInputFlag", "FALSE");
+        graphicControlExtension.setAttribute("transparentColorFlag", "FALSE");
+        graphicControlExtension.setAttribute("delayTime", delayCentiseconds);
+        graphicControlExtension.setAttribute("transparentColorIndex", "0");
+        root.appendChild(graphicControlExtension);
+        
+        if (firstFrame) {
+            IIOMetadataNode applicationExtensions = 
+                    new IIOMetadataNode(MetadataNodes.APPLICATION_EXTENSIONS);
+            
+            IIOMetadataNode applicationExtension = 
+                    new IIOMetadataNode(MetadataNodes.APPLICATION_EXTENSION);
+            
+            applicationExtension.setAttribute("applicationID", 
+                                              LoopExtension.APPLICATION_ID);
+            
+            applicationExtension.setAttribute("authenticationCode", 
+                                              LoopExtension.AUTHENTICATION);
+            
+            applicationExtension.setUserObject(LoopExtension.LOOP_FOREVER);
+            applicationExtensions.appendChild(applicationExtension);
+            root.appendChild(applicationExtensions);
+        }
+        
+        metadata.mergeTree(GIF_METADATA_FORMAT, root);
+        return metadata;
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * This class implements an output stream writing into a {@link ByteBuffer}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+final class ByteBufferOutputStream extends OutputStream {
+    
+    private final ByteBuffer byteBuffer;
+    
+    ByteBufferOutputStream(ByteBuffer byteBuffer) {
+        this.byteBuffer = 
+                Objects.requireNonNull(
+                        byteBuffer, 
+                        "The input byte buffer is null.");
+    }
+    
+    @Override
+    public void write(int b) throws IOException {
+        if (!byteBuffer.hasRemaining()) {
+            throw new IOException(
+                    "The byte buffer is full.", 
+                    new BufferOverflowException());
+        }
+        
+        byteBuffer.put((byte) b);
+    }
+    
+    @Override
+    public void write(byte[] bytes, int offset, int length) 
+            throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        
+        if (byteBuffer.remaining() < length) {
+            throw new IOException(
+                    "The byte buffer has only " 
+                            + byteBuffer.remaining() 
+                            + " bytes remaining, " 
+                            + length 
+                            + " requested.", 
+                    new BufferOverflowException());
+        }
+        
+        byteBuffer.put(bytes, offset, length);
+    }
+}
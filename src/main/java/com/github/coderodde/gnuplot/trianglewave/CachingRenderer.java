@@ -0,0 +1,139 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This class implements a renderer that serves the PNGs from a 
+ * {@link RenderCache} and falls back to the wrapped renderer on a miss.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class CachingRenderer implements TriangleWaveRenderer {
+    
+    private final TriangleWaveRenderer renderer;
+    private final RenderCache renderCache;
+    
+    public CachingRenderer(TriangleWaveRenderer renderer, 
+                           RenderCache renderCache) {
+        this.renderer = 
+                Objects.requireNonNull(renderer, "The input renderer is null.");
+        
+        this.renderCache = 
+                Objects.requireNonNull(
+                        renderCache, 
+                        "The input render cache is null.");
+    }
+    
+    @Override
+    public void render(TriangleWavePlotterConfiguration configuration,
+                       Path outputFile) throws IOException {
+        Files.write(outputFile, renderToByteArray(configuration));
+    }
+    
+    @Override
+    public void render(TriangleWavePlotterConfiguration configuration, 
+                       OutputStream outputStream) throws IOException {
+        outputStream.write(renderToByteArray(configuration));
+    }
+    
+    @Override
+    public void renderOverlay(
+            List<TriangleWavePlotterConfiguration> configurations,
+            Path outputFile) throws IOException {
+        
+        Files.write(outputFile, renderToByteArray(configurations));
+    }
+    
+    @Override
+    public void renderOverlay(
+            List<TriangleWavePlotterConfiguration> configurations,
+            OutputStream outputStream) throws IOException {
+        
+        outputStream.write(renderToByteArray(configurations));
+    }
+    
+    /**
+     * {@inheritDoc} A cache hit completes immediately, a miss is rendered 
+     * asynchronously by the wrapped renderer and then cached.
+     */
+    @Override
+    public CompletableFuture<Path> renderAsync(
+            TriangleWavePlotterConfiguration configuration,
+            Path outputFile) {
+        
+        String key = RenderCache.computeKey(configuration, renderer);
+        byte[] png = renderCache.get(key);
+        
+        try {
+            if (png != null) {
+                Files.write(outputFile, png);
+                return CompletableFuture.completedFuture(outputFile);
+            }
+        } catch (IOException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        
+        return renderer.renderAsync(configuration, outputFile)
+                       .thenCompose(renderedFile -> {
+            try {
+                renderCache.put(key, Files.readAllBytes(renderedFile));
+                return CompletableFuture.completedFuture(renderedFile);
+            } catch (IOException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        });
+    }
+    
+    @Override
+    public String getName() {
+        return renderer.getName();
+    }
+    
+    @Override
+    public String getVersion() {
+        return renderer.getVersion();
+    }
+    
+    public RenderCache getRenderCache() {
+        return renderCache;
+    }
+    
+    private byte[] renderToByteArray(
+            TriangleWavePlotterConfiguration configuration) 
+            throws IOException {
+        
+        return renderCache.getOrRender(
+                RenderCache.computeKey(configuration, renderer), 
+                () -> {
+                    ByteArrayOutputStream outputStream = 
+                            new ByteArrayOutputStream();
+                    
+                    renderer.render(configuration, outputStream);
+                    return outputStream.toByteArray();
+                });
+    }
+    
+    private byte[] renderToByteArray(
+            List<TriangleWavePlotterConfiguration> configurations) 
+            throws IOException {
+        
+        return renderCache.getOrRender(
+                RenderCache.computeKey(configurations, renderer), 
+                () -> {
+                    ByteArrayOutputStream outputStream = 
+                            new ByteArrayOutputStream();
+                    
+                    renderer.renderOverlay(configurations, outputStream);
+                    return outputStream.toByteArray();
+                });
+    }
+}
@@ -0,0 +1,231 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import com.github.coderodde.gnuplot.trianglewave.TriangleWavePlotter.CommandLineArguments;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class parses the plot options of the command line, the job files and
+ * the server queries into configuration builders. The option names are looked
+ * up in a table, so the parsing cost does not grow with the number of options,
+ * and only the first {@code '='} separates the name from the value.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+final class ConfigurationArgumentParser {
+    
+    private static final String OPTION_PREFIX = "--";
+    
+    /**
+     * Sets an option value in a configuration builder.
+     */
+    @FunctionalInterface
+    private interface OptionSetter {
+        void set(TriangleWavePlotterConfiguration.Builder builder, 
+                 String value);
+    }
+    
+    /**
+     * The setter of the options that are not configuration options. They are
+     * read elsewhere and ignored here.
+     */
+    private static final OptionSetter IGNORED_OPTION = (builder, value) -> {};
+    
+    /**
+     * Maps the option names without the leading dashes to their setters.
+     */
+    private static final Map<String, OptionSetter> OPTION_SETTERS = 
+            createOptionSetters();
+    
+    private ConfigurationArgumentParser() {}
+    
+    /**
+     * Applies the argument {@code --name=value} to {@code builder}.
+     * 
+     * @param builder  the configuration builder.
+     * @param argument the argument.
+     * @throws IllegalStateException    if the argument is not of form
+     *                                  {@code --name=value} or the option is
+     *                                  unknown.
+     * @throws IllegalArgumentException if the value is not valid.
+     */
+    static void parseArgument(TriangleWavePlotterConfiguration.Builder builder, 
+                              String argument) {
+        
+        int separatorIndex = argument.indexOf('=');
+        
+        if (separatorIndex < 0) {
+            throw new IllegalStateException(
+                    "No value in argument = '" + argument + "'");
+        }
+        
+        if (!argument.startsWith(OPTION_PREFIX)) {
+            throw new IllegalStateException(
+                    "Unknown command = '"
+                            + argument.substring(0, separatorIndex)
+                            + "'");
+        }
+        
+        parseOption(builder, 
+                    argument.substring(OPTION_PREFIX.length(), separatorIndex), 
+                    argument.substring(separatorIndex + 1));
+    }
+    
+    /**
+     * Applies the option {@code name} with the value {@code value} to
+     * {@code builder}.
+     * 
+     * @param builder the configuration builder.
+     * @param name    the option name without the leading dashes.
+     * @param value   the option value.
+     * @throws IllegalStateException    if the option is unknown.
+     * @throws IllegalArgumentException if the value is not valid.
+     */
+    static void parseOption(TriangleWavePlotterConfiguration.Builder builder, 
+                            String name, 
+                            String value) {
+        
+        OptionSetter optionSetter = OPTION_SETTERS.get(name);
+        
+        if (optionSetter == null) {
+            throw new IllegalStateException(
+                    "Unknown command = '" + OPTION_PREFIX + name + "'");
+        }
+        
+        optionSetter.set(builder, value);
+    }
+    
+    /**
+     * Splits {@code line} into the tokens separated by whitespace.
+     * 
+     * @param line the line to split.
+     * @return the tokens, empty if the line is blank.
+     */
+    static List<String> tokenize(String line) {
+        List<String> tokens = new ArrayList<>();
+        int length = line.length();
+        int index = 0;
+        
+        while (index < length) {
+            while (index < length
+                    && Character.isWhitespace(line.charAt(index))) {
+                index++;
+            }
+            
+            int tokenStart = index;
+            
+            while (index < length
+                    && !Character.isWhitespace(line.charAt(index))) {
+                index++;
+            }
+            
+            if (tokenStart < index) {
+                tokens.add(line.substring(tokenStart, index));
+            }
+        }
+        
+        return tokens;
+    }
+    
+    private static Map<String, OptionSetter> createOptionSetters() {
+        Map<String, OptionSetter> optionSetters = new HashMap<>();
+        
+        put(optionSetters, 
+            CommandLineArguments.PERIOD, 
+            (builder, value) -> builder.setPeriod(Double.parseDouble(value)));
+        
+        put(optionSetters, 
+            CommandLineArguments.AMPLITUDE, 
+            (builder, value) ->
+                    builder.setAmplitude(Double.parseDouble(value)));
+        
+        put(optionSetters, 
+            CommandLineArguments.SHIFT, 
+            (builder, value) -> builder.setShift(Double.parseDouble(value)));
+        
+        put(optionSetters, 
+            CommandLineArguments.COLOR, 
+            TriangleWavePlotterConfiguration.Builder::setColor);
+        
+        put(optionSetters, 
+            CommandLineArguments.LINE_WIDTH, 
+            (builder, value) -> builder.setLineWidth(Integer.parseInt(value)));
+        
+        put(optionSetters, 
+            CommandLineArguments.X_RANGE_START, 
+            (builder, value) ->
+                    builder.setXRangeStart(Double.parseDouble(value)));
+        
+        put(optionSetters, 
+            CommandLineArguments.X_RANGE_END, 
+            (builder, value) ->
+                    builder.setXRangeEnd(Double.parseDouble(value)));
+        
+        put(optionSetters, 
+            CommandLineArguments.Y_RANGE_START, 
+            (builder, value) ->
+                    builder.setYRangeStart(Double.parseDouble(value)));
+        
+        put(optionSetters, 
+            CommandLineArguments.Y_RANGE_END, 
+            (builder, value) ->
+                    builder.setYRangeEnd(Double.parseDouble(value)));
+        
+        put(optionSetters, 
+            CommandLineArguments.PLOT_WIDTH, 
+            TriangleWavePlotterConfiguration.Builder::setPlotWidth);
+        
+        put(optionSetters, 
+            CommandLineArguments.PLOT_HEIGHT, 
+            TriangleWavePlotterConfiguration.Builder::setPlotHeight);
+        
+        put(optionSetters, 
+            CommandLineArguments.SAMPLING, 
+            (builder, value) ->
+                    builder.setSampling(TriangleWaveSampling.fromName(value)));
+        
+        // Handled in selectRenderer and the run methods of the modes:
+        for (String option : new String[]{
+                CommandLineArguments.BACKEND, 
+                CommandLineArguments.GNUPLOT_PATH, 
+                CommandLineArguments.SCRIPT_INPUT, 
+                CommandLineArguments.SAMPLES, 
+                CommandLineArguments.SAMPLE_FORMAT, 
+                CommandLineArguments.CACHE_DIRECTORY, 
+                CommandLineArguments.CACHE_MEMORY_BYTES, 
+                CommandLineArguments.CACHE_MEMORY_ENTRIES, 
+                CommandLineArguments.CACHE_DISK_BYTES, 
+                CommandLineArguments.CACHE_DISK_ENTRIES, 
+                CommandLineArguments.TIMEOUT, 
+                CommandLineArguments.RETRIES, 
+                CommandLineArguments.JOB_FORMAT, 
+                CommandLineArguments.WORKERS, 
+                CommandLineArguments.PARAMETER, 
+                CommandLineArguments.FROM, 
+                CommandLineArguments.TO, 
+                CommandLineArguments.FRAMES, 
+                CommandLineArguments.STRATEGY, 
+                CommandLineArguments.FRAME_DELAY, 
+                CommandLineArguments.TILE_WIDTH, 
+                CommandLineArguments.DEBOUNCE, 
+                CommandLineArguments.SAMPLE_RATE, 
+                CommandLineArguments.DURATION, 
+                CommandLineArguments.AUDIO_FORMAT, 
+                CommandLineArguments.BAND_LIMITED }) {
+            put(optionSetters, option, IGNORED_OPTION);
+        }
+        
+        return Map.copyOf(optionSetters);
+    }
+    
+    private static void put(Map<String, OptionSetter> optionSetters, 
+                            String option, 
+                            OptionSetter optionSetter) {
+        optionSetters.put(option.substring(OPTION_PREFIX.length()), 
+                          optionSetter);
+    }
+}
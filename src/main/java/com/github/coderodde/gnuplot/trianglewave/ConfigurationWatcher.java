@@ -0,0 +1,270 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This class watches a configuration file with a {@link WatchService} and
+ * reports the changes of the configuration it describes. A burst of file
+ * events, such as an editor saving the file in several steps, is debounced
+ * into a single reload, and a reload not changing the configuration, such as
+ * saving an unmodified file, is not reported. A malformed file is logged and
+ * ignored, so the last good configuration stays in effect until it is fixed.
+ * <p>
+ * The watch service of the JDK is notified by the operating system on Linux
+ * and Windows, but may poll the directory every few seconds on other
+ * platforms.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class ConfigurationWatcher implements AutoCloseable {
+    
+    private static final Logger LOGGER = 
+            Logger.getLogger(ConfigurationWatcher.class.getSimpleName());
+    
+    static final Duration DEFAULT_DEBOUNCE_DELAY = Duration.ofMillis(20L);
+    
+    /**
+     * Reads the configuration from the configuration file.
+     */
+    @FunctionalInterface
+    public interface ConfigurationReader {
+        TriangleWavePlotterConfiguration read(Path configurationFile)
+                throws IOException;
+    }
+    
+    /**
+     * Receives the changed configurations.
+     */
+    @FunctionalInterface
+    public interface ChangeListener {
+        
+        /**
+         * Called on the watching thread after the configuration has changed.
+         * 
+         * @param configuration     the new configuration.
+         * @param changedProperties the names of the changed properties.
+         */
+        void configurationChanged(
+                TriangleWavePlotterConfiguration configuration, 
+                List<String> changedProperties);
+    }
+    
+    private final Path configurationFile;
+    private final Duration debounceDelay;
+    private final ConfigurationReader configurationReader;
+    private final ChangeListener changeListener;
+    private final WatchService watchService;
+    private volatile TriangleWavePlotterConfiguration configuration;
+    private volatile boolean closed;
+    
+    /**
+     * Starts watching the directory of the configuration file.
+     * 
+     * @param configurationFile   the configuration file.
+     * @param debounceDelay       the quiet time after the last file event
+     *                            before the file is reloaded.
+     * @param configurationReader reads the configuration file.
+     * @param changeListener      receives the changed configurations.
+     * @throws IOException if the directory cannot be watched.
+     */
+    public ConfigurationWatcher(Path configurationFile, 
+                                Duration debounceDelay, 
+                                ConfigurationReader configurationReader, 
+                                ChangeListener changeListener)
+            throws IOException {
+        this.configurationFile = 
+                Objects.requireNonNull(
+                        configurationFile, 
+                        "The input configuration file is null.")
+                       .toAbsolutePath()
+                       .normalize();
+        
+        this.debounceDelay = 
+                Objects.requireNonNull(debounceDelay, 
+                                       "The input debounce delay is null.");
+        
+        if (debounceDelay.isNegative()) {
+            throw new IllegalArgumentException(
+                    "Negative debounce delay: " + debounceDelay + ".");
+        }
+        
+        this.configurationReader = 
+                Objects.requireNonNull(
+                        configurationReader, 
+                        "The input configuration reader is null.");
+        
+        this.changeListener = 
+                Objects.requireNonNull(changeListener, 
+                                       "The input change listener is null.");
+        
+        Path directory = this.configurationFile.getParent();
+        this.watchService = directory.getFileSystem().newWatchService();
+        
+        try {
+            directory.register(watchService, 
+                               StandardWatchEventKinds.ENTRY_CREATE, 
+                               StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | RuntimeException ex) {
+            watchService.close();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Reads and reports the initial configuration, with its properties
+     * differing from the defaults as the changed ones, and then reports each
+     * change of the configuration until this watcher is closed.
+     * 
+     * @throws IOException          if the directory can no longer be watched.
+     * @throws InterruptedException if the thread is interrupted.
+     */
+    public void run() throws IOException, InterruptedException {
+        reload();
+        
+        try {
+            while (true) {
+                if (pollEvents(watchService.take())) {
+                    debounce();
+                    reload();
+                }
+            }
+        } catch (ClosedWatchServiceException ex) {
+            // Closed by close().
+        }
+    }
+    
+    /**
+     * Returns the last good configuration, or {@code null} if none is read
+     * yet.
+     * 
+     * @return the configuration.
+     */
+    public TriangleWavePlotterConfiguration getConfiguration() {
+        return configuration;
+    }
+    
+    /**
+     * Stops watching. A thread blocked in {@link #run()} returns.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        
+        try {
+            watchService.close();
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Could not close the watch service.", ex);
+        }
+    }
+    
+    /**
+     * Reads the configuration file and reports the configuration if it has
+     * changed. An exception thrown by the listener is logged.
+     * 
+     * @return {@code true} if the configuration was reported.
+     */
+    boolean reload() {
+        TriangleWavePlotterConfiguration newConfiguration;
+        
+        try {
+            newConfiguration = configurationReader.read(configurationFile);
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.log(Level.WARNING, 
+                       "Could not read the configuration file "
+                               + configurationFile
+                               + ", keeping the last configuration.", 
+                       ex);
+            
+            return false;
+        }
+        
+        List<String> changedProperties = 
+                newConfiguration.findChangedProperties(
+                        configuration == null ? 
+                                new TriangleWavePlotterConfiguration() : 
+                                configuration);
+        
+        if (configuration != null && changedProperties.isEmpty()) {
+            return false;
+        }
+        
+        configuration = newConfiguration;
+        
+        try {
+            changeListener.configurationChanged(newConfiguration, 
+                                                changedProperties);
+        } catch (RuntimeException ex) {
+            // A failing listener must not stop the watching:
+            LOGGER.log(Level.WARNING, 
+                       "The configuration change listener failed.", 
+                       ex);
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Waits until there has been no event on the configuration file for the
+     * debounce delay.
+     */
+    private void debounce() throws IOException, InterruptedException {
+        long debounceNanos = debounceDelay.toNanos();
+        long deadline = System.nanoTime() + debounceNanos;
+        
+        for (long remainingNanos = debounceNanos;
+                remainingNanos > 0L;
+                remainingNanos = deadline - System.nanoTime()) {
+            
+            WatchKey watchKey = 
+                    watchService.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            
+            if (watchKey == null) {
+                return;
+            }
+            
+            if (pollEvents(watchKey)) {
+                deadline = System.nanoTime() + debounceNanos;
+            }
+        }
+    }
+    
+    /**
+     * Consumes the events of {@code watchKey}.
+     * 
+     * @return {@code true} if the configuration file may have changed.
+     */
+    private boolean pollEvents(WatchKey watchKey) throws IOException {
+        boolean configurationFileChanged = false;
+        Path fileName = configurationFile.getFileName();
+        
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || fileName.equals(event.context())) {
+                configurationFileChanged = true;
+            }
+        }
+        
+        if (!watchKey.reset() && !closed) {
+            throw new IOException(
+                    "Cannot watch the directory of "
+                            + configurationFile
+                            + " any longer.");
+        }
+        
+        return configurationFileChanged;
+    }
+}
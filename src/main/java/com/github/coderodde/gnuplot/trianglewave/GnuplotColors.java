@@ -0,0 +1,209 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.util.Map;
+
+/**
+ * This class validates the color specifications of the plots. A color is 
+ * either {@code #RGB}, {@code #RRGGBB}, {@code #AARRGGBB} (where {@code AA} is
+ * the transparency as in Gnuplot) or one of the color names of Gnuplot, as 
+ * listed by {@code show colornames}. Both the Gnuplot and the Java2D backends
+ * accept exactly these colors, and no other text reaches a Gnuplot script.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+final class GnuplotColors {
+    
+    /**
+     * Maps the Gnuplot color names to their RGB values.
+     */
+    private static final Map<String, Integer> COLOR_NAMES = Map.ofEntries(
+            Map.entry("white",             0xffffff),
+            Map.entry("black",             0x000000),
+            Map.entry("dark-grey",         0xa0a0a0),
+            Map.entry("red",               0xff0000),
+            Map.entry("web-green",         0x00c000),
+            Map.entry("web-blue",          0x0080ff),
+            Map.entry("dark-magenta",      0xc000ff),
+            Map.entry("dark-cyan",         0x00eeee),
+            Map.entry("dark-orange",       0xc04000),
+            Map.entry("dark-yellow",       0xc8c800),
+            Map.entry("royalblue",         0x4169e1),
+            Map.entry("goldenrod",         0xffc020),
+            Map.entry("dark-spring-green", 0x008040),
+            Map.entry("purple",            0xc080ff),
+            Map.entry("steelblue",         0x306080),
+            Map.entry("dark-red",          0x8b0000),
+            Map.entry("dark-chartreuse",   0x408000),
+            Map.entry("orchid",            0xff80ff),
+            Map.entry("aquamarine",        0x7fffd4),
+            Map.entry("brown",             0xa52a2a),
+            Map.entry("yellow",            0xffff00),
+            Map.entry("turquoise",         0x40e0d0),
+            Map.entry("grey0",             0x000000),
+            Map.entry("grey10",            0x1a1a1a),
+            Map.entry("grey20",            0x333333),
+            Map.entry("grey30",            0x4d4d4d),
+            Map.entry("grey40",            0x666666),
+            Map.entry("grey50",            0x7f7f7f),
+            Map.entry("grey60",            0x999999),
+            Map.entry("grey70",            0xb3b3b3),
+            Map.entry("grey",              0xc0c0c0),
+            Map.entry("grey80",            0xcccccc),
+            Map.entry("grey90",            0xe5e5e5),
+            Map.entry("grey100",           0xffffff),
+            Map.entry("light-red",         0xf03232),
+            Map.entry("light-green",       0x90ee90),
+            Map.entry("light-blue",        0xadd8e6),
+            Map.entry("light-magenta",     0xf055f0),
+            Map.entry("light-cyan",        0xe0ffff),
+            Map.entry("light-goldenrod",   0xeedd82),
+            Map.entry("light-pink",        0xffb6c1),
+            Map.entry("light-turquoise",   0xafeeee),
+            Map.entry("gold",              0xffd700),
+            Map.entry("green",             0x00ff00),
+            Map.entry("dark-green",        0x006400),
+            Map.entry("spring-green",      0x00ff7f),
+            Map.entry("forest-green",      0x228b22),
+            Map.entry("sea-green",         0x2e8b57),
+            Map.entry("blue",              0x0000ff),
+            Map.entry("dark-blue",         0x00008b),
+            Map.entry("midnight-blue",     0x191970),
+            Map.entry("navy",              0x000080),
+            Map.entry("medium-blue",       0x0000cd),
+            Map.entry("skyblue",           0x87ceeb),
+            Map.entry("cyan",              0x00ffff),
+            Map.entry("magenta",           0xff00ff),
+            Map.entry("dark-turquoise",    0x00ced1),
+            Map.entry("dark-pink",         0xff1493),
+            Map.entry("coral",             0xff7f50),
+            Map.entry("light-coral",       0xf08080),
+            Map.entry("orange-red",        0xff4500),
+            Map.entry("salmon",            0xfa8072),
+            Map.entry("dark-salmon",       0xe9967a),
+            Map.entry("khaki",             0xf0e68c),
+            Map.entry("dark-khaki",        0xbdb76b),
+            Map.entry("dark-goldenrod",    0xb8860b),
+            Map.entry("beige",             0xf5f5dc),
+            Map.entry("olive",             0xa08020),
+            Map.entry("orange",            0xffa500),
+            Map.entry("violet",            0xee82ee),
+            Map.entry("dark-violet",       0x9400d3),
+            Map.entry("plum",              0xdda0dd),
+            Map.entry("dark-plum",         0x905040),
+            Map.entry("dark-olivegreen",   0x556b2f),
+            Map.entry("orangered4",        0x801400),
+            Map.entry("brown4",            0x801414),
+            Map.entry("sienna4",           0x804014),
+            Map.entry("orchid4",           0x804080),
+            Map.entry("mediumpurple3",     0x8060c0),
+            Map.entry("slateblue1",        0x8060ff),
+            Map.entry("yellow4",           0x808000),
+            Map.entry("sienna1",           0xff8040),
+            Map.entry("tan1",              0xffa040),
+            Map.entry("sandybrown",        0xffa060),
+            Map.entry("light-salmon",      0xffa070),
+            Map.entry("pink",              0xffc0c0),
+            Map.entry("khaki1",            0xffff80),
+            Map.entry("lemonchiffon",      0xffffc0),
+            Map.entry("bisque",            0xcdb79e),
+            Map.entry("honeydew",          0xf0fff0),
+            Map.entry("slategrey",         0xa0b6cd),
+            Map.entry("seagreen",          0xc1ffc1),
+            Map.entry("antiquewhite",      0xcdc0b0),
+            Map.entry("chartreuse",        0x7cff40),
+            Map.entry("greenyellow",       0xa0ff20),
+            Map.entry("gray",              0xbebebe),
+            Map.entry("light-gray",        0xd3d3d3),
+            Map.entry("light-grey",        0xd3d3d3),
+            Map.entry("dark-gray",         0xa0a0a0),
+            Map.entry("slategray",         0xa0b6cd),
+            Map.entry("gray0",             0x000000),
+            Map.entry("gray10",            0x1a1a1a),
+            Map.entry("gray20",            0x333333),
+            Map.entry("gray30",            0x4d4d4d),
+            Map.entry("gray40",            0x666666),
+            Map.entry("gray50",            0x7f7f7f),
+            Map.entry("gray60",            0x999999),
+            Map.entry("gray70",            0xb3b3b3),
+            Map.entry("gray80",            0xcccccc),
+            Map.entry("gray90",            0xe5e5e5),
+            Map.entry("gray100",           0xffffff));
+    
+    private GnuplotColors() {}
+    
+    /**
+     * Validates and normalizes {@code color}: a short hex color is expanded 
+     * to {@code #RRGGBB}, and a color name is converted to lower case.
+     * 
+     * @param color the color specification.
+     * @return the normalized color.
+     * @throws IllegalArgumentException if the color is not valid.
+     */
+    static String validate(String color) {
+        if (color.startsWith("#")) {
+            if (isHex(color, 3)) {
+                return expandShortHex(color);
+            }
+            
+            if (isHex(color, 6) || isHex(color, 8)) {
+                return color;
+            }
+        } else {
+            String name = color.toLowerCase();
+            
+            if (COLOR_NAMES.containsKey(name)) {
+                return name;
+            }
+        }
+        
+        throw new IllegalArgumentException("Unknown color = '" + color + "'");
+    }
+    
+    /**
+     * Returns the RGB value of the color name {@code name}.
+     * 
+     * @param name the color name in lower case.
+     * @return the RGB value, or {@code null} if the name is unknown.
+     */
+    static Integer getRGB(String name) {
+        return COLOR_NAMES.get(name);
+    }
+    
+    private static boolean isHex(String color, int numberOfDigits) {
+        if (color.length() != numberOfDigits + 1) {
+            return false;
+        }
+        
+        for (int i = 1; i < color.length(); i++) {
+            if (!isHexDigit(color.charAt(i))) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') 
+                || (c >= 'a' && c <= 'f') 
+                || (c >= 'A' && c <= 'F');
+    }
+    
+    private static String expandShortHex(String hexColor) {
+        char r = hexColor.charAt(1);
+        char g = hexColor.charAt(2);
+        char b = hexColor.charAt(3);
+        
+        return new StringBuilder()
+                .append("#")
+                .append(r)
+                .append(r)
+                .append(g)
+                .append(g)
+                .append(b)
+                .append(b)
+                .toString();
+    }
+}
@@ -0,0 +1,623 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This class implements a triangle wave renderer that delegates the actual 
+ * plotting to an external Gnuplot process. The script is passed to Gnuplot 
+ * either through a temporary file or through the standard input of Gnuplot.
+ * Both output streams of Gnuplot are drained while it runs, a Gnuplot process
+ * exceeding the render timeout is killed, and a failed render may be retried.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Sep 17, 2023)
+ */
+public final class GnuplotRenderer implements TriangleWaveRenderer {
+    
+    static final String NAME = "gnuplot";
+    static final String DEFAULT_GNUPLOT_EXECUTABLE = "gnuplot.exe";
+    static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(60L);
+    static final int DEFAULT_NUMBER_OF_RETRIES = 0;
+    
+    private static final Logger LOGGER = 
+            Logger.getLogger(GnuplotRenderer.class.getSimpleName());
+    
+    /**
+     * The maximum number of trailing standard error bytes reported on failure.
+     */
+    private static final int MAXIMUM_ERROR_REPORT_LENGTH = 4096;
+    private static final byte[] NO_PNG = new byte[0];
+    
+    private static final String TEMPORARY_PLOT_SCRIPT_PREFIX = "triangle-wave-";
+    private static final String TEMPORARY_PLOT_SCRIPT_SUFFIX = ".plt";
+    
+    /**
+     * Specifies how the generated script reaches Gnuplot.
+     */
+    public enum ScriptInput {
+        
+        /**
+         * The script is written to a temporary file whose name is passed to 
+         * Gnuplot.
+         */
+        FILE("file"),
+        
+        /**
+         * The script is streamed to the standard input of Gnuplot without 
+         * touching the file system.
+         */
+        STANDARD_INPUT("stdin");
+        
+        private final String name;
+        
+        ScriptInput(String name) {
+            this.name = name;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public static ScriptInput fromName(String name) {
+            for (ScriptInput scriptInput : values()) {
+                if (scriptInput.name.equals(name)) {
+                    return scriptInput;
+                }
+            }
+            
+            throw new IllegalArgumentException(
+                    "Unknown script input = '" + name + "'");
+        }
+    }
+    
+    private final String gnuplotExecutable;
+    private final ScriptInput scriptInput;
+    private final Duration timeout;
+    private final int numberOfRetries;
+    private final GnuplotScriptTemplate plotTemplate;
+    
+    public GnuplotRenderer() throws IOException {
+        this(DEFAULT_GNUPLOT_EXECUTABLE);
+    }
+    
+    public GnuplotRenderer(String gnuplotExecutable) throws IOException {
+        this(gnuplotExecutable, ScriptInput.FILE);
+    }
+    
+    public GnuplotRenderer(String gnuplotExecutable, ScriptInput scriptInput) 
+            throws IOException {
+        this(gnuplotExecutable, 
+             scriptInput, 
+             DEFAULT_TIMEOUT, 
+             DEFAULT_NUMBER_OF_RETRIES);
+    }
+    
+    /**
+     * Constructs a Gnuplot renderer.
+     * 
+     * @param gnuplotExecutable the Gnuplot executable to run.
+     * @param scriptInput       the way the script reaches Gnuplot.
+     * @param timeout           the wall-clock time a single Gnuplot run may 
+     *                          take before it is killed.
+     * @param numberOfRetries   the number of times a failed run is repeated.
+     * @throws IOException if the Gnuplot template file cannot be read.
+     */
+    public GnuplotRenderer(String gnuplotExecutable, 
+                           ScriptInput scriptInput,
+                           Duration timeout,
+                           int numberOfRetries) throws IOException {
+        this.gnuplotExecutable = 
+                Objects.requireNonNull(
+                        gnuplotExecutable, 
+                        "The input Gnuplot executable is null.");
+        
+        this.scriptInput = 
+                Objects.requireNonNull(
+                        scriptInput, 
+                        "The input script input is null.");
+        
+        this.timeout = validateTimeout(timeout);
+        this.numberOfRetries = validateNumberOfRetries(numberOfRetries);
+        this.plotTemplate = GnuplotScriptTemplate.getDefault();
+    }
+    
+    @Override
+    public void render(TriangleWavePlotterConfiguration configuration,
+                       Path outputFile) throws IOException {
+        await(runGnuplot(
+                generateScript(configuration, outputFile.toString()), 
+                false));
+    }
+    
+    /**
+     * {@inheritDoc} The PNG is captured from the standard output of Gnuplot.
+     */
+    @Override
+    public void render(TriangleWavePlotterConfiguration configuration,
+                       OutputStream outputStream) throws IOException {
+        Objects.requireNonNull(outputStream, 
+                               "The input output stream is null.");
+        
+        outputStream.write(
+                await(runGnuplot(generateScript(configuration, null), 
+                                 true)));
+    }
+    
+    /**
+     * {@inheritDoc} All the waves are drawn by a single Gnuplot run.
+     */
+    @Override
+    public void renderOverlay(
+            List<TriangleWavePlotterConfiguration> configurations,
+            Path outputFile) throws IOException {
+        
+        await(runGnuplot(
+                generateScript(
+                        TriangleWavePlotterConfiguration.validateOverlay(
+                                configurations), 
+                        outputFile.toString()), 
+                false));
+    }
+    
+    /**
+     * {@inheritDoc} All the waves are drawn by a single Gnuplot run, whose 
+     * standard output is the PNG.
+     */
+    @Override
+    public void renderOverlay(
+            List<TriangleWavePlotterConfiguration> configurations,
+            OutputStream outputStream) throws IOException {
+        
+        Objects.requireNonNull(outputStream, 
+                               "The input output stream is null.");
+        
+        outputStream.write(
+                await(runGnuplot(
+                        generateScript(
+                                TriangleWavePlotterConfiguration
+                                        .validateOverlay(configurations), 
+                                null), 
+                        true)));
+    }
+    
+    /**
+     * {@inheritDoc} No thread waits for Gnuplot: the future is completed from
+     * {@link Process#onExit()}, so any number of renders may be in flight at 
+     * once.
+     */
+    @Override
+    public CompletableFuture<Path> renderAsync(
+            TriangleWavePlotterConfiguration configuration,
+            Path outputFile) {
+        
+        return runGnuplot(
+                generateScript(configuration, outputFile.toString()), 
+                false).thenApply(png -> outputFile);
+    }
+    
+    /**
+     * Runs an arbitrary Gnuplot script that writes its own output files. The 
+     * timeout applies to the whole script.
+     * 
+     * @param gnuplotScript the script to run.
+     * @throws IOException if Gnuplot fails or times out.
+     */
+    void runScript(String gnuplotScript) throws IOException {
+        await(runGnuplot(
+                Objects.requireNonNull(gnuplotScript, 
+                                       "The input script is null."), 
+                false));
+    }
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    /**
+     * {@inheritDoc} The version is the version of the script template.
+     */
+    @Override
+    public String getVersion() {
+        return plotTemplate.getVersion();
+    }
+    
+    String getGnuplotExecutable() {
+        return gnuplotExecutable;
+    }
+    
+    ScriptInput getScriptInput() {
+        return scriptInput;
+    }
+    
+    Duration getTimeout() {
+        return timeout;
+    }
+    
+    int getNumberOfRetries() {
+        return numberOfRetries;
+    }
+    
+    GnuplotScriptTemplate getPlotTemplate() {
+        return plotTemplate;
+    }
+    
+    static Duration validateTimeout(Duration timeout) {
+        Objects.requireNonNull(timeout, "The input timeout is null.");
+        
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException(
+                    "Timeout is not positive: " + timeout + ".");
+        }
+        
+        return timeout;
+    }
+    
+    static int validateNumberOfRetries(int numberOfRetries) {
+        if (numberOfRetries < 0) {
+            throw new IllegalArgumentException(
+                    "Number of retries is negative: " 
+                            + numberOfRetries 
+                            + ".");
+        }
+        
+        return numberOfRetries;
+    }
+    
+    /**
+     * Kills {@code process} together with the processes it has spawned.
+     * 
+     * @param process the process to kill.
+     */
+    static void destroyProcessTree(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+    
+    private String generateScript(
+            TriangleWavePlotterConfiguration configuration,
+            String outputFileName) {
+        return generateScript(List.of(configuration), outputFileName);
+    }
+    
+    private String generateScript(
+            List<TriangleWavePlotterConfiguration> configurations,
+            String outputFileName) {
+        
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault()
+                             .startStage(RenderStage.SCRIPT_GENERATION)) {
+            String gnuplotScript = 
+                    plotTemplate.render(configurations, outputFileName);
+            
+            timer.markSuccessful();
+            return gnuplotScript;
+        }
+    }
+    
+    /**
+     * Runs Gnuplot on {@code gnuplotScript}, retrying up to 
+     * {@code numberOfRetries} times.
+     * 
+     * @param gnuplotScript the script to run.
+     * @param capturePng    whether the standard output of Gnuplot is the PNG.
+     * @return the future of the PNG data, which is empty if 
+     *         {@code capturePng} is {@code false}.
+     */
+    private CompletableFuture<byte[]> runGnuplot(String gnuplotScript,
+                                                 boolean capturePng) {
+        File temporaryScriptFile = null;
+        
+        if (scriptInput == ScriptInput.FILE) {
+            try {
+                temporaryScriptFile = writeTemporaryGnuplotFile(gnuplotScript);
+            } catch (IOException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+        
+        File scriptFile = temporaryScriptFile;
+        
+        return runGnuplot(gnuplotScript, 
+                          scriptFile, 
+                          capturePng, 
+                          numberOfRetries)
+                .whenComplete((png, failure) -> 
+                        deleteTemporaryGnuplotFile(scriptFile));
+    }
+    
+    private CompletableFuture<byte[]> runGnuplot(String gnuplotScript,
+                                                 File scriptFile,
+                                                 boolean capturePng,
+                                                 int remainingRetries) {
+        CompletableFuture<byte[]> attempt = 
+                runGnuplotOnce(gnuplotScript, scriptFile, capturePng);
+        
+        if (remainingRetries == 0) {
+            return attempt;
+        }
+        
+        return attempt.exceptionallyCompose(failure -> {
+            LOGGER.log(Level.WARNING, 
+                       "Gnuplot failed, {0} retries left.", 
+                       remainingRetries);
+            
+            return runGnuplot(gnuplotScript, 
+                              scriptFile, 
+                              capturePng, 
+                              remainingRetries - 1);
+        });
+    }
+    
+    private CompletableFuture<byte[]> runGnuplotOnce(String gnuplotScript,
+                                                     File scriptFile,
+                                                     boolean capturePng) {
+        ProcessBuilder processBuilder = 
+                scriptFile == null ? 
+                new ProcessBuilder(gnuplotExecutable) :
+                new ProcessBuilder(gnuplotExecutable, 
+                                   scriptFile.getAbsolutePath());
+        
+        if (!capturePng) {
+            processBuilder.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        }
+        
+        Process process;
+        
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault()
+                             .startStage(RenderStage.PROCESS_SPAWN)) {
+            process = processBuilder.start();
+            timer.markSuccessful();
+        } catch (IOException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        
+        RenderStageTimer drawingTimer = 
+                RenderMetrics.getDefault()
+                             .startStage(RenderStage.GNUPLOT_DRAWING);
+        
+        CompletableFuture<byte[]> pngFuture = 
+                capturePng ? 
+                readAllBytesAsync(process.getInputStream()) :
+                CompletableFuture.completedFuture(NO_PNG);
+        
+        CompletableFuture<String> errorReportFuture = 
+                readErrorReportAsync(process.getErrorStream());
+        
+        writeScriptAsync(process, scriptFile == null ? gnuplotScript : null);
+        
+        CompletableFuture<Boolean> exitedInTimeFuture = 
+                process.onExit()
+                       .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                       .handle((exitedProcess, timeoutFailure) -> {
+                           if (timeoutFailure != null) {
+                               destroyProcessTree(process);
+                               return false;
+                           }
+                           
+                           return true;
+                       });
+        
+        return CompletableFuture.allOf(exitedInTimeFuture, 
+                                       pngFuture, 
+                                       errorReportFuture)
+                                .handle((ignored, failure) -> 
+                                        checkGnuplotRun(
+                                                process, 
+                                                exitedInTimeFuture.join(),
+                                                errorReportFuture.join(),
+                                                pngFuture))
+                                .thenCompose(Function.identity())
+                                .whenComplete((png, failure) -> {
+                                    if (failure == null) {
+                                        drawingTimer.markSuccessful();
+                                    }
+                                    
+                                    drawingTimer.close();
+                                });
+    }
+    
+    /**
+     * Turns a finished Gnuplot run into its result.
+     * 
+     * @param process      the finished Gnuplot process.
+     * @param exitedInTime whether Gnuplot exited before the timeout.
+     * @param errorReport  the tail of the standard error output of Gnuplot.
+     * @param pngFuture    the completed future of the standard output.
+     * @return the future of the PNG data.
+     */
+    private CompletableFuture<byte[]> checkGnuplotRun(
+            Process process,
+            boolean exitedInTime,
+            String errorReport,
+            CompletableFuture<byte[]> pngFuture) {
+        
+        if (!exitedInTime) {
+            return CompletableFuture.failedFuture(
+                    new IOException(
+                            "Gnuplot timed out after " 
+                                    + timeout.toMillis() 
+                                    + " ms." 
+                                    + formatErrorReport(errorReport)));
+        }
+        
+        int returnStatus = process.exitValue();
+        
+        if (returnStatus != 0) {
+            return CompletableFuture.failedFuture(
+                    new IOException(
+                            "Gnuplot seems to fail, return status: " 
+                                    + returnStatus
+                                    + formatErrorReport(errorReport)));
+        }
+        
+        if (!errorReport.isEmpty()) {
+            LOGGER.log(Level.WARNING, "Gnuplot reported: {0}", errorReport);
+        }
+        
+        return pngFuture;
+    }
+    
+    private static String formatErrorReport(String errorReport) {
+        return errorReport.isEmpty() ? "" : "\n" + errorReport;
+    }
+    
+    /**
+     * Waits for {@code future} and rethrows its failure as an 
+     * {@link IOException}.
+     */
+    private static <T> T await(CompletableFuture<T> future) 
+            throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(
+                    "Interrupted while generating the plot PNG.", 
+                    ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+    
+    /**
+     * Writes {@code gnuplotScript} to the standard input of {@code process} 
+     * on a virtual thread and closes it. If {@code gnuplotScript} is 
+     * {@code null}, the standard input is just closed.
+     */
+    private static void writeScriptAsync(Process process, 
+                                         String gnuplotScript) {
+        Thread.ofVirtual().start(() -> {
+            try (OutputStream scriptStream = process.getOutputStream()) {
+                if (gnuplotScript != null) {
+                    scriptStream.write(
+                            gnuplotScript.getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (IOException ex) {
+                // Gnuplot has quit early; its return status tells why.
+            }
+        });
+    }
+    
+    private static CompletableFuture<byte[]> 
+        readAllBytesAsync(InputStream inputStream) {
+        
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        
+        Thread.ofVirtual().start(() -> {
+            try (inputStream) {
+                future.complete(inputStream.readAllBytes());
+            } catch (IOException ex) {
+                future.completeExceptionally(ex);
+            }
+        });
+        
+        return future;
+    }
+    
+    /**
+     * Drains {@code errorStream} on a virtual thread, keeping only its last 
+     * {@link #MAXIMUM_ERROR_REPORT_LENGTH} bytes.
+     */
+    private static CompletableFuture<String> 
+        readErrorReportAsync(InputStream errorStream) {
+        
+        CompletableFuture<String> future = new CompletableFuture<>();
+        
+        Thread.ofVirtual().start(() -> {
+            ByteArrayOutputStream tail = new ByteArrayOutputStream();
+            byte[] buffer = new byte[MAXIMUM_ERROR_REPORT_LENGTH];
+            
+            try (errorStream) {
+                int bytesRead;
+                
+                while ((bytesRead = errorStream.read(buffer)) != -1) {
+                    tail.write(buffer, 0, bytesRead);
+                    
+                    if (tail.size() > 2 * MAXIMUM_ERROR_REPORT_LENGTH) {
+                        byte[] bytes = tail.toByteArray();
+                        tail.reset();
+                        tail.write(bytes, 
+                                   bytes.length - MAXIMUM_ERROR_REPORT_LENGTH,
+                                   MAXIMUM_ERROR_REPORT_LENGTH);
+                    }
+                }
+            } catch (IOException ex) {
+                // The stream is closed when Gnuplot is killed.
+            }
+            
+            byte[] bytes = tail.toByteArray();
+            int offset = Math.max(0, 
+                                  bytes.length - MAXIMUM_ERROR_REPORT_LENGTH);
+            
+            future.complete(
+                    new String(bytes, 
+                               offset, 
+                               bytes.length - offset, 
+                               StandardCharsets.UTF_8).strip());
+        });
+        
+        return future;
+    }
+    
+    private static File writeTemporaryGnuplotFile(String gnuplotScript) 
+            throws IOException {
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault()
+                             .startStage(RenderStage.SCRIPT_FILE_WRITE)) {
+            File temporaryScriptFile = 
+                    File.createTempFile(TEMPORARY_PLOT_SCRIPT_PREFIX,
+                                        TEMPORARY_PLOT_SCRIPT_SUFFIX);
+            
+            Files.write(temporaryScriptFile.toPath(), 
+                        gnuplotScript.getBytes());
+            
+            timer.markSuccessful();
+            return temporaryScriptFile;
+        }
+    }
+    
+    /**
+     * Deletes the temporary script file once Gnuplot has exited. The file is 
+     * no longer open by then, so a failed delete is only logged.
+     */
+    private static void deleteTemporaryGnuplotFile(File temporaryScriptFile) {
+        if (temporaryScriptFile == null) {
+            return;
+        }
+        
+        try {
+            Files.deleteIfExists(temporaryScriptFile.toPath());
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, 
+                       "Could not delete the temporary script file " 
+                               + temporaryScriptFile 
+                               + ".", 
+                       ex);
+        }
+    }
+}
@@ -0,0 +1,666 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class implements a precompiled Gnuplot script template. The template 
+ * text is split once into literal segments and anchors, after which a script
+ * is produced in a single pass without intermediate strings. A script may 
+ * overlay several waves: the {@code i}th wave, counting from 1, is plotted 
+ * with the line style {@code i} as {@code f_i(x)}, or as the data block 
+ * {@code $wave_i} if it is sampled. A sweep template animates a parameter 
+ * sweep with a Gnuplot {@code do for} loop in which the swept parameter is the
+ * variable {@code sweep}. The anchors are those the bundled templates use;
+ * any other text in braces, such as a Gnuplot enhanced text font, is kept as 
+ * is.
+ * <p>
+ * The text values, such as the output file name and the colors, are written 
+ * as single-quoted Gnuplot strings, in which a quote is doubled. A value 
+ * containing a control character, such as a line break ending the Gnuplot 
+ * command, is rejected.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class GnuplotScriptTemplate {
+    
+    private static final String TRIANGULAR_WAVE_GNUPLOT_FILE_NAME = 
+            "triangle-wave.plt";
+    
+    private static final String SWEEP_GNUPLOT_FILE_NAME = 
+            "triangle-wave-sweep.plt";
+    
+    private static final String WAVE_FUNCTION   = "f_";
+    private static final String WAVE_DATA_BLOCK = "$wave_";
+    private static final String END_OF_DATA     = "EOD";
+    private static final String SWEEP_VARIABLE  = "sweep";
+    private static final String SWEEP_VALUES_VARIABLE = "sweep_values";
+    private static final String NO_DECORATIONS  = 
+            "set margins 0, 0, 0, 0\nunset border\nunset tics";
+    
+    private static volatile GnuplotScriptTemplate defaultTemplate;
+    private static volatile GnuplotScriptTemplate sweepTemplate;
+    
+    /**
+     * Lists all the template anchors. The plot area anchors refer to the 
+     * first wave.
+     */
+    enum Anchor {
+        X_RANGE_START    ("{X_RANGE_START}"   ),
+        X_RANGE_END      ("{X_RANGE_END}"     ),
+        Y_RANGE_START    ("{Y_RANGE_START}"   ),
+        Y_RANGE_END      ("{Y_RANGE_END}"     ),
+        PLOT_WIDTH       ("{PLOT_WIDTH}"      ),
+        PLOT_HEIGHT      ("{PLOT_HEIGHT}"     ),
+        
+        /**
+         * The quoted output file name, or nothing when the plot goes to the 
+         * standard output of Gnuplot.
+         */
+        OUTPUT           ("{OUTPUT}"          ),
+        
+        /**
+         * The inline data block holding the wave vertices, if any.
+         */
+        WAVE_DATA        ("{WAVE_DATA}"       ),
+        
+        /**
+         * The line style definitions, one per wave.
+         */
+        LINE_STYLES      ("{LINE_STYLES}"     ),
+        
+        /**
+         * The wave function definitions {@code f_i(x)} in terms of the 
+         * function {@code triangle(x, p, a, s)} defined by the template.
+         */
+        WAVE_FUNCTIONS   ("{WAVE_FUNCTIONS}"  ),
+        
+        /**
+         * The comma-separated plot elements of all the waves.
+         */
+        WAVES            ("{WAVES}"           ),
+        
+        /**
+         * Nothing for a decorated plot, otherwise the commands removing the 
+         * margins, the border and the tics.
+         */
+        DECORATIONS      ("{DECORATIONS}"     ),
+        
+        /**
+         * The index of the last frame of a sweep.
+         */
+        LAST_FRAME       ("{LAST_FRAME}"      ),
+        
+        /**
+         * The declaration of the array {@code sweep_values} holding the swept
+         * parameter value of each frame, as the frame configuration has it.
+         */
+        SWEEP_VALUES     ("{SWEEP_VALUES}"    );
+        
+        private static final Anchor[] VALUES = values();
+        
+        final String text;
+        
+        Anchor(String text) {
+            this.text = text;
+        }
+        
+        static Anchor match(String template, int index) {
+            for (Anchor anchor : VALUES) {
+                if (template.startsWith(anchor.text, index)) {
+                    return anchor;
+                }
+            }
+            
+            return null;
+        }
+    }
+    
+    /**
+     * The literal text segments. {@code literals[i]} precedes 
+     * {@code anchors[i]}, and the last literal ends the script.
+     */
+    private final String[] literals;
+    private final Anchor[] anchors;
+    private final int literalLength;
+    private final String version;
+    
+    private GnuplotScriptTemplate(String[] literals, 
+                                  Anchor[] anchors, 
+                                  int literalLength,
+                                  String version) {
+        this.literals = literals;
+        this.anchors = anchors;
+        this.literalLength = literalLength;
+        this.version = version;
+    }
+    
+    /**
+     * Compiles the {@code template} text.
+     * 
+     * @param template the template text.
+     * @return the compiled template.
+     */
+    public static GnuplotScriptTemplate compile(String template) {
+        Objects.requireNonNull(template, "The input template is null.");
+        
+        List<String> literalList = new ArrayList<>();
+        List<Anchor> anchorList = new ArrayList<>();
+        int literalStart = 0;
+        int literalLength = 0;
+        int index = template.indexOf('{');
+        
+        while (index >= 0) {
+            Anchor anchor = Anchor.match(template, index);
+            
+            if (anchor == null) {
+                index = template.indexOf('{', index + 1);
+                continue;
+            }
+            
+            literalList.add(template.substring(literalStart, index));
+            literalLength += index - literalStart;
+            anchorList.add(anchor);
+            literalStart = index + anchor.text.length();
+            index = template.indexOf('{', literalStart);
+        }
+        
+        literalList.add(template.substring(literalStart));
+        literalLength += template.length() - literalStart;
+        
+        return new GnuplotScriptTemplate(
+                literalList.toArray(String[]::new),
+                anchorList.toArray(Anchor[]::new),
+                literalLength,
+                Integer.toHexString(template.hashCode()));
+    }
+    
+    /**
+     * Returns the compiled {@code triangle-wave.plt} template. The template is
+     * read and compiled only once per class loader.
+     * 
+     * @return the default template.
+     * @throws IOException if the template resource cannot be read.
+     */
+    public static GnuplotScriptTemplate getDefault() throws IOException {
+        GnuplotScriptTemplate template = defaultTemplate;
+        
+        if (template == null) {
+            synchronized (GnuplotScriptTemplate.class) {
+                template = defaultTemplate;
+                
+                if (template == null) {
+                    RenderStageTimer timer = 
+                            RenderMetrics.getDefault()
+                                         .startStage(
+                                                 RenderStage.TEMPLATE_LOADING);
+                    
+                    try (timer) {
+                        template = compile(
+                                readGnuplotFile(
+                                        TRIANGULAR_WAVE_GNUPLOT_FILE_NAME));
+                        
+                        timer.markSuccessful();
+                    }
+                    
+                    defaultTemplate = template;
+                }
+            }
+        }
+        
+        return template;
+    }
+    
+    /**
+     * Returns the compiled {@code triangle-wave-sweep.plt} template, which 
+     * renders all the frames of a sweep in a single Gnuplot run. The template
+     * is read and compiled only once per class loader.
+     * 
+     * @return the sweep template.
+     * @throws IOException if the template resource cannot be read.
+     */
+    public static GnuplotScriptTemplate getSweep() throws IOException {
+        GnuplotScriptTemplate template = sweepTemplate;
+        
+        if (template == null) {
+            synchronized (GnuplotScriptTemplate.class) {
+                template = sweepTemplate;
+                
+                if (template == null) {
+                    template = compile(
+                            readGnuplotFile(SWEEP_GNUPLOT_FILE_NAME));
+                    
+                    sweepTemplate = template;
+                }
+            }
+        }
+        
+        return template;
+    }
+    
+    /**
+     * Writes the script for the input configuration to {@code output}.
+     * 
+     * @param configuration  the plot configuration.
+     * @param outputFileName the output file name, or {@code null} for the 
+     *                       standard output of Gnuplot.
+     * @param output         the target of the script text.
+     */
+    public void render(TriangleWavePlotterConfiguration configuration,
+                       String outputFileName,
+                       StringBuilder output) {
+        render(List.of(configuration), outputFileName, output);
+    }
+    
+    /**
+     * Writes the script overlaying the waves of {@code configurations} to 
+     * {@code output}. The plot area comes from the first configuration.
+     * 
+     * @param configurations the configurations of the waves.
+     * @param outputFileName the output file name, or {@code null} for the 
+     *                       standard output of Gnuplot.
+     * @param output         the target of the script text.
+     */
+    public void render(List<TriangleWavePlotterConfiguration> configurations,
+                       String outputFileName,
+                       StringBuilder output) {
+        render(configurations, outputFileName, null, output);
+    }
+    
+    /**
+     * Writes the script rendering all the frames of {@code sweep} to 
+     * {@code output}. The swept parameter of {@code configuration} is 
+     * replaced by the Gnuplot variable {@code sweep}.
+     * 
+     * @param configuration         the configuration of the animated wave.
+     * @param sweep                 the parameter sweep.
+     * @param outputFileNamePattern the {@code sprintf} pattern of the frame
+     *                              file names, given the frame index.
+     * @param output                the target of the script text.
+     */
+    public void renderSweep(TriangleWavePlotterConfiguration configuration,
+                            ParameterSweep sweep,
+                            String outputFileNamePattern,
+                            StringBuilder output) {
+        render(List.of(configuration), 
+               Objects.requireNonNull(
+                       outputFileNamePattern, 
+                       "The input output file name pattern is null."),
+               Objects.requireNonNull(sweep, "The input sweep is null."), 
+               output);
+    }
+    
+    /**
+     * Returns the script rendering all the frames of {@code sweep}.
+     * 
+     * @param configuration         the configuration of the animated wave.
+     * @param sweep                 the parameter sweep.
+     * @param outputFileNamePattern the {@code sprintf} pattern of the frame
+     *                              file names, given the frame index.
+     * @return the Gnuplot script.
+     */
+    public String renderSweep(TriangleWavePlotterConfiguration configuration,
+                              ParameterSweep sweep,
+                              String outputFileNamePattern) {
+        StringBuilder output = new StringBuilder(estimateScriptLength());
+        renderSweep(configuration, sweep, outputFileNamePattern, output);
+        return output.toString();
+    }
+    
+    private void render(List<TriangleWavePlotterConfiguration> configurations,
+                        String outputFileName,
+                        ParameterSweep sweep,
+                        StringBuilder output) {
+        TriangleWavePlotterConfiguration configuration = 
+                configurations.get(0);
+        
+        for (int i = 0; i < anchors.length; i++) {
+            output.append(literals[i]);
+            
+            switch (anchors[i]) {
+                case X_RANGE_START -> output.append(
+                                            configuration.getXRangeStart());
+                case X_RANGE_END   -> output.append(
+                                            configuration.getXRangeEnd());
+                case Y_RANGE_START -> output.append(
+                                            configuration.getYRangeStart());
+                case Y_RANGE_END   -> output.append(
+                                            configuration.getYRangeEnd());
+                case PLOT_WIDTH    -> output.append(
+                                            configuration.getPlotWidth());
+                case PLOT_HEIGHT   -> output.append(
+                                            configuration.getPlotHeight());
+                case OUTPUT -> {
+                    if (outputFileName != null) {
+                        appendQuoted(outputFileName, output);
+                    }
+                }
+                
+                case WAVE_DATA -> renderWaveData(configurations, output);
+                case LINE_STYLES -> renderLineStyles(configurations, output);
+                case WAVE_FUNCTIONS -> 
+                    renderWaveFunctions(configurations, sweep, output);
+                
+                case WAVES -> renderWaves(configurations, output);
+                case DECORATIONS -> {
+                    if (!configuration.isDecorated()) {
+                        output.append(NO_DECORATIONS);
+                    }
+                }
+                
+                case LAST_FRAME -> 
+                    output.append(
+                            requireSweep(sweep).getNumberOfFrames() - 1);
+                
+                case SWEEP_VALUES -> 
+                    renderSweepValues(configuration, 
+                                      requireSweep(sweep), 
+                                      output);
+            }
+        }
+        
+        output.append(literals[anchors.length]);
+    }
+    
+    private static void renderLineStyles(
+            List<TriangleWavePlotterConfiguration> configurations,
+            StringBuilder output) {
+        
+        for (int i = 0; i < configurations.size(); i++) {
+            if (i > 0) {
+                output.append('\n');
+            }
+            
+            output.append("set style line ")
+                  .append(i + 1)
+                  .append(" linecolor rgb ");
+            
+            appendQuoted(configurations.get(i).getColor(), output);
+            output.append(" linewidth ")
+                  .append(configurations.get(i).getLineWidth());
+        }
+    }
+    
+    /**
+     * Appends {@code text} as a single-quoted Gnuplot string.
+     */
+    private static void appendQuoted(String text, StringBuilder output) {
+        output.append('\'');
+        appendEscaped(text, output);
+        output.append('\'');
+    }
+    
+    /**
+     * Appends {@code text} with its quotes doubled, so that it may stand 
+     * between single quotes.
+     * 
+     * @throws IllegalArgumentException if {@code text} contains a control 
+     *                                  character.
+     */
+    private static void appendEscaped(String text, StringBuilder output) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            
+            if (Character.isISOControl(c)) {
+                throw new IllegalArgumentException(
+                        "Control character in script value = '" 
+                                + text.replace("\n", "\\n")
+                                      .replace("\r", "\\r")
+                                + "'");
+            }
+            
+            if (c == '\'') {
+                output.append('\'');
+            }
+            
+            output.append(c);
+        }
+    }
+    
+    private static ParameterSweep requireSweep(ParameterSweep sweep) {
+        if (sweep == null) {
+            throw new IllegalStateException(
+                    "Sweep anchors are rendered only by renderSweep.");
+        }
+        
+        return sweep;
+    }
+    
+    /**
+     * Renders the swept parameter values computed by the configuration 
+     * builder, so that a {@code do for} loop animates exactly the frames the
+     * per-frame plot jobs would render.
+     */
+    private static void renderSweepValues(
+            TriangleWavePlotterConfiguration configuration,
+            ParameterSweep sweep,
+            StringBuilder output) {
+        
+        output.append("array ")
+              .append(SWEEP_VALUES_VARIABLE)
+              .append('[')
+              .append(sweep.getNumberOfFrames())
+              .append("] = [");
+        
+        for (int frame = 0; frame < sweep.getNumberOfFrames(); frame++) {
+            if (frame > 0) {
+                output.append(", ");
+            }
+            
+            output.append(sweep.getFrameValue(configuration, frame));
+        }
+        
+        output.append(']');
+    }
+    
+    private static void renderParameter(SweepParameter parameter,
+                                        double value,
+                                        ParameterSweep sweep,
+                                        StringBuilder output) {
+        if (sweep != null && sweep.getParameter() == parameter) {
+            output.append(SWEEP_VARIABLE);
+        } else {
+            output.append(value);
+        }
+    }
+    
+    private static void renderWaveFunctions(
+            List<TriangleWavePlotterConfiguration> configurations,
+            ParameterSweep sweep,
+            StringBuilder output) {
+        
+        for (int i = 0; i < configurations.size(); i++) {
+            TriangleWavePlotterConfiguration configuration = 
+                    configurations.get(i);
+            
+            if (i > 0) {
+                output.append('\n');
+            }
+            
+            output.append(WAVE_FUNCTION)
+                  .append(i + 1)
+                  .append("(x) = triangle(x, ");
+            
+            if (sweep == null) {
+                output.append(configuration.getWaveFunctionArguments())
+                      .append(')');
+                continue;
+            }
+            
+            renderParameter(SweepParameter.PERIOD, 
+                            configuration.getPeriod(), 
+                            sweep, 
+                            output);
+            
+            output.append(", ");
+            renderParameter(SweepParameter.AMPLITUDE, 
+                            configuration.getAmplitude(), 
+                            sweep, 
+                            output);
+            
+            output.append(", ");
+            renderParameter(SweepParameter.SHIFT, 
+                            configuration.getShift(), 
+                            sweep, 
+                            output);
+            
+            output.append(')');
+        }
+    }
+    
+    private static void renderWaves(
+            List<TriangleWavePlotterConfiguration> configurations,
+            StringBuilder output) {
+        
+        for (int i = 0; i < configurations.size(); i++) {
+            if (i > 0) {
+                output.append(", ");
+            }
+            
+            renderWave(configurations.get(i), i + 1, output);
+            output.append(" with lines ls ").append(i + 1);
+        }
+    }
+    
+    private static void renderWave(
+            TriangleWavePlotterConfiguration configuration,
+            int waveNumber,
+            StringBuilder output) {
+        
+        if (configuration.getSampling() == TriangleWaveSampling.FUNCTION) {
+            output.append(WAVE_FUNCTION).append(waveNumber).append("(x)");
+        } else {
+            output.append(WAVE_DATA_BLOCK).append(waveNumber);
+        }
+    }
+    
+    private static void renderWaveData(
+            List<TriangleWavePlotterConfiguration> configurations,
+            StringBuilder output) {
+        
+        boolean first = true;
+        
+        for (int i = 0; i < configurations.size(); i++) {
+            TriangleWavePlotterConfiguration configuration = 
+                    configurations.get(i);
+            
+            if (configuration.getSampling() 
+                    == TriangleWaveSampling.FUNCTION) {
+                continue;
+            }
+            
+            if (!first) {
+                output.append('\n');
+            }
+            
+            first = false;
+            renderWaveData(configuration, i + 1, output);
+        }
+    }
+    
+    private static void renderWaveData(
+            TriangleWavePlotterConfiguration configuration,
+            int waveNumber,
+            StringBuilder output) {
+        
+        output.append(WAVE_DATA_BLOCK)
+              .append(waveNumber)
+              .append(" << ")
+              .append(END_OF_DATA)
+              .append('\n');
+        
+        TriangleWavePolyline.VertexConsumer vertexWriter = 
+                (x, y) -> output.append(x).append(' ').append(y).append('\n');
+        
+        // Too dense a polyline is decimated, since its vertices would share 
+        // the pixel columns anyway:
+        if (configuration.getSampling() == TriangleWaveSampling.VERTICES
+                && !TriangleWavePolyline.isDenserThan(
+                        configuration, 
+                        configuration.getPlotWidthInPixels())) {
+            TriangleWavePolyline.forEachVertex(configuration, vertexWriter);
+        } else {
+            PixelColumnDecimator.decimate(configuration)
+                                .forEachPoint(vertexWriter);
+        }
+        
+        output.append(END_OF_DATA);
+    }
+    
+    /**
+     * Returns the script for the input configuration.
+     * 
+     * @param configuration  the plot configuration.
+     * @param outputFileName the output file name, or {@code null} for the 
+     *                       standard output of Gnuplot.
+     * @return the Gnuplot script.
+     */
+    public String render(TriangleWavePlotterConfiguration configuration,
+                         String outputFileName) {
+        return render(List.of(configuration), outputFileName);
+    }
+    
+    /**
+     * Returns the script overlaying the waves of {@code configurations}.
+     * 
+     * @param configurations the configurations of the waves.
+     * @param outputFileName the output file name, or {@code null} for the 
+     *                       standard output of Gnuplot.
+     * @return the Gnuplot script.
+     */
+    public String render(List<TriangleWavePlotterConfiguration> configurations,
+                         String outputFileName) {
+        StringBuilder output = 
+                new StringBuilder(estimateScriptLength() 
+                                          * configurations.size());
+        
+        render(configurations, outputFileName, output);
+        return output.toString();
+    }
+    
+    /**
+     * Returns the version of this template. Templates with different text 
+     * have, with high probability, different versions.
+     * 
+     * @return the template version.
+     */
+    public String getVersion() {
+        return version;
+    }
+    
+    /**
+     * Returns a capacity hint for the script builders.
+     * 
+     * @return the estimated length of a rendered script.
+     */
+    public int estimateScriptLength() {
+        // Leave room for a couple of dozen characters per anchor:
+        return literalLength + 32 * anchors.length;
+    }
+    
+    private static String readGnuplotFile(String resourceName) 
+            throws IOException {
+        try (InputStream inputStream = 
+                GnuplotScriptTemplate.class
+                        .getClassLoader()
+                        .getResourceAsStream(resourceName)) {
+            
+            if (inputStream == null) {
+                throw new IOException(
+                        "Resource '" + resourceName + "' not found.");
+            }
+            
+            String template = 
+                    new String(inputStream.readAllBytes(), 
+                               StandardCharsets.UTF_8);
+            
+            return template.endsWith("\n") ? template : template + "\n";
+        }
+    }
+}
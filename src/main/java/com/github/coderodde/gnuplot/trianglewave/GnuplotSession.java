@@ -0,0 +1,178 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class implements a long-lived Gnuplot process that accepts plot scripts
+ * through its standard input. After each script, the session closes the 
+ * output, resets the Gnuplot state and waits for an acknowledgement marker on
+ * the standard error stream of Gnuplot. The standard error stream is drained 
+ * by a virtual thread, and a plot not acknowledged within the timeout kills 
+ * the session.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+final class GnuplotSession implements AutoCloseable {
+    
+    private static final String PLOT_DONE_MARKER = "triangle-wave-plot-done";
+    private static final long CLOSE_TIMEOUT_SECONDS = 5L;
+    
+    /**
+     * Marks the end of the standard error stream of Gnuplot in the message 
+     * queue. Compared by identity.
+     */
+    private static final String END_OF_MESSAGES = new String();
+    
+    private static final String PLOT_EPILOGUE = 
+            """
+            
+            unset output
+            reset
+            print '%s'
+            """.formatted(PLOT_DONE_MARKER);
+    
+    private final Process process;
+    private final Writer scriptWriter;
+    private final BlockingQueue<String> messageQueue = 
+            new LinkedBlockingQueue<>();
+    
+    private final Duration timeout;
+    
+    GnuplotSession(String gnuplotExecutable) throws IOException {
+        this(gnuplotExecutable, GnuplotRenderer.DEFAULT_TIMEOUT);
+    }
+    
+    GnuplotSession(String gnuplotExecutable, Duration timeout) 
+            throws IOException {
+        this.timeout = GnuplotRenderer.validateTimeout(timeout);
+        this.process = 
+                new ProcessBuilder(gnuplotExecutable)
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                        .start();
+        
+        this.scriptWriter = 
+                new OutputStreamWriter(
+                        process.getOutputStream(), 
+                        StandardCharsets.UTF_8);
+        
+        Thread.ofVirtual().start(this::readMessages);
+    }
+    
+    /**
+     * Plots the {@code gnuplotScript} and waits until Gnuplot is done with it.
+     * 
+     * @param gnuplotScript the Gnuplot script to run.
+     * @param outputFile    the output file the script writes to.
+     * @throws IOException if Gnuplot terminates, times out or does not 
+     *                     produce the output file.
+     */
+    void plot(String gnuplotScript, Path outputFile) throws IOException {
+        Files.deleteIfExists(outputFile);
+        
+        scriptWriter.write(gnuplotScript);
+        scriptWriter.write(PLOT_EPILOGUE);
+        scriptWriter.flush();
+        
+        StringBuilder messages = new StringBuilder();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        String line;
+        
+        while ((line = takeMessage(deadline)) != END_OF_MESSAGES) {
+            if (line == null) {
+                GnuplotRenderer.destroyProcessTree(process);
+                throw new IOException(
+                        "Gnuplot timed out after " 
+                                + timeout.toMillis() 
+                                + " ms: " 
+                                + messages);
+            }
+            
+            if (line.equals(PLOT_DONE_MARKER)) {
+                break;
+            }
+            
+            messages.append(line).append("\n");
+        }
+        
+        if (line == END_OF_MESSAGES) {
+            throw new IOException(
+                    "Gnuplot session terminated unexpectedly: " + messages);
+        }
+        
+        if (!Files.exists(outputFile) || Files.size(outputFile) == 0L) {
+            throw new IOException(
+                    "Gnuplot did not generate " + outputFile + ": " + messages);
+        }
+    }
+    
+    /**
+     * Takes the next message line of Gnuplot.
+     * 
+     * @param deadline the {@link System#nanoTime()} to wait until.
+     * @return the next line, {@link #END_OF_MESSAGES}, or {@code null} on 
+     *         timeout.
+     * @throws IOException if interrupted while waiting.
+     */
+    private String takeMessage(long deadline) throws IOException {
+        try {
+            return messageQueue.poll(deadline - System.nanoTime(), 
+                                     TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for Gnuplot.", ex);
+        }
+    }
+    
+    private void readMessages() {
+        try (BufferedReader messageReader = 
+                new BufferedReader(
+                        new InputStreamReader(
+                                process.getErrorStream(), 
+                                StandardCharsets.UTF_8))) {
+            String line;
+            
+            while ((line = messageReader.readLine()) != null) {
+                messageQueue.add(line);
+            }
+        } catch (IOException ex) {
+            // The stream is closed when Gnuplot is killed.
+        } finally {
+            messageQueue.add(END_OF_MESSAGES);
+        }
+    }
+    
+    boolean isAlive() {
+        return process.isAlive();
+    }
+    
+    @Override
+    public void close() {
+        try {
+            scriptWriter.close();
+        } catch (IOException ex) {
+            // The Gnuplot process is already gone.
+        }
+        
+        try {
+            if (!process.waitFor(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                GnuplotRenderer.destroyProcessTree(process);
+            }
+        } catch (InterruptedException ex) {
+            GnuplotRenderer.destroyProcessTree(process);
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This class implements a renderer on top of a {@link GnuplotSession}. A dead
+ * session is replaced by a fresh one before the next plot, and a failed plot 
+ * may be retried in a fresh session. Since a session 
+ * processes one script at a time, instances of this class are not 
+ * thread-safe: give each worker thread its own.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+final class GnuplotSessionRenderer 
+        implements TriangleWaveRenderer, AutoCloseable {
+    
+    private static final Logger LOGGER = 
+            Logger.getLogger(GnuplotSessionRenderer.class.getSimpleName());
+    
+    private static final String TEMPORARY_PNG_PREFIX = "triangle-wave-";
+    private static final String TEMPORARY_PNG_SUFFIX = ".png";
+    
+    private final String gnuplotExecutable;
+    private final Duration timeout;
+    private final int numberOfRetries;
+    private final GnuplotScriptTemplate plotTemplate;
+    private final StringBuilder scriptBuilder;
+    private GnuplotSession gnuplotSession;
+    
+    GnuplotSessionRenderer(String gnuplotExecutable) throws IOException {
+        this(gnuplotExecutable, 
+             GnuplotRenderer.DEFAULT_TIMEOUT, 
+             GnuplotRenderer.DEFAULT_NUMBER_OF_RETRIES);
+    }
+    
+    GnuplotSessionRenderer(String gnuplotExecutable,
+                           Duration timeout,
+                           int numberOfRetries) throws IOException {
+        this.gnuplotExecutable = 
+                Objects.requireNonNull(
+                        gnuplotExecutable, 
+                        "The input Gnuplot executable is null.");
+        
+        this.timeout = GnuplotRenderer.validateTimeout(timeout);
+        this.numberOfRetries = 
+                GnuplotRenderer.validateNumberOfRetries(numberOfRetries);
+        
+        this.plotTemplate = GnuplotScriptTemplate.getDefault();
+        this.scriptBuilder = 
+                new StringBuilder(plotTemplate.estimateScriptLength());
+        
+        this.gnuplotSession = new GnuplotSession(gnuplotExecutable, timeout);
+    }
+    
+    @Override
+    public void render(TriangleWavePlotterConfiguration configuration, 
+                       Path outputFile) throws IOException {
+        String gnuplotScript;
+        
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault()
+                             .startStage(RenderStage.SCRIPT_GENERATION)) {
+            scriptBuilder.setLength(0);
+            plotTemplate.render(configuration, 
+                                outputFile.toString(), 
+                                scriptBuilder);
+            
+            gnuplotScript = scriptBuilder.toString();
+            timer.markSuccessful();
+        }
+        
+        plot(gnuplotScript, outputFile);
+    }
+    
+    /**
+     * {@inheritDoc} All the waves are drawn by a single script.
+     */
+    @Override
+    public void renderOverlay(
+            List<TriangleWavePlotterConfiguration> configurations,
+            Path outputFile) throws IOException {
+        
+        TriangleWavePlotterConfiguration.validateOverlay(configurations);
+        String gnuplotScript;
+        
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault()
+                             .startStage(RenderStage.SCRIPT_GENERATION)) {
+            scriptBuilder.setLength(0);
+            plotTemplate.render(configurations, 
+                                outputFile.toString(), 
+                                scriptBuilder);
+            
+            gnuplotScript = scriptBuilder.toString();
+            timer.markSuccessful();
+        }
+        
+        plot(gnuplotScript, outputFile);
+    }
+    
+    /**
+     * {@inheritDoc} The session writes the PNG to a temporary file, which is 
+     * then copied to {@code outputStream}.
+     */
+    @Override
+    public void render(TriangleWavePlotterConfiguration configuration, 
+                       OutputStream outputStream) throws IOException {
+        Path temporaryFile = Files.createTempFile(TEMPORARY_PNG_PREFIX, 
+                                                  TEMPORARY_PNG_SUFFIX);
+        
+        try {
+            render(configuration, temporaryFile);
+            Files.copy(temporaryFile, outputStream);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+    
+    /**
+     * {@inheritDoc} The session writes the PNG to a temporary file, which is 
+     * then copied to {@code outputStream}.
+     */
+    @Override
+    public void renderOverlay(
+            List<TriangleWavePlotterConfiguration> configurations,
+            OutputStream outputStream) throws IOException {
+        
+        Path temporaryFile = Files.createTempFile(TEMPORARY_PNG_PREFIX, 
+                                                  TEMPORARY_PNG_SUFFIX);
+        
+        try {
+            renderOverlay(configurations, temporaryFile);
+            Files.copy(temporaryFile, outputStream);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return GnuplotRenderer.NAME;
+    }
+    
+    @Override
+    public String getVersion() {
+        return plotTemplate.getVersion();
+    }
+    
+    @Override
+    public void close() {
+        gnuplotSession.close();
+    }
+    
+    /**
+     * Runs {@code gnuplotScript} writing {@code outputFile} in the session,
+     * retrying in a fresh session on failure.
+     */
+    private void plot(String gnuplotScript, Path outputFile) 
+            throws IOException {
+        
+        for (int retry = 0; ; retry++) {
+            try {
+                if (!gnuplotSession.isAlive()) {
+                    gnuplotSession.close();
+                    gnuplotSession = 
+                            new GnuplotSession(gnuplotExecutable, timeout);
+                }
+                
+                try (RenderStageTimer timer = 
+                        RenderMetrics.getDefault()
+                                     .startStage(
+                                             RenderStage.GNUPLOT_DRAWING)) {
+                    gnuplotSession.plot(gnuplotScript, outputFile);
+                    timer.markSuccessful();
+                }
+                
+                return;
+            } catch (IOException ex) {
+                if (retry == numberOfRetries) {
+                    throw ex;
+                }
+                
+                LOGGER.log(Level.WARNING, 
+                           "Gnuplot failed, {0} retries left.", 
+                           numberOfRetries - retry);
+                
+                // The session state is unknown after a failure.
+                gnuplotSession.close();
+                gnuplotSession = 
+                        new GnuplotSession(gnuplotExecutable, timeout);
+            }
+        }
+    }
+}
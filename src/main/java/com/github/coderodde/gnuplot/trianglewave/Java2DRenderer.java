@@ -0,0 +1,402 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+/**
+ * This class implements a pure-Java triangle wave renderer. It draws the wave 
+ * into an in-memory raster and encodes it as PNG without running any external
+ * process.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class Java2DRenderer implements TriangleWaveRenderer {
+    
+    static final String NAME = "java";
+    static final String VERSION = "1";
+    
+    private static final String PNG_FORMAT_NAME = "png";
+    
+    private static final class Margins {
+        static final int LEFT   = 60;
+        static final int RIGHT  = 20;
+        static final int TOP    = 20;
+        static final int BOTTOM = 40;
+    }
+    
+    private static final int TIC_LENGTH = 6;
+    private static final int TARGET_NUMBER_OF_TICS = 8;
+    private static final Font TIC_FONT = new Font(Font.SANS_SERIF, 
+                                                  Font.PLAIN, 
+                                                  12);
+    
+    @Override
+    public void render(TriangleWavePlotterConfiguration configuration,
+                       Path outputFile) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(outputFile)) {
+            render(configuration, outputStream);
+        }
+    }
+    
+    @Override
+    public void render(TriangleWavePlotterConfiguration configuration,
+                       OutputStream outputStream) throws IOException {
+        renderOverlay(List.of(configuration), outputStream);
+    }
+    
+    @Override
+    public void renderOverlay(
+            List<TriangleWavePlotterConfiguration> configurations,
+            Path outputFile) throws IOException {
+        
+        try (OutputStream outputStream = Files.newOutputStream(outputFile)) {
+            renderOverlay(configurations, outputStream);
+        }
+    }
+    
+    @Override
+    public void renderOverlay(
+            List<TriangleWavePlotterConfiguration> configurations,
+            OutputStream outputStream) throws IOException {
+        
+        TriangleWavePlotterConfiguration.validateOverlay(configurations);
+        BufferedImage image;
+        
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault()
+                             .startStage(RenderStage.IMAGE_DRAWING)) {
+            image = renderImage(configurations);
+            timer.markSuccessful();
+        }
+        
+        // Keep ImageIO from buffering through a temporary cache file:
+        ImageOutputStream imageOutputStream = 
+                new MemoryCacheImageOutputStream(outputStream);
+        
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault()
+                             .startStage(RenderStage.PNG_ENCODING)) {
+            if (!ImageIO.write(image, PNG_FORMAT_NAME, imageOutputStream)) {
+                throw new IOException("No PNG writer available.");
+            }
+            
+            timer.markSuccessful();
+        } finally {
+            imageOutputStream.close();
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+    
+    /**
+     * Draws the triangle wave described by {@code configuration} into a new 
+     * image.
+     * 
+     * @param configuration the plot configuration.
+     * @return the image.
+     */
+    BufferedImage renderImage(TriangleWavePlotterConfiguration configuration) {
+        return renderImage(List.of(configuration));
+    }
+    
+    /**
+     * Draws the waves of {@code configurations}, in order, into a new image. 
+     * The plot area comes from the first configuration.
+     * 
+     * @param configurations the configurations of the waves.
+     * @return the image.
+     */
+    BufferedImage renderImage(
+            List<TriangleWavePlotterConfiguration> configurations) {
+        
+        TriangleWavePlotterConfiguration configuration = 
+                configurations.get(0);
+        
+        int width  = configuration.getPlotWidthInPixels();
+        int height = configuration.getPlotHeightInPixels();
+        
+        BufferedImage image = 
+                new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        
+        Graphics2D g = image.createGraphics();
+        
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, 
+                               RenderingHints.VALUE_ANTIALIAS_ON);
+            
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+                               RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            
+            PlotArea plotArea = new PlotArea(configuration, width, height);
+            
+            for (TriangleWavePlotterConfiguration wave : configurations) {
+                drawWave(g, plotArea, wave);
+            }
+            
+            if (configuration.isDecorated()) {
+                drawBorderAndTics(g, plotArea);
+            }
+        } finally {
+            g.dispose();
+        }
+        
+        return image;
+    }
+    
+    private static void drawWave(
+            Graphics2D g, 
+            PlotArea plotArea,
+            TriangleWavePlotterConfiguration configuration) {
+        
+        Path2D.Double path = new Path2D.Double();
+        
+        switch (configuration.getSampling()) {
+            case FUNCTION -> {
+                for (int pixelX = 0; pixelX <= plotArea.width; pixelX++) {
+                    double x = plotArea.toX(pixelX);
+                    double y = TriangleWave.evaluate(x, configuration);
+                    appendPoint(path, 
+                                plotArea.left + pixelX, 
+                                plotArea.toScreenY(y));
+                }
+            }
+            
+            case VERTICES, MIN_MAX -> {
+                TriangleWavePolyline.VertexConsumer pointAppender = 
+                        (x, y) -> appendPoint(path, 
+                                              plotArea.toScreenX(x), 
+                                              plotArea.toScreenY(y));
+                
+                if (configuration.getSampling() 
+                            == TriangleWaveSampling.VERTICES
+                        && !TriangleWavePolyline.isDenserThan(
+                                configuration, 
+                                plotArea.width)) {
+                    TriangleWavePolyline.forEachVertex(configuration, 
+                                                       pointAppender);
+                } else {
+                    PixelColumnDecimator.decimate(configuration, 
+                                                  plotArea.width)
+                                        .forEachPoint(pointAppender);
+                }
+            }
+        }
+        
+        g.setClip(plotArea.left, plotArea.top, plotArea.width, plotArea.height);
+        g.setColor(parseColor(configuration.getColor()));
+        g.setStroke(new BasicStroke(configuration.getLineWidth(),
+                                    BasicStroke.CAP_ROUND,
+                                    BasicStroke.JOIN_ROUND));
+        g.draw(path);
+        g.setClip(null);
+    }
+    
+    private static void appendPoint(Path2D.Double path, 
+                                    double screenX, 
+                                    double screenY) {
+        if (path.getCurrentPoint() == null) {
+            path.moveTo(screenX, screenY);
+        } else {
+            path.lineTo(screenX, screenY);
+        }
+    }
+    
+    private static void drawBorderAndTics(Graphics2D g, PlotArea plotArea) {
+        g.setColor(Color.BLACK);
+        g.setStroke(new BasicStroke(1.0f));
+        g.setFont(TIC_FONT);
+        g.drawRect(plotArea.left, 
+                   plotArea.top, 
+                   plotArea.width, 
+                   plotArea.height);
+        
+        FontMetrics fontMetrics = g.getFontMetrics();
+        int bottom = plotArea.top + plotArea.height;
+        
+        double xStep = computeTicStep(plotArea.xStart, plotArea.xEnd);
+        
+        for (double x = Math.ceil(plotArea.xStart / xStep) * xStep;
+                x <= plotArea.xEnd;
+                x += xStep) {
+            int screenX = (int) Math.round(plotArea.toScreenX(x));
+            String label = formatTic(x, xStep);
+            
+            g.drawLine(screenX, bottom, screenX, bottom - TIC_LENGTH);
+            g.drawString(label, 
+                         screenX - fontMetrics.stringWidth(label) / 2, 
+                         bottom + fontMetrics.getAscent() + TIC_LENGTH / 2);
+        }
+        
+        double yStep = computeTicStep(plotArea.yStart, plotArea.yEnd);
+        
+        for (double y = Math.ceil(plotArea.yStart / yStep) * yStep;
+                y <= plotArea.yEnd;
+                y += yStep) {
+            int screenY = (int) Math.round(plotArea.toScreenY(y));
+            String label = formatTic(y, yStep);
+            
+            g.drawLine(plotArea.left, 
+                       screenY, 
+                       plotArea.left + TIC_LENGTH, 
+                       screenY);
+            
+            g.drawString(label,
+                         plotArea.left 
+                                 - fontMetrics.stringWidth(label) 
+                                 - TIC_LENGTH, 
+                         screenY + fontMetrics.getAscent() / 2);
+        }
+    }
+    
+    private static double computeTicStep(double start, double end) {
+        double rawStep = Math.abs(end - start) / TARGET_NUMBER_OF_TICS;
+        
+        if (rawStep == 0.0) {
+            return 1.0;
+        }
+        
+        double magnitude = Math.pow(10.0, Math.floor(Math.log10(rawStep)));
+        double normalized = rawStep / magnitude;
+        
+        if (normalized < 1.5) {
+            return magnitude;
+        } else if (normalized < 3.5) {
+            return 2.0 * magnitude;
+        } else if (normalized < 7.5) {
+            return 5.0 * magnitude;
+        }
+        
+        return 10.0 * magnitude;
+    }
+    
+    private static String formatTic(double value, double step) {
+        if (Math.abs(value) < step * 1e-9) {
+            return "0";
+        }
+        
+        int decimals = Math.max(0, (int) -Math.floor(Math.log10(step)));
+        return String.format("%." + decimals + "f", value);
+    }
+    
+    /**
+     * Converts a Gnuplot color specification into a {@link Color}. Accepts 
+     * {@code #RRGGBB}, {@code #AARRGGBB} (where {@code AA} is the transparency
+     * as in Gnuplot) and the Gnuplot color names.
+     * 
+     * @param color the color specification.
+     * @return the color.
+     */
+    static Color parseColor(String color) {
+        String normalizedColor = 
+                TriangleWavePlotterConfiguration.validateHexColor(color);
+        
+        if (normalizedColor.startsWith("#")) {
+            String hex = normalizedColor.substring(1);
+            
+            try {
+                if (hex.length() == 6) {
+                    return new Color(Integer.parseInt(hex, 16));
+                } else if (hex.length() == 8) {
+                    int argb = (int) Long.parseLong(hex, 16);
+                    int alpha = 0xff - (argb >>> 24);
+                    return new Color((alpha << 24) | (argb & 0xffffff), true);
+                }
+            } catch (NumberFormatException ex) {
+                // Fall through to the exception below.
+            }
+        } else {
+            Integer rgb = GnuplotColors.getRGB(normalizedColor);
+            
+            if (rgb != null) {
+                return new Color(rgb);
+            }
+        }
+        
+        throw new IllegalArgumentException(
+                "Unknown color: '" + color + "'.");
+    }
+    
+    /**
+     * Maps the plot coordinates to the screen coordinates.
+     */
+    private static final class PlotArea {
+        
+        final int left;
+        final int top;
+        final int width;
+        final int height;
+        final double xStart;
+        final double xEnd;
+        final double yStart;
+        final double yEnd;
+        
+        PlotArea(TriangleWavePlotterConfiguration configuration, 
+                 int imageWidth, 
+                 int imageHeight) {
+            
+            if (configuration.isDecorated()) {
+                this.left   = Math.min(Margins.LEFT, imageWidth / 4);
+                this.top    = Math.min(Margins.TOP,  imageHeight / 4);
+                this.width  = Math.max(1, 
+                                       imageWidth 
+                                               - left 
+                                               - Math.min(Margins.RIGHT, 
+                                                          imageWidth / 4));
+                this.height = Math.max(1, 
+                                       imageHeight 
+                                               - top 
+                                               - Math.min(Margins.BOTTOM, 
+                                                          imageHeight / 4));
+            } else {
+                this.left   = 0;
+                this.top    = 0;
+                this.width  = imageWidth;
+                this.height = imageHeight;
+            }
+            
+            this.xStart = configuration.getXRangeStart();
+            this.xEnd   = configuration.getXRangeEnd();
+            this.yStart = configuration.getYRangeStart();
+            this.yEnd   = configuration.getYRangeEnd();
+        }
+        
+        double toX(int pixelX) {
+            return xStart + (xEnd - xStart) * pixelX / width;
+        }
+        
+        double toScreenX(double x) {
+            return left + (x - xStart) / (xEnd - xStart) * width;
+        }
+        
+        double toScreenY(double y) {
+            return top + (yEnd - y) / (yEnd - yStart) * height;
+        }
+    }
+}
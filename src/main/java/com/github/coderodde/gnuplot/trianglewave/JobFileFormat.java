@@ -0,0 +1,78 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * This enumeration lists the supported batch job file formats.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public enum JobFileFormat {
+    
+    /**
+     * Each line has the same format as the ordinary command line: zero or 
+     * more options followed by the output file name.
+     */
+    OPTIONS("options"),
+    
+    /**
+     * Each line is a flat JSON object whose keys are the option names without
+     * the leading dashes, plus {@code "output"} for the output file name, for
+     * example {@code {"period": 4, "color": "#abc", "output": "a.png"}}.
+     */
+    JSON_LINES("jsonl"),
+    
+    /**
+     * The first line is a header of option names without the leading dashes,
+     * plus an {@code output} column. Each further line holds one job; an empty
+     * cell leaves the option at its default.
+     */
+    CSV("csv");
+    
+    private final String name;
+    
+    JobFileFormat(String name) {
+        this.name = name;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public static JobFileFormat fromName(String name) {
+        for (JobFileFormat jobFileFormat : values()) {
+            if (jobFileFormat.name.equals(name)) {
+                return jobFileFormat;
+            }
+        }
+        
+        throw new IllegalArgumentException(
+                "Unknown job file format = '" + name + "'");
+    }
+    
+    /**
+     * Guesses the format from the file name extension: {@code .jsonl} and 
+     * {@code .ndjson} are JSON Lines, {@code .csv} is CSV, and anything else 
+     * is {@link #OPTIONS}.
+     * 
+     * @param jobFile the job file.
+     * @return the job file format.
+     */
+    public static JobFileFormat fromFileName(Path jobFile) {
+        String fileName = 
+                jobFile.getFileName().toString().toLowerCase(Locale.ROOT);
+        
+        if (fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson")) {
+            return JSON_LINES;
+        }
+        
+        if (fileName.endsWith(".csv")) {
+            return CSV;
+        }
+        
+        return OPTIONS;
+    }
+}
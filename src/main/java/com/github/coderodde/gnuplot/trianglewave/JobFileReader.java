@@ -0,0 +1,535 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This class streams the jobs of a batch job file. The file is read lazily, 
+ * one line at a time, so arbitrarily large job files are processed in bounded
+ * memory. A malformed line is logged together with its line number and 
+ * skipped.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class JobFileReader 
+        implements Iterable<TriangleWavePlotJob>, AutoCloseable {
+    
+    private static final Logger LOGGER = 
+            Logger.getLogger(JobFileReader.class.getSimpleName());
+    
+    static final String OUTPUT_KEY = "output";
+    
+    private final Path jobFile;
+    private final JobFileFormat jobFileFormat;
+    private final UnaryOperator<String> outputFileNameMapper;
+    private final BufferedReader reader;
+    private List<String> csvHeader;
+    private long lineNumber;
+    private long numberOfMalformedLines;
+    private boolean iteratorCreated;
+    
+    /**
+     * Opens the job file.
+     * 
+     * @param jobFile              the job file.
+     * @param jobFileFormat        the format of the job file.
+     * @param outputFileNameMapper maps the output file names of the jobs, for 
+     *                             example to expand the home directory.
+     * @throws IOException if the job file cannot be opened, or its CSV header
+     *                     is missing or has no {@code output} column.
+     */
+    public JobFileReader(Path jobFile, 
+                         JobFileFormat jobFileFormat,
+                         UnaryOperator<String> outputFileNameMapper) 
+            throws IOException {
+        this.jobFile = Objects.requireNonNull(jobFile, 
+                                              "The input job file is null.");
+        
+        this.jobFileFormat = 
+                Objects.requireNonNull(
+                        jobFileFormat, 
+                        "The input job file format is null.");
+        
+        this.outputFileNameMapper = 
+                Objects.requireNonNull(
+                        outputFileNameMapper, 
+                        "The input output file name mapper is null.");
+        
+        this.reader = Files.newBufferedReader(jobFile, StandardCharsets.UTF_8);
+        
+        if (jobFileFormat == JobFileFormat.CSV) {
+            try {
+                readCsvHeader();
+            } catch (IOException | RuntimeException ex) {
+                reader.close();
+                throw ex;
+            }
+        }
+    }
+    
+    /**
+     * Returns the iterator over the jobs. The iterator reads the job file as 
+     * it advances and throws {@link UncheckedIOException} if reading fails. 
+     * Can be called only once.
+     * 
+     * @return the job iterator.
+     */
+    @Override
+    public Iterator<TriangleWavePlotJob> iterator() {
+        if (iteratorCreated) {
+            throw new IllegalStateException(
+                    "The job file can be iterated only once.");
+        }
+        
+        iteratorCreated = true;
+        return new JobIterator();
+    }
+    
+    public long getNumberOfMalformedLines() {
+        return numberOfMalformedLines;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+    
+    private final class JobIterator implements Iterator<TriangleWavePlotJob> {
+        
+        private TriangleWavePlotJob nextJob;
+        private boolean endOfFile;
+        
+        @Override
+        public boolean hasNext() {
+            while (nextJob == null && !endOfFile) {
+                String line = readLine();
+                
+                if (line == null) {
+                    endOfFile = true;
+                } else if (!line.isBlank()) {
+                    nextJob = parseOrSkip(line);
+                }
+            }
+            
+            return nextJob != null;
+        }
+        
+        @Override
+        public TriangleWavePlotJob next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more jobs.");
+            }
+            
+            TriangleWavePlotJob job = nextJob;
+            nextJob = null;
+            return job;
+        }
+    }
+    
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            
+            if (line != null) {
+                lineNumber++;
+            }
+            
+            return line;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(
+                    "Could not read line " + (lineNumber + 1) + " of " 
+                            + jobFile + ".", 
+                    ex);
+        }
+    }
+    
+    private TriangleWavePlotJob parseOrSkip(String line) {
+        try {
+            return switch (jobFileFormat) {
+                case OPTIONS -> parseOptionsLine(line);
+                case JSON_LINES -> parseJob(parseFlatJsonObject(line));
+                case CSV -> parseJob(parseCsvRecord(line));
+            };
+        } catch (RuntimeException ex) {
+            numberOfMalformedLines++;
+            LOGGER.log(Level.WARNING, 
+                       "Skipping line {0} of {1}: {2}", 
+                       new Object[]{ lineNumber, jobFile, ex.getMessage() });
+            return null;
+        }
+    }
+    
+    private TriangleWavePlotJob parseOptionsLine(String line) {
+        List<String> jobArgs = ConfigurationArgumentParser.tokenize(line);
+        TriangleWavePlotterConfiguration.Builder builder = 
+                TriangleWavePlotterConfiguration.builder();
+        
+        for (int i = 0; i < jobArgs.size() - 1; i++) {
+            ConfigurationArgumentParser.parseArgument(builder, jobArgs.get(i));
+        }
+        
+        return new TriangleWavePlotJob(
+                builder.build(), 
+                outputFileNameMapper.apply(jobArgs.get(jobArgs.size() - 1)));
+    }
+    
+    private TriangleWavePlotJob parseJob(Map<String, String> options) {
+        String outputFileName = options.get(OUTPUT_KEY);
+        
+        if (outputFileName == null || outputFileName.isEmpty()) {
+            throw new IllegalArgumentException("No output file name.");
+        }
+        
+        TriangleWavePlotterConfiguration.Builder builder = 
+                TriangleWavePlotterConfiguration.builder();
+        
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            if (!option.getKey().equals(OUTPUT_KEY) 
+                    && option.getValue() != null
+                    && !option.getValue().isEmpty()) {
+                ConfigurationArgumentParser.parseOption(builder, 
+                                                        option.getKey(), 
+                                                        option.getValue());
+            }
+        }
+        
+        return new TriangleWavePlotJob(
+                builder.build(), 
+                outputFileNameMapper.apply(outputFileName));
+    }
+    
+    private void readCsvHeader() throws IOException {
+        String line;
+        
+        do {
+            line = readLine();
+            
+            if (line == null) {
+                throw new IOException("No CSV header in " + jobFile + ".");
+            }
+        } while (line.isBlank());
+        
+        List<String> header = parseCsvFields(line);
+        
+        for (int i = 0; i < header.size(); i++) {
+            header.set(i, header.get(i).trim());
+        }
+        
+        if (!header.contains(OUTPUT_KEY)) {
+            throw new IOException(
+                    "No '" + OUTPUT_KEY + "' column in the CSV header of " 
+                            + jobFile + ".");
+        }
+        
+        csvHeader = header;
+    }
+    
+    private Map<String, String> parseCsvRecord(String line) {
+        List<String> fields = parseCsvFields(line);
+        
+        if (fields.size() != csvHeader.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + csvHeader.size() + " fields, got " 
+                            + fields.size() + ".");
+        }
+        
+        Map<String, String> record = new LinkedHashMap<>();
+        
+        for (int i = 0; i < fields.size(); i++) {
+            record.put(csvHeader.get(i), fields.get(i).trim());
+        }
+        
+        return record;
+    }
+    
+    /**
+     * Splits a CSV line into fields. A field may be quoted with double quotes,
+     * in which case a doubled double quote stands for itself.
+     * 
+     * @param line the CSV line.
+     * @return the fields.
+     */
+    static List<String> parseCsvFields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int index = 0;
+        
+        while (index < line.length()) {
+            char c = line.charAt(index++);
+            
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (index < line.length() 
+                        && line.charAt(index) == '"') {
+                    field.append('"');
+                    index++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field.");
+        }
+        
+        fields.add(field.toString());
+        return fields;
+    }
+    
+    /**
+     * Parses a flat JSON object whose values are strings, numbers, booleans or
+     * {@code null}. The values are returned in their textual form, with 
+     * {@code null} mapped to {@code null}.
+     * 
+     * @param line the JSON text.
+     * @return the keys mapped to the values.
+     */
+    static Map<String, String> parseFlatJsonObject(String line) {
+        return new FlatJsonObjectParser(line).parse();
+    }
+    
+    private static final class FlatJsonObjectParser {
+        
+        private final String text;
+        private int index;
+        
+        FlatJsonObjectParser(String text) {
+            this.text = text;
+        }
+        
+        Map<String, String> parse() {
+            Map<String, String> object = new LinkedHashMap<>();
+            
+            expect('{');
+            
+            if (peek() == '}') {
+                index++;
+            } else {
+                do {
+                    String key = parseString();
+                    expect(':');
+                    
+                    if (object.put(key, parseValue()) != null) {
+                        throw error("Duplicate key '" + key + "'");
+                    }
+                } while (tryConsume(','));
+                
+                expect('}');
+            }
+            
+            if (peek() != -1) {
+                throw error("Trailing characters");
+            }
+            
+            return object;
+        }
+        
+        private String parseValue() {
+            int c = peek();
+            
+            if (c == '"') {
+                return parseString();
+            }
+            
+            if (c == '{' || c == '[') {
+                throw error("Nested values are not supported");
+            }
+            
+            int start = index;
+            
+            while (index < text.length() 
+                    && ",}: \t".indexOf(text.charAt(index)) < 0) {
+                index++;
+            }
+            
+            String literal = text.substring(start, index);
+            
+            if (literal.equals("null")) {
+                return null;
+            }
+            
+            if (literal.equals("true") 
+                    || literal.equals("false") 
+                    || isNumber(literal)) {
+                return literal;
+            }
+            
+            throw error("Invalid value '" + literal + "'");
+        }
+        
+        /**
+         * Checks that {@code literal} is a JSON number, that is, matches 
+         * {@code -?(0|[1-9]\d*)(\.\d+)?([eE][+-]?\d+)?}.
+         */
+        private static boolean isNumber(String literal) {
+            int i = 0;
+            
+            if (i < literal.length() && literal.charAt(i) == '-') {
+                i++;
+            }
+            
+            if (i < literal.length() && literal.charAt(i) == '0') {
+                i++;
+            } else {
+                int digitsStart = i;
+                i = skipDigits(literal, i);
+                
+                if (i == digitsStart) {
+                    return false;
+                }
+            }
+            
+            if (i < literal.length() && literal.charAt(i) == '.') {
+                int digitsStart = ++i;
+                i = skipDigits(literal, i);
+                
+                if (i == digitsStart) {
+                    return false;
+                }
+            }
+            
+            if (i < literal.length() 
+                    && (literal.charAt(i) == 'e' 
+                            || literal.charAt(i) == 'E')) {
+                i++;
+                
+                if (i < literal.length() 
+                        && (literal.charAt(i) == '+' 
+                                || literal.charAt(i) == '-')) {
+                    i++;
+                }
+                
+                int digitsStart = i;
+                i = skipDigits(literal, i);
+                
+                if (i == digitsStart) {
+                    return false;
+                }
+            }
+            
+            return i == literal.length();
+        }
+        
+        private static int skipDigits(String literal, int i) {
+            while (i < literal.length() 
+                    && literal.charAt(i) >= '0' 
+                    && literal.charAt(i) <= '9') {
+                i++;
+            }
+            
+            return i;
+        }
+        
+        private String parseString() {
+            expect('"');
+            StringBuilder stringBuilder = new StringBuilder();
+            
+            while (index < text.length()) {
+                char c = text.charAt(index++);
+                
+                if (c == '"') {
+                    return stringBuilder.toString();
+                }
+                
+                if (c != '\\') {
+                    stringBuilder.append(c);
+                    continue;
+                }
+                
+                if (index >= text.length()) {
+                    break;
+                }
+                
+                char escaped = text.charAt(index++);
+                
+                switch (escaped) {
+                    case '"', '\\', '/' -> stringBuilder.append(escaped);
+                    case 'b' -> stringBuilder.append('\b');
+                    case 'f' -> stringBuilder.append('\f');
+                    case 'n' -> stringBuilder.append('\n');
+                    case 'r' -> stringBuilder.append('\r');
+                    case 't' -> stringBuilder.append('\t');
+                    case 'u' -> {
+                        if (index + 4 > text.length()) {
+                            throw error("Truncated unicode escape");
+                        }
+                        
+                        try {
+                            stringBuilder.append(
+                                    (char) Integer.parseInt(
+                                            text.substring(index, index + 4), 
+                                            16));
+                        } catch (NumberFormatException ex) {
+                            throw error("Invalid unicode escape");
+                        }
+                        
+                        index += 4;
+                    }
+                    default -> throw error(
+                            "Invalid escape '\\" + escaped + "'");
+                }
+            }
+            
+            throw error("Unterminated string");
+        }
+        
+        private void expect(char expected) {
+            if (!tryConsume(expected)) {
+                throw error("Expected '" + expected + "'");
+            }
+        }
+        
+        private boolean tryConsume(char expected) {
+            if (peek() == expected) {
+                index++;
+                return true;
+            }
+            
+            return false;
+        }
+        
+        /**
+         * Skips the whitespace and returns the next character, or -1 at the 
+         * end of the text.
+         */
+        private int peek() {
+            while (index < text.length() 
+                    && Character.isWhitespace(text.charAt(index))) {
+                index++;
+            }
+            
+            return index < text.length() ? text.charAt(index) : -1;
+        }
+        
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(
+                    message + " at column " + (index + 1) + ".");
+        }
+    }
+}
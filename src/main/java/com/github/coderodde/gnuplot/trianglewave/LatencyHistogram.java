@@ -0,0 +1,57 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class implements a lock-free latency histogram with power-of-two 
+ * buckets: bucket {@code i} counts the durations in 
+ * {@code [2^i, 2^(i + 1))} nanoseconds.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+final class LatencyHistogram {
+    
+    static final int NUMBER_OF_BUCKETS = Long.SIZE;
+    
+    private final AtomicLongArray bucketCounts = 
+            new AtomicLongArray(NUMBER_OF_BUCKETS);
+    
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maximumNanos = 
+            new LongAccumulator(Math::max, 0L);
+    
+    void record(long durationNanos, boolean successful) {
+        long nanos = Math.max(1L, durationNanos);
+        
+        bucketCounts.incrementAndGet(getBucketIndex(nanos));
+        totalNanos.add(nanos);
+        maximumNanos.accumulate(nanos);
+        
+        if (!successful) {
+            failureCount.increment();
+        }
+    }
+    
+    RenderStageStatistics snapshot(RenderStage stage) {
+        long[] counts = new long[NUMBER_OF_BUCKETS];
+        
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            counts[i] = bucketCounts.get(i);
+        }
+        
+        return new RenderStageStatistics(stage,
+                                         counts,
+                                         failureCount.sum(),
+                                         totalNanos.sum(),
+                                         maximumNanos.get());
+    }
+    
+    static int getBucketIndex(long nanos) {
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.util.Objects;
+
+/**
+ * This class describes an animation that steps a single wave parameter 
+ * linearly from a start value to an end value, both inclusive, over a given 
+ * number of frames.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class ParameterSweep {
+    
+    private final SweepParameter parameter;
+    private final double startValue;
+    private final double endValue;
+    private final int numberOfFrames;
+    
+    /**
+     * Constructs a sweep.
+     * 
+     * @param parameter      the swept parameter.
+     * @param startValue     the parameter value of the first frame.
+     * @param endValue       the parameter value of the last frame.
+     * @param numberOfFrames the number of frames, at least 1.
+     */
+    public ParameterSweep(SweepParameter parameter,
+                          double startValue,
+                          double endValue,
+                          int numberOfFrames) {
+        this.parameter = 
+                Objects.requireNonNull(parameter, 
+                                       "The input parameter is null.");
+        
+        this.startValue = requireFinite(startValue);
+        this.endValue = requireFinite(endValue);
+        
+        if (numberOfFrames < 1) {
+            throw new IllegalArgumentException(
+                    "Number of frames is too small: " 
+                            + numberOfFrames 
+                            + ". Must be at least 1.");
+        }
+        
+        this.numberOfFrames = numberOfFrames;
+    }
+    
+    public SweepParameter getParameter() {
+        return parameter;
+    }
+    
+    public double getStartValue() {
+        return startValue;
+    }
+    
+    public double getEndValue() {
+        return endValue;
+    }
+    
+    public int getNumberOfFrames() {
+        return numberOfFrames;
+    }
+    
+    /**
+     * Returns the difference of the parameter values of two consecutive 
+     * frames.
+     * 
+     * @return the step.
+     */
+    public double getStep() {
+        return numberOfFrames == 1 ? 
+                0.0 : 
+                (endValue - startValue) / (numberOfFrames - 1);
+    }
+    
+    /**
+     * Returns the parameter value of the frame {@code frame}.
+     * 
+     * @param frame the zero-based frame index.
+     * @return the parameter value.
+     */
+    public double getValue(int frame) {
+        Objects.checkIndex(frame, numberOfFrames);
+        return startValue + frame * getStep();
+    }
+    
+    /**
+     * Returns a copy of {@code configuration} with the swept parameter set to
+     * its value in the frame {@code frame}.
+     * 
+     * @param configuration the configuration of the animated wave.
+     * @param frame         the zero-based frame index.
+     * @return the configuration of the frame.
+     * @throws IllegalArgumentException if the parameter value is not valid.
+     */
+    public TriangleWavePlotterConfiguration 
+        createFrameConfiguration(TriangleWavePlotterConfiguration configuration,
+                                 int frame) {
+        
+        TriangleWavePlotterConfiguration.Builder builder = 
+                configuration.toBuilder();
+        
+        parameter.apply(builder, getValue(frame));
+        return builder.build();
+    }
+    
+    /**
+     * Returns the value the swept parameter has in the configuration of the 
+     * frame {@code frame}. Unlike {@link #getValue(int)}, this is the value
+     * after the builder has normalized it, e.g. after wrapping a shift into 
+     * {@code [0, 2 pi)}.
+     * 
+     * @param configuration the configuration of the animated wave.
+     * @param frame         the zero-based frame index.
+     * @return the parameter value of the frame.
+     * @throws IllegalArgumentException if the parameter value is not valid.
+     */
+    public double getFrameValue(TriangleWavePlotterConfiguration configuration,
+                                int frame) {
+        return parameter.get(createFrameConfiguration(configuration, frame));
+    }
+    
+    private static double requireFinite(double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException(
+                    "The sweep bound is not finite: " + value + ".");
+        }
+        
+        return value;
+    }
+}
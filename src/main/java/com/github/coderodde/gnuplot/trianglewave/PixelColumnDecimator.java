@@ -0,0 +1,222 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.util.Arrays;
+
+/**
+ * This class reduces a polyline to one minimum/maximum pair per pixel column.
+ * The polyline vertices are streamed through {@link #accept(double, double)},
+ * so the memory use is proportional to the number of columns and not to the 
+ * number of vertices.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class PixelColumnDecimator 
+        implements TriangleWavePolyline.VertexConsumer {
+    
+    private final double xStart;
+    private final double columnWidth;
+    private final double[] minimums;
+    private final double[] maximums;
+    private double previousX = Double.NaN;
+    private double previousY = Double.NaN;
+    
+    /**
+     * Constructs a decimator for the x-range {@code [xRangeStart, xRangeEnd]}.
+     * If the range is reversed, the columns still go in the order of 
+     * increasing x.
+     * 
+     * @param xRangeStart     the start of the x-range.
+     * @param xRangeEnd       the end of the x-range.
+     * @param numberOfColumns the number of pixel columns.
+     */
+    public PixelColumnDecimator(double xRangeStart, 
+                                double xRangeEnd, 
+                                int numberOfColumns) {
+        if (numberOfColumns < 1) {
+            throw new IllegalArgumentException(
+                    "Number of columns is too small: " 
+                            + numberOfColumns 
+                            + ". Must be at least 1.");
+        }
+        
+        this.xStart = Math.min(xRangeStart, xRangeEnd);
+        this.columnWidth = 
+                Math.abs(xRangeEnd - xRangeStart) / numberOfColumns;
+        
+        this.minimums = new double[numberOfColumns];
+        this.maximums = new double[numberOfColumns];
+        
+        Arrays.fill(minimums, Double.NaN);
+        Arrays.fill(maximums, Double.NaN);
+    }
+    
+    /**
+     * Decimates the wave described by {@code configuration} to 
+     * {@code numberOfColumns} columns. Instead of streaming all the vertices,
+     * each column is computed analytically, so the running time is 
+     * proportional to the number of columns regardless of the x-range.
+     * 
+     * @param configuration   the plot configuration.
+     * @param numberOfColumns the number of pixel columns.
+     * @return the decimator holding the column extrema.
+     */
+    public static PixelColumnDecimator decimate(
+            TriangleWavePlotterConfiguration configuration,
+            int numberOfColumns) {
+        
+        PixelColumnDecimator decimator = 
+                new PixelColumnDecimator(configuration.getXRangeStart(),
+                                         configuration.getXRangeEnd(),
+                                         numberOfColumns);
+        
+        double period    = configuration.getPeriod();
+        double amplitude = configuration.getAmplitude();
+        double shift     = configuration.getShift();
+        
+        for (int column = 0; column < numberOfColumns; column++) {
+            if (decimator.columnWidth >= period) {
+                // A full period fits into the column:
+                decimator.minimums[column] = -amplitude;
+                decimator.maximums[column] =  amplitude;
+                continue;
+            }
+            
+            int currentColumn = column;
+            double columnStart = decimator.xStart 
+                               + decimator.columnWidth * column;
+            
+            TriangleWavePolyline.forEachVertex(
+                    columnStart,
+                    columnStart + decimator.columnWidth,
+                    period,
+                    amplitude,
+                    shift,
+                    (x, y) -> decimator.update(currentColumn, y));
+        }
+        
+        return decimator;
+    }
+    
+    /**
+     * Decimates the wave described by {@code configuration} to as many 
+     * columns as there are pixels in the plot width.
+     * 
+     * @param configuration the plot configuration.
+     * @return the decimator holding the column extrema.
+     */
+    public static PixelColumnDecimator decimate(
+            TriangleWavePlotterConfiguration configuration) {
+        return decimate(configuration, 
+                        configuration.getPlotWidthInPixels());
+    }
+    
+    /**
+     * Accepts the next polyline vertex. The vertices must arrive in the order
+     * of non-decreasing x. Each segment between two consecutive vertices 
+     * updates all the columns it crosses.
+     * 
+     * @param x the x-coordinate of the vertex.
+     * @param y the y-coordinate of the vertex.
+     */
+    @Override
+    public void accept(double x, double y) {
+        if (Double.isNaN(previousX)) {
+            updateAt(x, y);
+            previousX = x;
+            previousY = y;
+            return;
+        }
+        
+        int firstColumn = (int) Math.max(0L, columnOf(previousX));
+        int lastColumn  = (int) Math.min(minimums.length - 1L, columnOf(x));
+        double slope = x == previousX ? 0.0 : (y - previousY) / (x - previousX);
+        
+        for (int column = firstColumn; column <= lastColumn; column++) {
+            double columnStart = xStart + columnWidth * column;
+            double x0 = Math.max(previousX, columnStart);
+            double x1 = Math.min(x, columnStart + columnWidth);
+            
+            update(column, previousY + slope * (x0 - previousX));
+            update(column, previousY + slope * (x1 - previousX));
+        }
+        
+        previousX = x;
+        previousY = y;
+    }
+    
+    public int getNumberOfColumns() {
+        return minimums.length;
+    }
+    
+    public double getMinimum(int column) {
+        return minimums[column];
+    }
+    
+    public double getMaximum(int column) {
+        return maximums[column];
+    }
+    
+    /**
+     * Feeds the decimated polyline to {@code consumer}: the extrema of each 
+     * column at the column center, ordered so that consecutive columns are 
+     * joined by the shorter vertical move. Empty columns are skipped.
+     * 
+     * @param consumer the vertex consumer.
+     */
+    public void forEachPoint(TriangleWavePolyline.VertexConsumer consumer) {
+        double lastY = Double.NaN;
+        
+        for (int column = 0; column < minimums.length; column++) {
+            double minimum = minimums[column];
+            double maximum = maximums[column];
+            
+            if (Double.isNaN(minimum)) {
+                continue;
+            }
+            
+            double x = xStart + columnWidth * (column + 0.5);
+            
+            if (minimum == maximum) {
+                consumer.accept(x, minimum);
+                lastY = minimum;
+            } else if (Double.isNaN(lastY) 
+                    || Math.abs(lastY - minimum) <= Math.abs(lastY - maximum)) {
+                consumer.accept(x, minimum);
+                consumer.accept(x, maximum);
+                lastY = maximum;
+            } else {
+                consumer.accept(x, maximum);
+                consumer.accept(x, minimum);
+                lastY = minimum;
+            }
+        }
+    }
+    
+    private long columnOf(double x) {
+        if (columnWidth == 0.0) {
+            return 0L;
+        }
+        
+        return (long) Math.floor((x - xStart) / columnWidth);
+    }
+    
+    private void updateAt(double x, double y) {
+        long column = columnOf(x);
+        
+        if (column >= 0L && column < minimums.length) {
+            update((int) column, y);
+        }
+    }
+    
+    private void update(int column, double y) {
+        if (Double.isNaN(minimums[column]) || y < minimums[column]) {
+            minimums[column] = y;
+        }
+        
+        if (Double.isNaN(maximums[column]) || y > maximums[column]) {
+            maximums[column] = y;
+        }
+    }
+}
@@ -0,0 +1,638 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This class implements a content-addressed cache of rendered PNGs. The keys 
+ * are SHA-256 hashes of the full plot configuration together with the name 
+ * and the version of the renderer. The cache has an in-memory tier and an 
+ * optional on-disk tier, each evicting the least recently used entries once 
+ * its byte or entry limit is exceeded.
+ * <p>
+ * The lock of the cache guards only the indices and the counters; the disk 
+ * files are read and written outside it, so a slow disk does not serialize 
+ * the renders. A disk hit refreshes the modification time of its file, which
+ * orders the disk tier after a restart.
+ * <p>
+ * Each disk file is named after its key and a generation number that is new
+ * for every write. Thus, deleting the file of an evicted or replaced entry
+ * never deletes the file a concurrent write has stored under the same key.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class RenderCache {
+    
+    private static final Logger LOGGER = 
+            Logger.getLogger(RenderCache.class.getSimpleName());
+    
+    private static final String PNG_FILE_SUFFIX = ".png";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final char GENERATION_SEPARATOR = '-';
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    
+    private final LruIndex<byte[]> memoryIndex;
+    
+    /**
+     * Maps the keys on disk to the generations of their files.
+     */
+    private final LruIndex<Long> diskIndex;
+    private final Path diskDirectory;
+    
+    /**
+     * Maps the keys being rendered by {@link #getOrRender} to the futures of
+     * their PNGs.
+     */
+    private final Map<String, CompletableFuture<byte[]>> pendingRenders = 
+            new HashMap<>();
+    
+    private long memoryHitCount;
+    private long diskHitCount;
+    private long missCount;
+    private long memoryEvictionCount;
+    private long diskEvictionCount;
+    private long nextDiskGeneration;
+    
+    /**
+     * Constructs a memory-only cache.
+     * 
+     * @param maximumMemoryBytes   the maximum total size of the cached PNGs.
+     * @param maximumMemoryEntries the maximum number of cached PNGs.
+     */
+    public RenderCache(long maximumMemoryBytes, int maximumMemoryEntries) {
+        this.memoryIndex = new LruIndex<>(maximumMemoryBytes, 
+                                          maximumMemoryEntries);
+        this.diskIndex = null;
+        this.diskDirectory = null;
+    }
+    
+    /**
+     * Constructs a cache with both the memory and the disk tier. The PNGs 
+     * already present in {@code diskDirectory} are adopted, oldest first, and
+     * the temporary files left by interrupted writes are deleted.
+     * 
+     * @param maximumMemoryBytes   the maximum total size of the PNGs in memory.
+     * @param maximumMemoryEntries the maximum number of PNGs in memory.
+     * @param diskDirectory        the directory of the disk tier.
+     * @param maximumDiskBytes     the maximum total size of the PNGs on disk.
+     * @param maximumDiskEntries   the maximum number of PNGs on disk.
+     * @throws IOException if the disk directory cannot be created or listed.
+     */
+    public RenderCache(long maximumMemoryBytes, 
+                       int maximumMemoryEntries,
+                       Path diskDirectory,
+                       long maximumDiskBytes,
+                       int maximumDiskEntries) throws IOException {
+        this.memoryIndex = new LruIndex<>(maximumMemoryBytes, 
+                                          maximumMemoryEntries);
+        this.diskIndex = new LruIndex<>(maximumDiskBytes, maximumDiskEntries);
+        this.diskDirectory = Files.createDirectories(diskDirectory);
+        
+        loadDiskIndex();
+    }
+    
+    /**
+     * Computes the cache key of rendering {@code configuration} with 
+     * {@code renderer}.
+     * 
+     * @param configuration the plot configuration.
+     * @param renderer      the renderer.
+     * @return the cache key.
+     */
+    public static String computeKey(
+            TriangleWavePlotterConfiguration configuration,
+            TriangleWaveRenderer renderer) {
+        return computeKey(List.of(configuration), renderer);
+    }
+    
+    /**
+     * Computes the cache key of rendering the overlay of 
+     * {@code configurations} with {@code renderer}.
+     * 
+     * @param configurations the configurations of the waves.
+     * @param renderer       the renderer.
+     * @return the cache key.
+     */
+    public static String computeKey(
+            List<TriangleWavePlotterConfiguration> configurations,
+            TriangleWaveRenderer renderer) {
+        
+        StringBuilder canonicalFormBuilder = 
+                new StringBuilder()
+                        .append(renderer.getName()).append('\n')
+                        .append(renderer.getVersion());
+        
+        for (TriangleWavePlotterConfiguration configuration 
+                : configurations) {
+            canonicalFormBuilder
+                    .append('\n')
+                    .append(configuration.getPeriod()).append('\n')
+                    .append(configuration.getAmplitude()).append('\n')
+                    .append(configuration.getShift()).append('\n')
+                    .append(configuration.getColor()).append('\n')
+                    .append(configuration.getLineWidth()).append('\n')
+                    .append(configuration.getXRangeStart()).append('\n')
+                    .append(configuration.getXRangeEnd()).append('\n')
+                    .append(configuration.getYRangeStart()).append('\n')
+                    .append(configuration.getYRangeEnd()).append('\n')
+                    .append(configuration.getPlotWidth()).append('\n')
+                    .append(configuration.getPlotHeight()).append('\n')
+                    .append(configuration.getSampling().getName())
+                    .append('\n')
+                    .append(configuration.isDecorated());
+        }
+        
+        String canonicalForm = canonicalFormBuilder.toString();
+        
+        try {
+            MessageDigest messageDigest = 
+                    MessageDigest.getInstance(DIGEST_ALGORITHM);
+            
+            return HexFormat.of().formatHex(
+                    messageDigest.digest(
+                            canonicalForm.getBytes(StandardCharsets.UTF_8)));
+        
+        } catch (NoSuchAlgorithmException ex) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(ex);
+        }
+    }
+    
+    /**
+     * Renders a PNG on a cache miss.
+     */
+    @FunctionalInterface
+    public interface PngRenderer {
+        byte[] render() throws IOException;
+    }
+    
+    /**
+     * Returns the cached PNG for {@code key}, or {@code null} if there is no 
+     * such. The returned array must not be modified.
+     * 
+     * @param key the cache key.
+     * @return the cached PNG or {@code null}.
+     */
+    public byte[] get(String key) {
+        Long generation;
+        
+        synchronized (this) {
+            byte[] png = memoryIndex.get(key);
+            
+            if (png != null) {
+                memoryHitCount++;
+                return png;
+            }
+            
+            generation = diskIndex == null ? null : diskIndex.get(key);
+            
+            if (generation == null) {
+                missCount++;
+                return null;
+            }
+        }
+        
+        Path diskFile = getDiskFile(key, generation);
+        
+        try {
+            byte[] png = Files.readAllBytes(diskFile);
+            touch(diskFile);
+            
+            synchronized (this) {
+                diskHitCount++;
+                putInMemory(key, png);
+            }
+            
+            return png;
+        } catch (NoSuchFileException ex) {
+            // Evicted or replaced meanwhile, or deleted by someone else. In 
+            // the last case, drop the stale entry:
+            synchronized (this) {
+                diskIndex.remove(key, generation);
+            }
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Could not read a cached PNG.", ex);
+        }
+        
+        synchronized (this) {
+            missCount++;
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Returns the cached PNG for {@code key}, rendering and caching it with 
+     * {@code pngRenderer} on a miss. Concurrent misses of the same key render
+     * the PNG only once: the other callers wait for the first one, and count
+     * as memory hits.
+     * 
+     * @param key         the cache key.
+     * @param pngRenderer renders the PNG on a miss.
+     * @return the PNG. Must not be modified.
+     * @throws IOException if rendering fails.
+     */
+    public byte[] getOrRender(String key, PngRenderer pngRenderer) 
+            throws IOException {
+        
+        CompletableFuture<byte[]> pendingRender;
+        boolean rendering = false;
+        
+        synchronized (this) {
+            pendingRender = pendingRenders.get(key);
+            
+            if (pendingRender == null) {
+                pendingRender = new CompletableFuture<>();
+                pendingRenders.put(key, pendingRender);
+                rendering = true;
+            } else {
+                memoryHitCount++;
+            }
+        }
+        
+        if (!rendering) {
+            return awaitRender(pendingRender);
+        }
+        
+        try {
+            byte[] png = get(key);
+            
+            if (png == null) {
+                png = pngRenderer.render();
+                put(key, png);
+            }
+            
+            pendingRender.complete(png);
+            return png;
+        } catch (IOException | RuntimeException | Error ex) {
+            pendingRender.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            synchronized (this) {
+                pendingRenders.remove(key);
+            }
+        }
+    }
+    
+    /**
+     * Stores {@code png} under {@code key} in every tier of this cache.
+     * 
+     * @param key the cache key.
+     * @param png the PNG data. Must not be modified afterwards.
+     */
+    public void put(String key, byte[] png) {
+        synchronized (this) {
+            putInMemory(key, png);
+        }
+        
+        if (diskIndex == null) {
+            return;
+        }
+        
+        long generation;
+        
+        synchronized (this) {
+            generation = nextDiskGeneration++;
+        }
+        
+        try {
+            Path temporaryFile = 
+                    Files.createTempFile(diskDirectory, 
+                                         key, 
+                                         TEMPORARY_FILE_SUFFIX);
+            
+            try {
+                Files.write(temporaryFile, png);
+                Files.move(temporaryFile, 
+                           getDiskFile(key, generation), 
+                           StandardCopyOption.REPLACE_EXISTING,
+                           StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Could not store a PNG on disk.", ex);
+            return;
+        }
+        
+        Map<String, Long> obsoleteFiles;
+        
+        synchronized (this) {
+            obsoleteFiles = putOnDisk(key, generation, png.length);
+        }
+        
+        deleteDiskFiles(obsoleteFiles);
+    }
+    
+    public synchronized long getMemoryHitCount() {
+        return memoryHitCount;
+    }
+    
+    public synchronized long getDiskHitCount() {
+        return diskHitCount;
+    }
+    
+    public synchronized long getHitCount() {
+        return memoryHitCount + diskHitCount;
+    }
+    
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+    
+    public synchronized long getMemoryEvictionCount() {
+        return memoryEvictionCount;
+    }
+    
+    public synchronized long getDiskEvictionCount() {
+        return diskEvictionCount;
+    }
+    
+    public synchronized long getMemoryBytes() {
+        return memoryIndex.totalBytes;
+    }
+    
+    public synchronized int getMemoryEntryCount() {
+        return memoryIndex.entries.size();
+    }
+    
+    public synchronized long getDiskBytes() {
+        return diskIndex == null ? 0L : diskIndex.totalBytes;
+    }
+    
+    public synchronized int getDiskEntryCount() {
+        return diskIndex == null ? 0 : diskIndex.entries.size();
+    }
+    
+    @Override
+    public synchronized String toString() {
+        return "memoryHits = "        + memoryHitCount
+             + ", diskHits = "        + diskHitCount
+             + ", misses = "          + missCount
+             + ", memoryEvictions = " + memoryEvictionCount
+             + ", diskEvictions = "   + diskEvictionCount
+             + ", memoryBytes = "     + memoryIndex.totalBytes
+             + ", memoryEntries = "   + memoryIndex.entries.size();
+    }
+    
+    private void putInMemory(String key, byte[] png) {
+        memoryEvictionCount += memoryIndex.put(key, png, png.length).size();
+    }
+    
+    /**
+     * Indexes the disk file of {@code key} and {@code generation}.
+     * 
+     * @return the key/generation pairs of the files to delete: the evicted 
+     *         ones, the one replaced, and the new one if it is not indexed.
+     */
+    private Map<String, Long> putOnDisk(String key, 
+                                        long generation, 
+                                        long size) {
+        Long previousGeneration = diskIndex.get(key);
+        Map<String, Long> obsoleteFiles = 
+                diskIndex.put(key, generation, size);
+        
+        diskEvictionCount += obsoleteFiles.size();
+        
+        if (previousGeneration != null) {
+            obsoleteFiles.put(key, previousGeneration);
+        }
+        
+        if (diskIndex.get(key) == null) {
+            // Larger than the byte limit:
+            obsoleteFiles.put(key, generation);
+        }
+        
+        return obsoleteFiles;
+    }
+    
+    private Path getDiskFile(String key, long generation) {
+        return diskDirectory.resolve(
+                key + GENERATION_SEPARATOR + generation + PNG_FILE_SUFFIX);
+    }
+    
+    /**
+     * Deletes the files of the input key/generation pairs.
+     */
+    private void deleteDiskFiles(Map<String, Long> generations) {
+        for (Map.Entry<String, Long> entry : generations.entrySet()) {
+            try {
+                Files.deleteIfExists(getDiskFile(entry.getKey(), 
+                                                 entry.getValue()));
+            } catch (IOException ex) {
+                LOGGER.log(Level.WARNING, 
+                           "Could not delete an evicted PNG.", 
+                           ex);
+            }
+        }
+    }
+    
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(
+                    file, 
+                    FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ex) {
+            // Only the order after a restart suffers.
+            LOGGER.log(Level.FINE, "Could not touch a cached PNG.", ex);
+        }
+    }
+    
+    private static byte[] awaitRender(CompletableFuture<byte[]> pendingRender)
+            throws IOException {
+        try {
+            return pendingRender.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            
+            if (cause instanceof IOException ioException) {
+                throw new IOException(ioException.getMessage(), ioException);
+            }
+            
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            
+            throw ex;
+        }
+    }
+    
+    private void loadDiskIndex() throws IOException {
+        try (DirectoryStream<Path> directoryStream = 
+                Files.newDirectoryStream(diskDirectory, 
+                                         "*" + TEMPORARY_FILE_SUFFIX)) {
+            for (Path temporaryFile : directoryStream) {
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+        
+        List<Path> files = new ArrayList<>();
+        
+        try (DirectoryStream<Path> directoryStream = 
+                Files.newDirectoryStream(diskDirectory, 
+                                         "*" + PNG_FILE_SUFFIX)) {
+            directoryStream.forEach(files::add);
+        }
+        
+        Map<Path, FileTime> modificationTimes = new LinkedHashMap<>();
+        
+        for (Path file : files) {
+            modificationTimes.put(file, Files.getLastModifiedTime(file));
+        }
+        
+        files.sort(Comparator.comparing(modificationTimes::get));
+        
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            String stem = 
+                    fileName.substring(
+                            0, 
+                            fileName.length() - PNG_FILE_SUFFIX.length());
+            
+            int separatorIndex = stem.lastIndexOf(GENERATION_SEPARATOR);
+            long generation = parseGeneration(stem, separatorIndex);
+            
+            if (generation < 0L) {
+                LOGGER.log(Level.FINE, "Skipping the foreign file {0}", file);
+                continue;
+            }
+            
+            String key = stem.substring(0, separatorIndex);
+            
+            for (Map.Entry<String, Long> entry : 
+                    putOnDisk(key, generation, Files.size(file)).entrySet()) {
+                Files.deleteIfExists(getDiskFile(entry.getKey(), 
+                                                 entry.getValue()));
+            }
+            
+            nextDiskGeneration = Math.max(nextDiskGeneration, generation + 1L);
+        }
+    }
+    
+    /**
+     * Returns the generation following {@code separatorIndex} in the stem of
+     * a disk file name, or -1 if there is no valid generation.
+     */
+    private static long parseGeneration(String stem, int separatorIndex) {
+        if (separatorIndex <= 0) {
+            return -1L;
+        }
+        
+        try {
+            return Math.max(-1L, 
+                            Long.parseLong(stem.substring(separatorIndex + 1)));
+        } catch (NumberFormatException ex) {
+            return -1L;
+        }
+    }
+    
+    /**
+     * Keeps the entries in the least recently used order and enforces the byte
+     * and entry limits.
+     * 
+     * @param <V> the value type.
+     */
+    private static final class LruIndex<V> {
+        
+        final Map<String, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+        final Map<String, Long> sizes = new LinkedHashMap<>();
+        final long maximumBytes;
+        final int maximumEntries;
+        long totalBytes;
+        
+        LruIndex(long maximumBytes, int maximumEntries) {
+            if (maximumBytes < 0L) {
+                throw new IllegalArgumentException(
+                        "Maximum bytes is negative: " + maximumBytes + ".");
+            }
+            
+            if (maximumEntries < 0) {
+                throw new IllegalArgumentException(
+                        "Maximum entries is negative: " 
+                                + maximumEntries 
+                                + ".");
+            }
+            
+            this.maximumBytes = maximumBytes;
+            this.maximumEntries = maximumEntries;
+        }
+        
+        V get(String key) {
+            return entries.get(key);
+        }
+        
+        void remove(String key) {
+            if (entries.remove(key) != null) {
+                totalBytes -= sizes.remove(key);
+            }
+        }
+        
+        /**
+         * Removes the entry of {@code key} only if it maps to {@code value}.
+         */
+        void remove(String key, V value) {
+            if (entries.containsKey(key) && entries.get(key).equals(value)) {
+                remove(key);
+            }
+        }
+        
+        /**
+         * Puts the entry and evicts the least recently used entries until the
+         * limits hold. An entry larger than the byte limit is not stored.
+         * 
+         * @return the evicted entries, in a mutable map.
+         */
+        Map<String, V> put(String key, V value, long size) {
+            remove(key);
+            Map<String, V> evictedEntries = new LinkedHashMap<>();
+            
+            if (size > maximumBytes || maximumEntries == 0) {
+                return evictedEntries;
+            }
+            
+            Iterator<Map.Entry<String, V>> iterator = 
+                    entries.entrySet().iterator();
+            
+            while (iterator.hasNext() 
+                    && (totalBytes + size > maximumBytes 
+                        || entries.size() + 1 > maximumEntries)) {
+                Map.Entry<String, V> evictedEntry = iterator.next();
+                iterator.remove();
+                totalBytes -= sizes.remove(evictedEntry.getKey());
+                evictedEntries.put(evictedEntry.getKey(), 
+                                   evictedEntry.getValue());
+            }
+            
+            entries.put(key, value);
+            sizes.put(key, size);
+            totalBytes += size;
+            return evictedEntries;
+        }
+    }
+}
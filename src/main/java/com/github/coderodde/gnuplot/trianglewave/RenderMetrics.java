@@ -0,0 +1,64 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * This class collects the per-stage latency histograms and failure counts of
+ * the renders. Each stage is also reported to JDK Flight Recorder as a 
+ * {@link RenderStageEvent}, so a recording started with 
+ * {@code -XX:StartFlightRecording} shows where the time of a slow render 
+ * went.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class RenderMetrics {
+    
+    private static final RenderMetrics DEFAULT_METRICS = new RenderMetrics();
+    
+    private final Map<RenderStage, LatencyHistogram> latencyHistograms = 
+            new EnumMap<>(RenderStage.class);
+    
+    RenderMetrics() {
+        for (RenderStage stage : RenderStage.values()) {
+            latencyHistograms.put(stage, new LatencyHistogram());
+        }
+    }
+    
+    /**
+     * Returns the metrics all the renderers of this class loader report to.
+     * 
+     * @return the default metrics.
+     */
+    public static RenderMetrics getDefault() {
+        return DEFAULT_METRICS;
+    }
+    
+    /**
+     * Starts timing {@code stage}.
+     * 
+     * @param stage the stage to time.
+     * @return the timer to close once the stage is over.
+     */
+    public RenderStageTimer startStage(RenderStage stage) {
+        return new RenderStageTimer(stage, latencyHistograms.get(stage));
+    }
+    
+    /**
+     * Returns the statistics of all the stages recorded so far.
+     * 
+     * @return the metrics snapshot.
+     */
+    public RenderMetricsSnapshot snapshot() {
+        Map<RenderStage, RenderStageStatistics> statistics = 
+                new EnumMap<>(RenderStage.class);
+        
+        latencyHistograms.forEach(
+                (stage, histogram) -> 
+                        statistics.put(stage, histogram.snapshot(stage)));
+        
+        return new RenderMetricsSnapshot(statistics);
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * This class holds the statistics of all the {@link RenderStage}s at some 
+ * point in time.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class RenderMetricsSnapshot {
+    
+    private static final double NANOS_PER_MILLISECOND = 1_000_000.0;
+    
+    private static final String HEADER_FORMAT = 
+            "%-17s %8s %8s %10s %10s %10s %10s %10s%n";
+    
+    private static final String ROW_FORMAT = 
+            "%-17s %8d %8d %10.3f %10.3f %10.3f %10.3f %10.3f%n";
+    
+    private final Map<RenderStage, RenderStageStatistics> statistics;
+    
+    RenderMetricsSnapshot(Map<RenderStage, RenderStageStatistics> statistics) {
+        this.statistics = Collections.unmodifiableMap(statistics);
+    }
+    
+    public RenderStageStatistics getStatistics(RenderStage stage) {
+        return statistics.get(stage);
+    }
+    
+    public Map<RenderStage, RenderStageStatistics> getAllStatistics() {
+        return statistics;
+    }
+    
+    /**
+     * Returns a table of the stages that have been recorded at least once, 
+     * with the latencies in milliseconds.
+     * 
+     * @return the textual representation of this snapshot.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        
+        stringBuilder.append(
+                HEADER_FORMAT.formatted("stage", 
+                                        "count", 
+                                        "failed", 
+                                        "mean ms", 
+                                        "p50 ms", 
+                                        "p90 ms", 
+                                        "p99 ms", 
+                                        "max ms"));
+        
+        for (RenderStageStatistics stageStatistics : statistics.values()) {
+            if (stageStatistics.getCount() == 0L) {
+                continue;
+            }
+            
+            stringBuilder.append(
+                    ROW_FORMAT.formatted(
+                            stageStatistics.getStage().getName(),
+                            stageStatistics.getCount(),
+                            stageStatistics.getFailureCount(),
+                            toMilliseconds(stageStatistics.getMeanNanos()),
+                            toMilliseconds(
+                                    stageStatistics.getPercentileNanos(50.0)),
+                            toMilliseconds(
+                                    stageStatistics.getPercentileNanos(90.0)),
+                            toMilliseconds(
+                                    stageStatistics.getPercentileNanos(99.0)),
+                            toMilliseconds(
+                                    stageStatistics.getMaximumNanos())));
+        }
+        
+        return stringBuilder.toString();
+    }
+    
+    private static double toMilliseconds(double nanos) {
+        return nanos / NANOS_PER_MILLISECOND;
+    }
+}
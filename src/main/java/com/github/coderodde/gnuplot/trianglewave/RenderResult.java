@@ -0,0 +1,45 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+/**
+ * This class holds the outcome of a single render job.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class RenderResult {
+    
+    private final TriangleWavePlotJob job;
+    private final Exception failure;
+    private final long durationNanos;
+    
+    RenderResult(TriangleWavePlotJob job, 
+                 Exception failure, 
+                 long durationNanos) {
+        this.job = job;
+        this.failure = failure;
+        this.durationNanos = durationNanos;
+    }
+    
+    public TriangleWavePlotJob getJob() {
+        return job;
+    }
+    
+    /**
+     * Returns the exception that made the job fail, or {@code null} if the 
+     * job succeeded.
+     * 
+     * @return the failure or {@code null}.
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+    
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+    
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+}
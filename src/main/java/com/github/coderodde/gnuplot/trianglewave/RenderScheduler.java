@@ -0,0 +1,284 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This class runs render jobs on a bounded pool of worker threads. Each worker
+ * owns a renderer obtained from a {@link RendererFactory}, so the workers may 
+ * be backed by Gnuplot sessions or by in-process renderers. The jobs are 
+ * pulled lazily from the input: once {@code queueCapacity} jobs wait for a 
+ * worker, the caller blocks until a worker becomes free. A worker dying of 
+ * anything but a failed render, such as an exception thrown by the result 
+ * consumer, cancels the run instead of leaving the caller blocked on a full 
+ * queue.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class RenderScheduler {
+    
+    private static final Logger LOGGER = 
+            Logger.getLogger(RenderScheduler.class.getSimpleName());
+    
+    private static final String WORKER_NAME_PREFIX = "render-worker-";
+    
+    /**
+     * How long the caller waits for a free queue slot before checking the 
+     * workers again.
+     */
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+    
+    /**
+     * Marks the end of the job stream for a worker.
+     */
+    private static final TriangleWavePlotJob END_OF_JOBS = 
+            new TriangleWavePlotJob(new TriangleWavePlotterConfiguration(), "");
+    
+    /**
+     * Creates the renderer of a worker.
+     */
+    @FunctionalInterface
+    public interface RendererFactory {
+        TriangleWaveRenderer createRenderer() throws IOException;
+    }
+    
+    private final RendererFactory rendererFactory;
+    private final int numberOfWorkers;
+    private final int queueCapacity;
+    
+    /**
+     * Constructs a scheduler.
+     * 
+     * @param rendererFactory the factory of the worker renderers. A factory 
+     *                        may return the same thread-safe renderer each 
+     *                        time.
+     * @param numberOfWorkers the number of worker threads.
+     * @param queueCapacity   the maximum number of jobs waiting for a worker.
+     */
+    public RenderScheduler(RendererFactory rendererFactory,
+                           int numberOfWorkers,
+                           int queueCapacity) {
+        this.rendererFactory = 
+                Objects.requireNonNull(
+                        rendererFactory, 
+                        "The input renderer factory is null.");
+        
+        if (numberOfWorkers < 1) {
+            throw new IllegalArgumentException(
+                    "Number of workers is too small: " 
+                            + numberOfWorkers 
+                            + ". Must be at least 1.");
+        }
+        
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException(
+                    "Queue capacity is too small: " 
+                            + queueCapacity 
+                            + ". Must be at least 1.");
+        }
+        
+        this.numberOfWorkers = numberOfWorkers;
+        this.queueCapacity = queueCapacity;
+    }
+    
+    /**
+     * Renders all the {@code jobs} and waits for them to complete. A failing 
+     * job does not stop the others.
+     * 
+     * @param jobs           the jobs to render.
+     * @param resultConsumer receives the result of each job. Called by one 
+     *                       worker at a time.
+     * @return the summary of the run.
+     * @throws IOException           if a worker renderer cannot be created.
+     * @throws InterruptedException  if interrupted while waiting.
+     * @throws IllegalStateException if a worker fails outside a render, for 
+     *                               example if {@code resultConsumer} 
+     *                               throws.
+     */
+    public RenderSummary renderAll(Iterable<TriangleWavePlotJob> jobs,
+                                   Consumer<RenderResult> resultConsumer) 
+            throws IOException, InterruptedException {
+        
+        List<TriangleWaveRenderer> renderers = createRenderers();
+        BlockingQueue<TriangleWavePlotJob> jobQueue = 
+                new ArrayBlockingQueue<>(queueCapacity);
+        
+        AtomicLong numberOfSucceededJobs = new AtomicLong();
+        AtomicLong numberOfFailedJobs = new AtomicLong();
+        AtomicReference<Throwable> workerFailure = new AtomicReference<>();
+        List<Thread> workers = new ArrayList<>(numberOfWorkers);
+        long startTime = System.nanoTime();
+        
+        try {
+            for (int i = 0; i < numberOfWorkers; i++) {
+                TriangleWaveRenderer renderer = renderers.get(i);
+                
+                workers.add(
+                        Thread.ofPlatform()
+                              .name(WORKER_NAME_PREFIX + i)
+                              .start(() -> {
+                                  try {
+                                      work(renderer, 
+                                           jobQueue, 
+                                           resultConsumer,
+                                           numberOfSucceededJobs,
+                                           numberOfFailedJobs);
+                                  } catch (Throwable ex) {
+                                      workerFailure.compareAndSet(null, ex);
+                                  }
+                              }));
+            }
+            
+            try {
+                for (TriangleWavePlotJob job : jobs) {
+                    put(jobQueue, job, workerFailure);
+                }
+                
+                for (int i = 0; i < numberOfWorkers; i++) {
+                    put(jobQueue, END_OF_JOBS, workerFailure);
+                }
+            } catch (InterruptedException | RuntimeException | Error ex) {
+                workers.forEach(Thread::interrupt);
+                throw ex;
+            } finally {
+                for (Thread worker : workers) {
+                    worker.join();
+                }
+            }
+        } finally {
+            closeRenderers(renderers);
+        }
+        
+        throwIfWorkerFailed(workerFailure);
+        
+        return new RenderSummary(numberOfSucceededJobs.get(),
+                                 numberOfFailedJobs.get(),
+                                 System.nanoTime() - startTime);
+    }
+    
+    /**
+     * Puts {@code job} into {@code jobQueue}, waiting for a free slot as long
+     * as no worker has failed.
+     */
+    private static void put(BlockingQueue<TriangleWavePlotJob> jobQueue,
+                            TriangleWavePlotJob job,
+                            AtomicReference<Throwable> workerFailure) 
+            throws InterruptedException {
+        do {
+            throwIfWorkerFailed(workerFailure);
+        } while (!jobQueue.offer(job, 
+                                 OFFER_TIMEOUT_MILLIS, 
+                                 TimeUnit.MILLISECONDS));
+    }
+    
+    private static void throwIfWorkerFailed(
+            AtomicReference<Throwable> workerFailure) {
+        
+        Throwable failure = workerFailure.get();
+        
+        if (failure != null) {
+            throw new IllegalStateException("A render worker failed.", 
+                                            failure);
+        }
+    }
+    
+    private static void work(TriangleWaveRenderer renderer,
+                             BlockingQueue<TriangleWavePlotJob> jobQueue,
+                             Consumer<RenderResult> resultConsumer,
+                             AtomicLong numberOfSucceededJobs,
+                             AtomicLong numberOfFailedJobs) {
+        while (true) {
+            TriangleWavePlotJob job;
+            
+            try {
+                job = jobQueue.take();
+            } catch (InterruptedException ex) {
+                return;
+            }
+            
+            if (job == END_OF_JOBS) {
+                return;
+            }
+            
+            long startTime = System.nanoTime();
+            Exception failure = null;
+            
+            try (RenderStageTimer timer = 
+                    RenderMetrics.getDefault()
+                                 .startStage(RenderStage.RENDER)) {
+                if (job.getConfigurations().size() == 1) {
+                    renderer.render(job.getConfiguration(), 
+                                    Path.of(job.getOutputFileName()));
+                } else {
+                    renderer.renderOverlay(job.getConfigurations(), 
+                                           Path.of(job.getOutputFileName()));
+                }
+                
+                timer.markSuccessful();
+                numberOfSucceededJobs.incrementAndGet();
+            } catch (IOException | RuntimeException ex) {
+                failure = ex;
+                numberOfFailedJobs.incrementAndGet();
+            }
+            
+            RenderResult result = 
+                    new RenderResult(job, 
+                                     failure, 
+                                     System.nanoTime() - startTime);
+            
+            synchronized (resultConsumer) {
+                resultConsumer.accept(result);
+            }
+        }
+    }
+    
+    private List<TriangleWaveRenderer> createRenderers() throws IOException {
+        List<TriangleWaveRenderer> renderers = 
+                new ArrayList<>(numberOfWorkers);
+        
+        try {
+            for (int i = 0; i < numberOfWorkers; i++) {
+                renderers.add(rendererFactory.createRenderer());
+            }
+        } catch (IOException | RuntimeException ex) {
+            closeRenderers(renderers);
+            throw ex;
+        }
+        
+        return renderers;
+    }
+    
+    private static void closeRenderers(List<TriangleWaveRenderer> renderers) {
+        Set<TriangleWaveRenderer> closedRenderers = 
+                Collections.newSetFromMap(new IdentityHashMap<>());
+        
+        for (TriangleWaveRenderer renderer : renderers) {
+            if (renderer instanceof AutoCloseable closeable 
+                    && closedRenderers.add(renderer)) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    LOGGER.log(Level.WARNING, 
+                               "Could not close a renderer.", 
+                               ex);
+                }
+            }
+        }
+    }
+}
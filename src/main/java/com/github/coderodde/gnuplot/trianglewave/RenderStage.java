@@ -0,0 +1,71 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+/**
+ * This enumeration lists the instrumented stages of a render.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public enum RenderStage {
+    
+    /**
+     * Reading and compiling the Gnuplot script template.
+     */
+    TEMPLATE_LOADING("templateLoading"),
+    
+    /**
+     * Filling the script template with the plot configuration.
+     */
+    SCRIPT_GENERATION("scriptGeneration"),
+    
+    /**
+     * Writing the script to a temporary file.
+     */
+    SCRIPT_FILE_WRITE("scriptFileWrite"),
+    
+    /**
+     * Starting the Gnuplot process.
+     */
+    PROCESS_SPAWN("processSpawn"),
+    
+    /**
+     * Gnuplot running the script, from the spawn until the plot is done.
+     */
+    GNUPLOT_DRAWING("gnuplotDrawing"),
+    
+    /**
+     * Drawing the plot into an in-memory image.
+     */
+    IMAGE_DRAWING("imageDrawing"),
+    
+    /**
+     * Encoding an in-memory image as PNG.
+     */
+    PNG_ENCODING("pngEncoding"),
+    
+    /**
+     * Copying the pixels of the tiles of a tiled plot into its raster.
+     */
+    TILE_STITCHING("tileStitching"),
+    
+    /**
+     * Encoding the frames of a sweep as an animated GIF.
+     */
+    GIF_ENCODING("gifEncoding"),
+    
+    /**
+     * A whole render, as seen by the command line, batch or server modes.
+     */
+    RENDER("render");
+    
+    private final String name;
+    
+    RenderStage(String name) {
+        this.name = name;
+    }
+    
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class implements the JDK Flight Recorder event emitted for each 
+ * {@link RenderStage} of a render.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+@Name("com.github.coderodde.gnuplot.trianglewave.RenderStage")
+@Label("Render Stage")
+@Category("Triangle Wave Plotter")
+@Description("A stage of a triangle wave render.")
+final class RenderStageEvent extends Event {
+    
+    @Label("Stage")
+    String stage;
+    
+    @Label("Successful")
+    boolean successful;
+}
@@ -0,0 +1,100 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.util.Objects;
+
+/**
+ * This class holds the latency statistics of a {@link RenderStage} at some 
+ * point in time. The percentiles are accurate up to a factor of two.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class RenderStageStatistics {
+    
+    private final RenderStage stage;
+    private final long[] bucketCounts;
+    private final long count;
+    private final long failureCount;
+    private final long totalNanos;
+    private final long maximumNanos;
+    
+    RenderStageStatistics(RenderStage stage,
+                          long[] bucketCounts,
+                          long failureCount,
+                          long totalNanos,
+                          long maximumNanos) {
+        this.stage = Objects.requireNonNull(stage, "The input stage is null.");
+        this.bucketCounts = bucketCounts;
+        this.failureCount = failureCount;
+        this.totalNanos = totalNanos;
+        this.maximumNanos = maximumNanos;
+        
+        long count = 0L;
+        
+        for (long bucketCount : bucketCounts) {
+            count += bucketCount;
+        }
+        
+        this.count = count;
+    }
+    
+    public RenderStage getStage() {
+        return stage;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public long getFailureCount() {
+        return failureCount;
+    }
+    
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+    
+    public long getMaximumNanos() {
+        return maximumNanos;
+    }
+    
+    public double getMeanNanos() {
+        return count == 0L ? 0.0 : (double) totalNanos / count;
+    }
+    
+    /**
+     * Returns an upper bound of the {@code percentile}th percentile of the 
+     * latency.
+     * 
+     * @param percentile the percentile within {@code [0, 100]}.
+     * @return the percentile latency in nanoseconds, or 0 if nothing has been
+     *         recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException(
+                    "Percentile is not within [0, 100]: " + percentile + ".");
+        }
+        
+        if (count == 0L) {
+            return 0L;
+        }
+        
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0L;
+        
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            
+            if (seen >= rank) {
+                long bucketUpperBound = 
+                        i >= Long.SIZE - 2 ? Long.MAX_VALUE : 1L << (i + 1);
+                
+                return Math.min(bucketUpperBound, maximumNanos);
+            }
+        }
+        
+        return maximumNanos;
+    }
+}
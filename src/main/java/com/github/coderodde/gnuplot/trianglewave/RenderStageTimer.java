@@ -0,0 +1,43 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+/**
+ * This class times a single {@link RenderStage}. Closing the timer records 
+ * the duration in the metrics and commits a {@link RenderStageEvent}. The 
+ * stage counts as failed unless {@link #markSuccessful()} has been called.
+ * A timer may be closed by a thread other than the one that started it.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class RenderStageTimer implements AutoCloseable {
+    
+    private final RenderStage stage;
+    private final LatencyHistogram latencyHistogram;
+    private final RenderStageEvent event = new RenderStageEvent();
+    private final long startNanos;
+    private volatile boolean successful;
+    
+    RenderStageTimer(RenderStage stage, LatencyHistogram latencyHistogram) {
+        this.stage = stage;
+        this.latencyHistogram = latencyHistogram;
+        this.event.begin();
+        this.startNanos = System.nanoTime();
+    }
+    
+    public void markSuccessful() {
+        successful = true;
+    }
+    
+    @Override
+    public void close() {
+        latencyHistogram.record(System.nanoTime() - startNanos, successful);
+        event.end();
+        
+        if (event.shouldCommit()) {
+            event.stage = stage.getName();
+            event.successful = successful;
+            event.commit();
+        }
+    }
+}
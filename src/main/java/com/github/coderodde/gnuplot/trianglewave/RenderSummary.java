@@ -0,0 +1,68 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class summarizes a completed run of a {@link RenderScheduler}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class RenderSummary {
+    
+    private final long numberOfSucceededJobs;
+    private final long numberOfFailedJobs;
+    private final long elapsedNanos;
+    
+    RenderSummary(long numberOfSucceededJobs, 
+                  long numberOfFailedJobs, 
+                  long elapsedNanos) {
+        this.numberOfSucceededJobs = numberOfSucceededJobs;
+        this.numberOfFailedJobs = numberOfFailedJobs;
+        this.elapsedNanos = elapsedNanos;
+    }
+    
+    public long getNumberOfJobs() {
+        return numberOfSucceededJobs + numberOfFailedJobs;
+    }
+    
+    public long getNumberOfSucceededJobs() {
+        return numberOfSucceededJobs;
+    }
+    
+    public long getNumberOfFailedJobs() {
+        return numberOfFailedJobs;
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    /**
+     * Returns the number of jobs, successful or not, completed per second.
+     * 
+     * @return the throughput.
+     */
+    public double getJobsPerSecond() {
+        return elapsedNanos == 0L ? 
+                0.0 : 
+                getNumberOfJobs() * (double) TimeUnit.SECONDS.toNanos(1L) 
+                                  / elapsedNanos;
+    }
+    
+    @Override
+    public String toString() {
+        return "Generated " 
+                + numberOfSucceededJobs 
+                + " out of " 
+                + getNumberOfJobs() 
+                + " plots in " 
+                + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) 
+                + " ms (" 
+                + String.format("%.1f", getJobsPerSecond()) 
+                + " plots/s), " 
+                + numberOfFailedJobs 
+                + " failed.";
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * This class writes an 8-bit RGB PNG one row at a time. Only a single row and
+ * the compressor state are held in memory, so the size of the image is not
+ * limited by the heap.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+final class StreamingPngWriter implements AutoCloseable {
+    
+    static final int BYTES_PER_PIXEL = 3;
+    
+    private static final byte[] PNG_SIGNATURE = {
+        (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'
+    };
+    
+    private static final class ChunkTypes {
+        static final String HEADER = "IHDR";
+        static final String DATA   = "IDAT";
+        static final String END    = "IEND";
+    }
+    
+    private static final class Header {
+        static final int BIT_DEPTH          = 8;
+        static final int COLOR_TYPE_RGB     = 2;
+        static final int COMPRESSION_METHOD = 0;
+        static final int FILTER_METHOD      = 0;
+        static final int INTERLACE_METHOD   = 0;
+    }
+    
+    private static final int FILTER_TYPE_NONE = 0;
+    private static final int MAXIMUM_DATA_CHUNK_LENGTH = 64 * 1024;
+    
+    private final DataOutputStream outputStream;
+    private final int width;
+    private final int height;
+    private final Deflater deflater;
+    private final DeflaterOutputStream imageDataStream;
+    private int numberOfWrittenRows;
+    
+    /**
+     * Writes the PNG signature and header to {@code outputStream}.
+     * 
+     * @param outputStream the stream receiving the PNG. It is not closed.
+     * @param width        the image width in pixels.
+     * @param height       the image height in pixels.
+     * @throws IOException if writing fails.
+     */
+    StreamingPngWriter(OutputStream outputStream, int width, int height)
+            throws IOException {
+        Objects.requireNonNull(outputStream, 
+                               "The input output stream is null.");
+        
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException(
+                    "Bad image size: " + width + " x " + height + ".");
+        }
+        
+        this.outputStream = new DataOutputStream(outputStream);
+        this.width = width;
+        this.height = height;
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        this.imageDataStream = 
+                new DeflaterOutputStream(new DataChunkOutputStream(), 
+                                         deflater, 
+                                         MAXIMUM_DATA_CHUNK_LENGTH);
+        
+        this.outputStream.write(PNG_SIGNATURE);
+        
+        byte[] header = new byte[13];
+        writeInt(header, 0, width);
+        writeInt(header, 4, height);
+        header[8]  = Header.BIT_DEPTH;
+        header[9]  = Header.COLOR_TYPE_RGB;
+        header[10] = Header.COMPRESSION_METHOD;
+        header[11] = Header.FILTER_METHOD;
+        header[12] = Header.INTERLACE_METHOD;
+        writeChunk(ChunkTypes.HEADER, header, 0, header.length);
+    }
+    
+    /**
+     * Writes the next row of the image.
+     * 
+     * @param row the red, green and blue bytes of each pixel of the row.
+     * @throws IOException if writing fails.
+     */
+    void writeRow(byte[] row) throws IOException {
+        if (row.length != width * BYTES_PER_PIXEL) {
+            throw new IllegalArgumentException(
+                    "Bad row length: "
+                            + row.length
+                            + ". Must be "
+                            + width * BYTES_PER_PIXEL
+                            + ".");
+        }
+        
+        if (numberOfWrittenRows == height) {
+            throw new IllegalStateException("All the rows are written.");
+        }
+        
+        imageDataStream.write(FILTER_TYPE_NONE);
+        imageDataStream.write(row);
+        numberOfWrittenRows++;
+    }
+    
+    /**
+     * Finishes the image data and writes the end chunk.
+     * 
+     * @throws IOException if not all the rows are written or writing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (numberOfWrittenRows != height) {
+                throw new IOException(
+                        "Only "
+                                + numberOfWrittenRows
+                                + " out of "
+                                + height
+                                + " rows written.");
+            }
+            
+            imageDataStream.finish();
+            writeChunk(ChunkTypes.END, new byte[0], 0, 0);
+            outputStream.flush();
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    private void writeChunk(String type, 
+                            byte[] data, 
+                            int offset, 
+                            int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, offset, length);
+        
+        outputStream.writeInt(length);
+        outputStream.write(typeBytes);
+        outputStream.write(data, offset, length);
+        outputStream.writeInt((int) crc.getValue());
+    }
+    
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset]     = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+    
+    /**
+     * Packs the compressed image data into {@code IDAT} chunks.
+     */
+    private final class DataChunkOutputStream extends OutputStream {
+        
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{ (byte) b }, 0, 1);
+        }
+        
+        @Override
+        public void write(byte[] bytes, int offset, int length)
+                throws IOException {
+            while (length > 0) {
+                int chunkLength = Math.min(length, MAXIMUM_DATA_CHUNK_LENGTH);
+                writeChunk(ChunkTypes.DATA, bytes, offset, chunkLength);
+                offset += chunkLength;
+                length -= chunkLength;
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+/**
+ * This enumeration lists the wave parameters a {@link ParameterSweep} may 
+ * step through.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public enum SweepParameter {
+    
+    PERIOD("period"),
+    AMPLITUDE("amplitude"),
+    SHIFT("shift");
+    
+    private final String name;
+    
+    SweepParameter(String name) {
+        this.name = name;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Sets this parameter of the configuration built by {@code builder} to
+     * {@code value}.
+     * 
+     * @param builder the configuration builder.
+     * @param value   the parameter value.
+     */
+    public void apply(TriangleWavePlotterConfiguration.Builder builder, 
+                      double value) {
+        switch (this) {
+            case PERIOD    -> builder.setPeriod(value);
+            case AMPLITUDE -> builder.setAmplitude(value);
+            case SHIFT     -> builder.setShift(value);
+        }
+    }
+    
+    /**
+     * Returns the value of this parameter in {@code configuration}.
+     * 
+     * @param configuration the plot configuration.
+     * @return the parameter value.
+     */
+    public double get(TriangleWavePlotterConfiguration configuration) {
+        return switch (this) {
+            case PERIOD    -> configuration.getPeriod();
+            case AMPLITUDE -> configuration.getAmplitude();
+            case SHIFT     -> configuration.getShift();
+        };
+    }
+    
+    public static SweepParameter fromName(String name) {
+        for (SweepParameter parameter : values()) {
+            if (parameter.name.equals(name)) {
+                return parameter;
+            }
+        }
+        
+        throw new IllegalArgumentException(
+                "Unknown sweep parameter = '" + name + "'");
+    }
+}
@@ -0,0 +1,407 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This class renders all the frames of a {@link ParameterSweep}, either in a
+ * single Gnuplot run looping over the frames with {@code do for}, or as
+ * independent plot jobs spread over the workers of a
+ * {@link RenderScheduler}. The frames become a numbered PNG sequence next to
+ * the output file, or, if the output file name ends with {@code .gif}, a
+ * looping animated GIF.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class SweepRenderer {
+    
+    private static final Logger LOGGER = 
+            Logger.getLogger(SweepRenderer.class.getSimpleName());
+    
+    static final Duration DEFAULT_FRAME_DELAY = Duration.ofMillis(40L);
+    
+    private static final String GIF_EXTENSION = ".gif";
+    private static final String FRAME_SEPARATOR = "-";
+    private static final String TEMPORARY_FRAME_DIRECTORY_PREFIX = 
+            "triangle-wave-frames-";
+    
+    private static final String TEMPORARY_FRAME_FILE_NAME = "frame.png";
+    private static final int MINIMUM_FRAME_NUMBER_WIDTH = 4;
+    
+    /**
+     * Lists the ways the frames are rendered.
+     */
+    public enum Strategy {
+        
+        /**
+         * All the frames are plotted by a Gnuplot {@code do for} loop in a
+         * single Gnuplot run.
+         */
+        LOOP("loop"),
+        
+        /**
+         * Each frame is a plot job of its own, rendered in parallel by the
+         * workers of a {@link RenderScheduler}.
+         */
+        PARALLEL("parallel");
+        
+        private final String name;
+        
+        Strategy(String name) {
+            this.name = name;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public static Strategy fromName(String name) {
+            for (Strategy strategy : values()) {
+                if (strategy.name.equals(name)) {
+                    return strategy;
+                }
+            }
+            
+            throw new IllegalArgumentException(
+                    "Unknown sweep strategy = '" + name + "'");
+        }
+    }
+    
+    private final GnuplotRenderer gnuplotRenderer;
+    private final RenderScheduler renderScheduler;
+    private final Duration frameDelay;
+    
+    private SweepRenderer(GnuplotRenderer gnuplotRenderer, 
+                          RenderScheduler renderScheduler, 
+                          Duration frameDelay) {
+        this.gnuplotRenderer = gnuplotRenderer;
+        this.renderScheduler = renderScheduler;
+        this.frameDelay = 
+                Objects.requireNonNull(frameDelay, 
+                                       "The input frame delay is null.");
+        
+        if (frameDelay.isNegative() || frameDelay.isZero()) {
+            throw new IllegalArgumentException(
+                    "Frame delay is not positive: " + frameDelay + ".");
+        }
+    }
+    
+    /**
+     * Creates a sweep renderer plotting all the frames in a single run of
+     * {@code gnuplotRenderer}. The timeout of {@code gnuplotRenderer} applies
+     * to the whole sweep.
+     * 
+     * @param gnuplotRenderer the Gnuplot renderer.
+     * @param frameDelay      the display time of a frame of an animated GIF.
+     * @return the sweep renderer.
+     */
+    public static SweepRenderer
+        withGnuplotLoop(GnuplotRenderer gnuplotRenderer, Duration frameDelay) {
+        
+        return new SweepRenderer(
+                Objects.requireNonNull(
+                        gnuplotRenderer, 
+                        "The input Gnuplot renderer is null."), 
+                null, 
+                frameDelay);
+    }
+    
+    /**
+     * Creates a sweep renderer plotting the frames in parallel on
+     * {@code renderScheduler}.
+     * 
+     * @param renderScheduler the scheduler of the frame jobs.
+     * @param frameDelay      the display time of a frame of an animated GIF.
+     * @return the sweep renderer.
+     */
+    public static SweepRenderer
+        withScheduler(RenderScheduler renderScheduler, Duration frameDelay) {
+        
+        return new SweepRenderer(
+                null, 
+                Objects.requireNonNull(
+                        renderScheduler, 
+                        "The input render scheduler is null."), 
+                frameDelay);
+    }
+    
+    /**
+     * Renders all the frames of {@code sweep}.
+     * 
+     * @param configuration the configuration of the animated wave.
+     * @param sweep         the parameter sweep.
+     * @param outputFile    the animated GIF file, or the file name from which
+     *                      the frame file names are derived.
+     * @return the summary of the rendered frames.
+     * @throws IOException          if the frames or the GIF cannot be
+     *                              written.
+     * @throws InterruptedException if interrupted while waiting for the
+     *                              workers.
+     */
+    public RenderSummary render(TriangleWavePlotterConfiguration configuration, 
+                                ParameterSweep sweep, 
+                                Path outputFile)
+            throws IOException, InterruptedException {
+        
+        Objects.requireNonNull(configuration, 
+                               "The input configuration is null.");
+        Objects.requireNonNull(sweep, "The input sweep is null.");
+        
+        // The parameter changes linearly, so the end frames bound it:
+        sweep.createFrameConfiguration(configuration, 0);
+        sweep.createFrameConfiguration(configuration, 
+                                       sweep.getNumberOfFrames() - 1);
+        
+        if (!isAnimatedGif(outputFile)) {
+            return renderFrames(configuration, sweep, outputFile);
+        }
+        
+        Path frameDirectory = 
+                Files.createTempDirectory(TEMPORARY_FRAME_DIRECTORY_PREFIX);
+        
+        Path frameFile = frameDirectory.resolve(TEMPORARY_FRAME_FILE_NAME);
+        List<Path> frameFiles = getFrameFiles(frameFile, sweep);
+        
+        try {
+            RenderSummary summary = 
+                    renderFrames(configuration, sweep, frameFile);
+            
+            if (summary.getNumberOfFailedJobs() > 0L) {
+                throw new IOException(
+                        "Could not render "
+                                + summary.getNumberOfFailedJobs()
+                                + " out of "
+                                + summary.getNumberOfJobs()
+                                + " frames.");
+            }
+            
+            AnimatedGifWriter.write(frameFiles, outputFile, frameDelay);
+            return summary;
+        } finally {
+            for (Path file : frameFiles) {
+                Files.deleteIfExists(file);
+            }
+            
+            Files.deleteIfExists(frameDirectory);
+        }
+    }
+    
+    /**
+     * Returns the name of the file of the frame {@code frame}: the frame
+     * index, padded with zeros, is inserted before the extension of
+     * {@code outputFile}, e.g. {@code wave-0042.png}.
+     * 
+     * @param outputFile     the output file name.
+     * @param frame          the zero-based frame index.
+     * @param numberOfFrames the number of frames.
+     * @return the frame file.
+     */
+    static Path getFrameFile(Path outputFile, int frame, int numberOfFrames) {
+        String[] stemAndExtension = splitExtension(outputFile);
+        
+        return outputFile.resolveSibling(
+                stemAndExtension[0]
+                        + FRAME_SEPARATOR
+                        + String.format(
+                                "%0" + getFrameNumberWidth(numberOfFrames)
+                                     + "d", 
+                                frame)
+                        + stemAndExtension[1]);
+    }
+    
+    /**
+     * Returns the Gnuplot {@code sprintf} pattern of the frame file names of
+     * {@link #getFrameFile(java.nio.file.Path, int, int)}.
+     * 
+     * @param outputFile     the output file name.
+     * @param numberOfFrames the number of frames.
+     * @return the frame file name pattern.
+     */
+    static String getFrameFileNamePattern(Path outputFile, 
+                                          int numberOfFrames) {
+        String[] stemAndExtension = splitExtension(outputFile);
+        Path parent = outputFile.getParent();
+        String prefix = 
+                parent == null ? 
+                stemAndExtension[0] : 
+                parent.resolve(stemAndExtension[0]).toString();
+        
+        return prefix.replace("%", "%%")
+                + FRAME_SEPARATOR
+                + "%0"
+                + getFrameNumberWidth(numberOfFrames)
+                + "d"
+                + stemAndExtension[1].replace("%", "%%");
+    }
+    
+    private static boolean isAnimatedGif(Path outputFile) {
+        return outputFile.getFileName()
+                         .toString()
+                         .toLowerCase()
+                         .endsWith(GIF_EXTENSION);
+    }
+    
+    private static int getFrameNumberWidth(int numberOfFrames) {
+        return Math.max(MINIMUM_FRAME_NUMBER_WIDTH, 
+                        Integer.toString(numberOfFrames - 1).length());
+    }
+    
+    private static String[] splitExtension(Path outputFile) {
+        String fileName = outputFile.getFileName().toString();
+        int dotIndex = fileName.lastIndexOf('.');
+        
+        if (dotIndex <= 0) {
+            return new String[]{ fileName, "" };
+        }
+        
+        return new String[]{ fileName.substring(0, dotIndex), 
+                             fileName.substring(dotIndex) };
+    }
+    
+    private static List<Path> getFrameFiles(Path frameFile, 
+                                            ParameterSweep sweep) {
+        int numberOfFrames = sweep.getNumberOfFrames();
+        List<Path> frameFiles = new ArrayList<>(numberOfFrames);
+        
+        for (int frame = 0; frame < numberOfFrames; frame++) {
+            frameFiles.add(getFrameFile(frameFile, frame, numberOfFrames));
+        }
+        
+        return frameFiles;
+    }
+    
+    private RenderSummary renderFrames(
+            TriangleWavePlotterConfiguration configuration, 
+            ParameterSweep sweep, 
+            Path frameFile) throws IOException, InterruptedException {
+        
+        if (gnuplotRenderer != null) {
+            return renderFramesInGnuplotLoop(configuration, sweep, frameFile);
+        }
+        
+        return renderScheduler.renderAll(
+                () -> new FrameJobIterator(configuration, sweep, frameFile), 
+                SweepRenderer::logFailure);
+    }
+    
+    private RenderSummary renderFramesInGnuplotLoop(
+            TriangleWavePlotterConfiguration configuration, 
+            ParameterSweep sweep, 
+            Path frameFile) throws IOException {
+        
+        if (configuration.getSampling() != TriangleWaveSampling.FUNCTION) {
+            throw new IllegalArgumentException(
+                    "The loop strategy supports only the function sampling.");
+        }
+        
+        int numberOfFrames = sweep.getNumberOfFrames();
+        long startTime = System.nanoTime();
+        String gnuplotScript;
+        
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault()
+                             .startStage(RenderStage.SCRIPT_GENERATION)) {
+            gnuplotScript = 
+                    GnuplotScriptTemplate.getSweep()
+                                         .renderSweep(
+                                                 configuration, 
+                                                 sweep, 
+                                                 getFrameFileNamePattern(
+                                                         frameFile, 
+                                                         numberOfFrames));
+            
+            timer.markSuccessful();
+        }
+        
+        List<Path> frameFiles = getFrameFiles(frameFile, sweep);
+        
+        // Frames left over from an earlier run must not pass for new ones:
+        for (Path file : frameFiles) {
+            Files.deleteIfExists(file);
+        }
+        
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault().startStage(RenderStage.RENDER)) {
+            gnuplotRenderer.runScript(gnuplotScript);
+            
+            for (Path file : frameFiles) {
+                if (!Files.exists(file)) {
+                    throw new IOException(
+                            "Gnuplot did not generate " + file + ".");
+                }
+            }
+            
+            timer.markSuccessful();
+        }
+        
+        return new RenderSummary(numberOfFrames, 
+                                 0L, 
+                                 System.nanoTime() - startTime);
+    }
+    
+    private static void logFailure(RenderResult result) {
+        if (!result.isSuccessful()) {
+            LOGGER.log(
+                    Level.SEVERE, 
+                    "Could not generate the frame "
+                            + result.getJob().getOutputFileName(), 
+                    result.getFailure());
+        }
+    }
+    
+    /**
+     * Generates the frame jobs lazily, so that the frame configurations are
+     * created only as fast as the workers consume them.
+     */
+    private static final class FrameJobIterator
+            implements Iterator<TriangleWavePlotJob> {
+        
+        private final TriangleWavePlotterConfiguration configuration;
+        private final ParameterSweep sweep;
+        private final Path frameFile;
+        private int frame;
+        
+        FrameJobIterator(TriangleWavePlotterConfiguration configuration, 
+                         ParameterSweep sweep, 
+                         Path frameFile) {
+            this.configuration = configuration;
+            this.sweep = sweep;
+            this.frameFile = frameFile;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return frame < sweep.getNumberOfFrames();
+        }
+        
+        @Override
+        public TriangleWavePlotJob next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more frames.");
+            }
+            
+            TriangleWavePlotJob job = 
+                    new TriangleWavePlotJob(
+                            sweep.createFrameConfiguration(configuration, 
+                                                           frame), 
+                            getFrameFile(frameFile, 
+                                         frame, 
+                                         sweep.getNumberOfFrames())
+                                    .toString());
+            
+            frame++;
+            return job;
+        }
+    }
+}
@@ -0,0 +1,483 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+
+/**
+ * This class implements a renderer for very large plots. The pixel width and
+ * the x-range of the plot are split into vertical tiles sharing the y-axis,
+ * the tiles are rendered in parallel by a {@link RenderScheduler}, and their
+ * pixels are copied into a memory-mapped raster file, from which the final
+ * PNG is encoded row by row. Thus, neither the full image nor its PNG is ever
+ * held on the heap.
+ * <p>
+ * Tiled plots are undecorated: they consist of the plot area only. Each tile
+ * is rendered with a guard band of extra pixels on both sides, which is cut
+ * off while stitching, so that the thick wave line is not clipped at the tile
+ * edges.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class TiledRenderer implements TriangleWaveRenderer {
+    
+    private static final Logger LOGGER = 
+            Logger.getLogger(TiledRenderer.class.getSimpleName());
+    
+    static final String NAME = "tiled";
+    static final String VERSION = "1";
+    static final int DEFAULT_TILE_WIDTH = 2048;
+    
+    static final String TEMPORARY_DIRECTORY_PREFIX = 
+            "triangle-wave-tiles-";
+    
+    private static final String TILE_FILE_NAME_PREFIX = "tile-";
+    private static final String TILE_FILE_NAME_SUFFIX = ".png";
+    private static final String RASTER_FILE_NAME = "raster.rgb";
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    
+    /**
+     * The number of extra pixels a tile is rendered with on each side, in
+     * addition to the line width.
+     */
+    private static final int GUARD_BAND_MARGIN = 2;
+    
+    /**
+     * A vertical stripe of the final image.
+     */
+    private static final class Tile {
+        
+        final int index;
+        final int left;
+        final int width;
+        
+        /**
+         * The offset of the tile pixels in the raster file, which stores the
+         * tiles one after another, each in row-major order.
+         */
+        final long rasterOffset;
+        
+        Tile(int index, int left, int width, long rasterOffset) {
+            this.index = index;
+            this.left = left;
+            this.width = width;
+            this.rasterOffset = rasterOffset;
+        }
+    }
+    
+    private final RenderScheduler renderScheduler;
+    private final int tileWidth;
+    
+    /**
+     * Constructs a tiled renderer.
+     * 
+     * @param renderScheduler the scheduler rendering the tiles.
+     * @param tileWidth       the maximum tile width in pixels.
+     */
+    public TiledRenderer(RenderScheduler renderScheduler, int tileWidth) {
+        this.renderScheduler = 
+                Objects.requireNonNull(
+                        renderScheduler, 
+                        "The input render scheduler is null.");
+        
+        if (tileWidth < 1) {
+            throw new IllegalArgumentException(
+                    "Tile width is too small: "
+                            + tileWidth
+                            + ". Must be at least 1.");
+        }
+        
+        this.tileWidth = tileWidth;
+    }
+    
+    @Override
+    public void render(TriangleWavePlotterConfiguration configuration, 
+                       Path outputFile) throws IOException {
+        try (OutputStream outputStream = 
+                new BufferedOutputStream(Files.newOutputStream(outputFile), 
+                                         OUTPUT_BUFFER_SIZE)) {
+            render(configuration, outputStream);
+        }
+    }
+    
+    @Override
+    public void render(TriangleWavePlotterConfiguration configuration, 
+                       OutputStream outputStream) throws IOException {
+        renderTiled(List.of(configuration), outputStream);
+    }
+    
+    @Override
+    public void renderOverlay(
+            List<TriangleWavePlotterConfiguration> configurations,
+            Path outputFile) throws IOException {
+        
+        TriangleWavePlotterConfiguration.validateOverlay(configurations);
+        
+        try (OutputStream outputStream = 
+                new BufferedOutputStream(Files.newOutputStream(outputFile), 
+                                         OUTPUT_BUFFER_SIZE)) {
+            renderTiled(configurations, outputStream);
+        }
+    }
+    
+    /**
+     * {@inheritDoc} Each tile overlays all the waves.
+     */
+    @Override
+    public void renderOverlay(
+            List<TriangleWavePlotterConfiguration> configurations,
+            OutputStream outputStream) throws IOException {
+        
+        renderTiled(
+                TriangleWavePlotterConfiguration.validateOverlay(
+                        configurations), 
+                outputStream);
+    }
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+    
+    int getTileWidth() {
+        return tileWidth;
+    }
+    
+    private void renderTiled(
+            List<TriangleWavePlotterConfiguration> configurations,
+            OutputStream outputStream) throws IOException {
+        
+        Objects.requireNonNull(outputStream, 
+                               "The input output stream is null.");
+        
+        TriangleWavePlotterConfiguration configuration = configurations.get(0);
+        int width = configuration.getPlotWidthInPixels();
+        int height = configuration.getPlotHeightInPixels();
+        List<Tile> tiles = splitIntoTiles(width, height);
+        Path directory = Files.createTempDirectory(TEMPORARY_DIRECTORY_PREFIX);
+        
+        try {
+            renderTiles(configurations, tiles, directory);
+            
+            // A mapping outlives its channel until it is garbage collected, 
+            // and some platforms cannot delete a mapped file. Let the 
+            // platform delete the raster once the last mapping is gone:
+            try (FileChannel rasterChannel = 
+                    FileChannel.open(directory.resolve(RASTER_FILE_NAME), 
+                                     StandardOpenOption.CREATE_NEW, 
+                                     StandardOpenOption.READ, 
+                                     StandardOpenOption.WRITE, 
+                                     StandardOpenOption.DELETE_ON_CLOSE)) {
+                
+                List<MappedByteBuffer> tileRasters = 
+                        stitchTiles(tiles, height, directory, rasterChannel);
+                
+                encodePng(tiles, tileRasters, width, height, outputStream);
+            }
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+    
+    /**
+     * Returns the configuration of the tile spanning the pixel columns
+     * {@code left, ..., left + width - 1} of the plot of
+     * {@code configuration}, widened by {@code guardBand} pixels on both
+     * sides.
+     */
+    static TriangleWavePlotterConfiguration
+        createTileConfiguration(TriangleWavePlotterConfiguration configuration, 
+                                int left, 
+                                int width, 
+                                int guardBand) {
+        
+        double xRangeStart = configuration.getXRangeStart();
+        double pixelWidth = 
+                (configuration.getXRangeEnd() - xRangeStart)
+                        / configuration.getPlotWidthInPixels();
+        
+        return configuration.toBuilder()
+                            .setXRangeStart(
+                                    xRangeStart 
+                                            + (left - guardBand) * pixelWidth)
+                            .setXRangeEnd(
+                                    xRangeStart 
+                                            + (left + width + guardBand) 
+                                                    * pixelWidth)
+                            .setPlotWidth(
+                                    Integer.toString(width + 2 * guardBand))
+                            .setDecorated(false)
+                            .build();
+    }
+    
+    private List<Tile> splitIntoTiles(int width, int height) {
+        long maximumTileRasterSize = 
+                (long) tileWidth * height * StreamingPngWriter.BYTES_PER_PIXEL;
+        
+        if (maximumTileRasterSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "A tile of "
+                            + tileWidth
+                            + " x "
+                            + height
+                            + " pixels is too large to map. "
+                            + "Use narrower tiles.");
+        }
+        
+        List<Tile> tiles = new ArrayList<>();
+        long rasterOffset = 0L;
+        
+        for (int left = 0; left < width; left += tileWidth) {
+            int currentTileWidth = Math.min(tileWidth, width - left);
+            
+            tiles.add(new Tile(tiles.size(), 
+                               left, 
+                               currentTileWidth, 
+                               rasterOffset));
+            
+            rasterOffset += (long) currentTileWidth
+                                   * height
+                                   * StreamingPngWriter.BYTES_PER_PIXEL;
+        }
+        
+        return tiles;
+    }
+    
+    private void renderTiles(
+            List<TriangleWavePlotterConfiguration> configurations, 
+            List<Tile> tiles, 
+            Path directory) throws IOException {
+        
+        int maximumLineWidth = 0;
+        
+        for (TriangleWavePlotterConfiguration configuration : configurations) {
+            maximumLineWidth = Math.max(maximumLineWidth, 
+                                        configuration.getLineWidth());
+        }
+        
+        int guardBand = maximumLineWidth + GUARD_BAND_MARGIN;
+        List<TriangleWavePlotJob> jobs = new ArrayList<>(tiles.size());
+        
+        for (Tile tile : tiles) {
+            List<TriangleWavePlotterConfiguration> tileConfigurations = 
+                    new ArrayList<>(configurations.size());
+            
+            for (TriangleWavePlotterConfiguration configuration 
+                    : configurations) {
+                tileConfigurations.add(
+                        createTileConfiguration(configuration, 
+                                                tile.left, 
+                                                tile.width, 
+                                                guardBand));
+            }
+            
+            jobs.add(new TriangleWavePlotJob(
+                    tileConfigurations, 
+                    getTileFile(directory, tile).toString()));
+        }
+        
+        List<RenderResult> failedResults = new ArrayList<>();
+        RenderSummary summary;
+        
+        try {
+            summary = renderScheduler.renderAll(jobs, result -> {
+                if (!result.isSuccessful()) {
+                    failedResults.add(result);
+                }
+            });
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while rendering the tiles.", 
+                                  ex);
+        }
+        
+        if (summary.getNumberOfFailedJobs() > 0L) {
+            throw new IOException(
+                    "Could not render "
+                            + summary.getNumberOfFailedJobs()
+                            + " out of "
+                            + summary.getNumberOfJobs()
+                            + " tiles.", 
+                    failedResults.get(0).getFailure());
+        }
+    }
+    
+    /**
+     * Decodes the tiles in parallel, one tile per thread at a time, and
+     * copies their pixels, without the guard bands, into the raster file.
+     * 
+     * @return the mapped raster of each tile.
+     */
+    private static List<MappedByteBuffer> stitchTiles(
+            List<Tile> tiles, 
+            int height, 
+            Path directory, 
+            FileChannel rasterChannel) throws IOException {
+        
+        List<MappedByteBuffer> tileRasters = new ArrayList<>(tiles.size());
+        
+        for (Tile tile : tiles) {
+            tileRasters.add(
+                    rasterChannel.map(
+                            FileChannel.MapMode.READ_WRITE, 
+                            tile.rasterOffset, 
+                            (long) tile.width
+                                   * height
+                                   * StreamingPngWriter.BYTES_PER_PIXEL));
+        }
+        
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault()
+                             .startStage(RenderStage.TILE_STITCHING)) {
+            tiles.parallelStream().forEach(tile -> {
+                try {
+                    copyTile(getTileFile(directory, tile), 
+                             tile, 
+                             height, 
+                             tileRasters.get(tile.index).duplicate());
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            
+            timer.markSuccessful();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        
+        return tileRasters;
+    }
+    
+    private static void copyTile(Path tileFile, 
+                                 Tile tile, 
+                                 int height, 
+                                 MappedByteBuffer tileRaster)
+            throws IOException {
+        
+        BufferedImage image = ImageIO.read(tileFile.toFile());
+        
+        if (image == null) {
+            throw new IOException("Could not decode the tile " + tileFile);
+        }
+        
+        int guardBand = (image.getWidth() - tile.width) / 2;
+        
+        if (guardBand < 0 || image.getHeight() != height) {
+            throw new IOException(
+                    "Unexpected size of the tile "
+                            + tileFile
+                            + ": "
+                            + image.getWidth()
+                            + " x "
+                            + image.getHeight()
+                            + ".");
+        }
+        
+        int[] rgbRow = new int[tile.width];
+        byte[] row = new byte[tile.width * StreamingPngWriter.BYTES_PER_PIXEL];
+        
+        for (int y = 0; y < height; y++) {
+            image.getRGB(guardBand, y, tile.width, 1, rgbRow, 0, tile.width);
+            
+            for (int x = 0, i = 0; x < tile.width; x++) {
+                int rgb = rgbRow[x];
+                row[i++] = (byte) (rgb >>> 16);
+                row[i++] = (byte) (rgb >>> 8);
+                row[i++] = (byte) rgb;
+            }
+            
+            tileRaster.put(row);
+        }
+    }
+    
+    private static void encodePng(List<Tile> tiles, 
+                                  List<MappedByteBuffer> tileRasters, 
+                                  int width, 
+                                  int height, 
+                                  OutputStream outputStream)
+            throws IOException {
+        
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault()
+                             .startStage(RenderStage.PNG_ENCODING)) {
+            StreamingPngWriter pngWriter = 
+                    new StreamingPngWriter(outputStream, width, height);
+            
+            byte[] row = new byte[width * StreamingPngWriter.BYTES_PER_PIXEL];
+            
+            for (int y = 0; y < height; y++) {
+                for (Tile tile : tiles) {
+                    int tileRowLength = 
+                            tile.width * StreamingPngWriter.BYTES_PER_PIXEL;
+                    
+                    tileRasters.get(tile.index)
+                               .get(y * tileRowLength, 
+                                    row, 
+                                    tile.left
+                                            * StreamingPngWriter
+                                                    .BYTES_PER_PIXEL, 
+                                    tileRowLength);
+                }
+                
+                pngWriter.writeRow(row);
+            }
+            
+            pngWriter.close();
+            timer.markSuccessful();
+        }
+    }
+    
+    private static Path getTileFile(Path directory, Tile tile) {
+        return directory.resolve(
+                TILE_FILE_NAME_PREFIX + tile.index + TILE_FILE_NAME_SUFFIX);
+    }
+    
+    private static void deleteDirectory(Path directory) {
+        List<Path> paths;
+        
+        try (Stream<Path> pathStream = Files.walk(directory)) {
+            paths = pathStream.sorted(Comparator.reverseOrder()).toList();
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, 
+                       "Could not list the tile directory " 
+                               + directory 
+                               + ".", 
+                       ex);
+            return;
+        }
+        
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ex) {
+                LOGGER.log(Level.WARNING, 
+                           "Could not delete the temporary file " 
+                                   + path 
+                                   + ".", 
+                           ex);
+            }
+        }
+    }
+}
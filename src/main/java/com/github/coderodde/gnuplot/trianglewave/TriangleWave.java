@@ -0,0 +1,53 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+/**
+ * This class implements the triangle wave function {@code f(x)} defined in 
+ * {@code triangle-wave.plt}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class TriangleWave {
+    
+    private TriangleWave() {}
+    
+    /**
+     * Evaluates the triangle wave at {@code x}.
+     * 
+     * @param x         the argument.
+     * @param period    the period of the wave.
+     * @param amplitude the amplitude of the wave.
+     * @param shift     the shift of the wave.
+     * @return the value of the wave at {@code x}.
+     */
+    public static double evaluate(double x,
+                                  double period, 
+                                  double amplitude, 
+                                  double shift) {
+        double t = x - shift;
+        double k = Math.floor(2.0 * t / period + 0.5);
+        double value = (4.0 * amplitude / period) * (t - (period / 2.0) * k);
+        
+        // (-1) ** k:
+        return (((long) k) & 1L) == 0L ? value : -value;
+    }
+    
+    /**
+     * Evaluates the triangle wave described by {@code configuration} at 
+     * {@code x}.
+     * 
+     * @param x             the argument.
+     * @param configuration the plotter configuration.
+     * @return the value of the wave at {@code x}.
+     */
+    public static double evaluate(
+            double x,
+            TriangleWavePlotterConfiguration configuration) {
+        
+        return evaluate(x,
+                        configuration.getPeriod(),
+                        configuration.getAmplitude(),
+                        configuration.getShift());
+    }
+}
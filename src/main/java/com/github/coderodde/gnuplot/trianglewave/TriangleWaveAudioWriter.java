@@ -0,0 +1,410 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+/**
+ * This class writes the triangle wave as a mono WAV file. The period and the
+ * shift are taken in seconds, and the amplitude relative to the full scale, 
+ * so that {@code --period=0.001 --amplitude=0.5} is a 1 kHz test tone at half
+ * the full scale. Values beyond the full scale are clipped.
+ * <p>
+ * The samples are computed block by block in parallel, and each block is
+ * encoded chunk by chunk into a memory-mapped region of the output file, so
+ * the heap use does not depend on the duration. The sample loops allocate
+ * nothing. The band-limited wave is the sum of the odd harmonics of the 
+ * triangle wave below the Nyquist frequency. It is precomputed over one 
+ * period into a wavetable, so that each sample costs a single interpolated 
+ * lookup.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class TriangleWaveAudioWriter {
+    
+    static final int DEFAULT_SAMPLE_RATE = 48_000;
+    
+    /**
+     * The number of samples each parallel task handles.
+     */
+    private static final int BLOCK_SIZE = 1 << 20;
+    
+    /**
+     * The number of samples computed at a time.
+     */
+    private static final int CHUNK_SIZE = 1 << 14;
+    
+    /**
+     * The number of wavetable entries per period. Must be a power of two.
+     */
+    private static final int WAVETABLE_SIZE = 1 << 14;
+    
+    private static final int WAV_HEADER_SIZE = 44;
+    private static final long MAXIMUM_DATA_SIZE = 0xffff_ffffL - 36L;
+    
+    private static final class WavChunks {
+        static final String RIFF   = "RIFF";
+        static final String WAVE   = "WAVE";
+        static final String FORMAT = "fmt ";
+        static final String DATA   = "data";
+    }
+    
+    private static final class FormatTags {
+        static final short PCM        = 1;
+        static final short IEEE_FLOAT = 3;
+    }
+    
+    /**
+     * Lists the supported sample formats.
+     */
+    public enum Format {
+        
+        /**
+         * Signed 16-bit little-endian integers.
+         */
+        PCM_16("pcm16", 2, FormatTags.PCM),
+        
+        /**
+         * Signed 24-bit little-endian integers.
+         */
+        PCM_24("pcm24", 3, FormatTags.PCM),
+        
+        /**
+         * Little-endian {@code float32} values in {@code [-1, 1]}.
+         */
+        FLOAT_32("float32", 4, FormatTags.IEEE_FLOAT);
+        
+        private final String name;
+        private final int bytesPerSample;
+        private final short formatTag;
+        
+        Format(String name, int bytesPerSample, short formatTag) {
+            this.name = name;
+            this.bytesPerSample = bytesPerSample;
+            this.formatTag = formatTag;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public int getBytesPerSample() {
+            return bytesPerSample;
+        }
+        
+        public static Format fromName(String name) {
+            for (Format format : values()) {
+                if (format.name.equals(name)) {
+                    return format;
+                }
+            }
+            
+            throw new IllegalArgumentException(
+                    "Unknown audio format = '" + name + "'");
+        }
+    }
+    
+    private final double period;
+    private final double amplitude;
+    private final double shift;
+    private final int sampleRate;
+    private final long numberOfSamples;
+    
+    /**
+     * One period of the band-limited wave, plus a copy of the first entry at
+     * the end for the interpolation, or {@code null} if the wave is not
+     * band-limited.
+     */
+    private final double[] wavetable;
+    
+    /**
+     * Constructs an audio writer. The shift is not taken from 
+     * {@code configuration}, since the configuration wraps it into 
+     * {@code [0, 2 pi)}.
+     * 
+     * @param configuration   the configuration holding the period and 
+     *                        amplitude.
+     * @param shiftSeconds    the shift of the wave in seconds.
+     * @param sampleRate      the number of samples per second.
+     * @param durationSeconds the duration of the audio in seconds.
+     * @param bandLimited     whether to leave out the harmonics at and above
+     *                        the Nyquist frequency to avoid aliasing.
+     */
+    public TriangleWaveAudioWriter(
+            TriangleWavePlotterConfiguration configuration, 
+            double shiftSeconds, 
+            int sampleRate, 
+            double durationSeconds, 
+            boolean bandLimited) {
+        
+        if (!Double.isFinite(shiftSeconds)) {
+            throw new IllegalArgumentException(
+                    "Bad shift: " + shiftSeconds + ".");
+        }
+        
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException(
+                    "Sample rate is too small: "
+                            + sampleRate
+                            + ". Must be at least 1.");
+        }
+        
+        if (!Double.isFinite(durationSeconds) || durationSeconds < 0.0) {
+            throw new IllegalArgumentException(
+                    "Bad duration: " + durationSeconds + ".");
+        }
+        
+        this.period          = configuration.getPeriod();
+        this.amplitude       = configuration.getAmplitude();
+        // The wave repeats every period, so keep the sample times small:
+        this.shift           = shiftSeconds % period;
+        this.sampleRate      = sampleRate;
+        this.numberOfSamples = Math.round(durationSeconds * sampleRate);
+        
+        // Even the smallest samples must fit into a WAV file, which also 
+        // keeps the data size and the block count from overflowing:
+        if (numberOfSamples 
+                > MAXIMUM_DATA_SIZE / Format.PCM_16.bytesPerSample) {
+            throw new IllegalArgumentException(
+                    "Too many samples for a WAV file: "
+                            + numberOfSamples
+                            + ". Shorten the duration or the sample rate.");
+        }
+        
+        this.wavetable       = bandLimited ? createWavetable() : null;
+    }
+    
+    public long getNumberOfSamples() {
+        return numberOfSamples;
+    }
+    
+    /**
+     * Computes the samples {@code firstSample, ..., firstSample + length - 1},
+     * clipped to {@code [-1, 1]}, into {@code samples}, starting at index
+     * {@code offset}.
+     * 
+     * @param firstSample the index of the first sample.
+     * @param samples     the target array.
+     * @param offset      the index of the first target array component.
+     * @param length      the number of samples to compute.
+     */
+    public void generate(long firstSample, 
+                         double[] samples, 
+                         int offset, 
+                         int length) {
+        long indexShift = firstSample - offset;
+        int end = offset + length;
+        
+        if (wavetable == null) {
+            double scale = 4.0 * amplitude / period;
+            double halfPeriod = period / 2.0;
+            double inverseHalfPeriod = 2.0 / period;
+            
+            // Branch-free version of TriangleWave.evaluate:
+            for (int i = offset; i < end; i++) {
+                double t = (double) (indexShift + i) / sampleRate - shift;
+                double k = Math.floor(t * inverseHalfPeriod + 0.5);
+                double parity = k - 2.0 * Math.floor(k * 0.5);
+                samples[i] = 
+                        scale * (t - halfPeriod * k) * (1.0 - 2.0 * parity);
+            }
+        } else {
+            for (int i = offset; i < end; i++) {
+                double phase = 
+                        ((double) (indexShift + i) / sampleRate - shift)
+                                / period;
+                
+                double position = (phase - Math.floor(phase)) * WAVETABLE_SIZE;
+                int index = Math.min((int) position, WAVETABLE_SIZE - 1);
+                double weight = position - index;
+                
+                samples[i] = wavetable[index]
+                        + weight * (wavetable[index + 1] - wavetable[index]);
+            }
+        }
+        
+        for (int i = offset; i < end; i++) {
+            samples[i] = Math.max(-1.0, Math.min(1.0, samples[i]));
+        }
+    }
+    
+    /**
+     * Writes all the samples to {@code file} as a WAV file.
+     * 
+     * @param file   the output file.
+     * @param format the sample format.
+     * @throws IOException if writing fails.
+     */
+    public void write(Path file, Format format) throws IOException {
+        long dataSize = numberOfSamples * format.bytesPerSample;
+        
+        if (dataSize > MAXIMUM_DATA_SIZE) {
+            throw new IllegalStateException(
+                    "Too many samples for a WAV file: "
+                            + numberOfSamples
+                            + ".");
+        }
+        
+        try (FileChannel channel = 
+                FileChannel.open(file, 
+                                 StandardOpenOption.CREATE, 
+                                 StandardOpenOption.TRUNCATE_EXISTING, 
+                                 StandardOpenOption.READ, 
+                                 StandardOpenOption.WRITE)) {
+            
+            ByteBuffer header = 
+                    ByteBuffer.allocate(WAV_HEADER_SIZE)
+                              .order(ByteOrder.LITTLE_ENDIAN);
+            
+            putWavHeader(header, format, dataSize);
+            
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            
+            // Make the file its final size so the blocks map independently:
+            if (dataSize > 0L) {
+                channel.write(ByteBuffer.allocate(1), 
+                              WAV_HEADER_SIZE + dataSize - 1L);
+            }
+            
+            IntStream.range(0, numberOfBlocks()).parallel().forEach(block -> {
+                try {
+                    writeMappedBlock(channel, format, block);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+    
+    private void writeMappedBlock(FileChannel channel, 
+                                  Format format, 
+                                  int block) throws IOException {
+        long first = (long) block * BLOCK_SIZE;
+        int length = blockLength(block);
+        
+        MappedByteBuffer mappedBuffer = 
+                channel.map(FileChannel.MapMode.READ_WRITE,
+                            WAV_HEADER_SIZE + first * format.bytesPerSample,
+                            (long) length * format.bytesPerSample);
+        
+        mappedBuffer.order(ByteOrder.LITTLE_ENDIAN);
+        double[] samples = new double[Math.min(CHUNK_SIZE, length)];
+        
+        for (int offset = 0; offset < length; offset += CHUNK_SIZE) {
+            int chunkLength = Math.min(CHUNK_SIZE, length - offset);
+            generate(first + offset, samples, 0, chunkLength);
+            putSamples(mappedBuffer, format, samples, chunkLength);
+        }
+    }
+    
+    /**
+     * Sums the odd harmonics of the triangle wave below the Nyquist frequency
+     * over one period. Harmonics above half the wavetable size cannot be
+     * represented by the table and are left out as well, which only matters
+     * for waves below a few Hz.
+     */
+    private double[] createWavetable() {
+        double nyquistHarmonic = period * sampleRate / 2.0;
+        int maximumHarmonic = 
+                (int) Math.min(WAVETABLE_SIZE / 2 - 1, 
+                               Math.ceil(nyquistHarmonic) - 1.0);
+        
+        double[] sines = new double[WAVETABLE_SIZE];
+        
+        for (int i = 0; i < WAVETABLE_SIZE; i++) {
+            sines[i] = Math.sin(2.0 * Math.PI * i / WAVETABLE_SIZE);
+        }
+        
+        double[] table = new double[WAVETABLE_SIZE + 1];
+        
+        // tri(t) = 8A / pi^2 * sum (-1)^m sin(2 pi h t / P) / h^2, h = 2m + 1:
+        for (int harmonic = 1, sign = 1;
+                harmonic <= maximumHarmonic;
+                harmonic += 2, sign = -sign) {
+            
+            double coefficient = 
+                    sign * 8.0 * amplitude
+                         / (Math.PI * Math.PI * harmonic * harmonic);
+            
+            for (int i = 0; i < WAVETABLE_SIZE; i++) {
+                table[i] += 
+                        coefficient * sines[(harmonic * i)
+                                                    & (WAVETABLE_SIZE - 1)];
+            }
+        }
+        
+        table[WAVETABLE_SIZE] = table[0];
+        return table;
+    }
+    
+    private void putWavHeader(ByteBuffer buffer, 
+                              Format format, 
+                              long dataSize) {
+        int blockAlign = format.bytesPerSample;
+        
+        buffer.put(WavChunks.RIFF.getBytes(StandardCharsets.US_ASCII));
+        buffer.putInt((int) (WAV_HEADER_SIZE - 8 + dataSize));
+        buffer.put(WavChunks.WAVE.getBytes(StandardCharsets.US_ASCII));
+        buffer.put(WavChunks.FORMAT.getBytes(StandardCharsets.US_ASCII));
+        buffer.putInt(16);
+        buffer.putShort(format.formatTag);
+        buffer.putShort((short) 1);
+        buffer.putInt(sampleRate);
+        buffer.putInt(sampleRate * blockAlign);
+        buffer.putShort((short) blockAlign);
+        buffer.putShort((short) (8 * format.bytesPerSample));
+        buffer.put(WavChunks.DATA.getBytes(StandardCharsets.US_ASCII));
+        buffer.putInt((int) dataSize);
+        buffer.flip();
+    }
+    
+    private static void putSamples(ByteBuffer buffer, 
+                                   Format format, 
+                                   double[] samples, 
+                                   int length) {
+        switch (format) {
+            case PCM_16 -> {
+                for (int i = 0; i < length; i++) {
+                    buffer.putShort(
+                            (short) Math.round(samples[i] * Short.MAX_VALUE));
+                }
+            }
+            
+            case PCM_24 -> {
+                for (int i = 0; i < length; i++) {
+                    int value = (int) Math.round(samples[i] * 0x7f_ffff);
+                    buffer.putShort((short) value);
+                    buffer.put((byte) (value >> 16));
+                }
+            }
+            
+            case FLOAT_32 -> {
+                for (int i = 0; i < length; i++) {
+                    buffer.putFloat((float) samples[i]);
+                }
+            }
+        }
+    }
+    
+    private int numberOfBlocks() {
+        return (int) ((numberOfSamples + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    }
+    
+    private int blockLength(int block) {
+        return (int) Math.min(BLOCK_SIZE, 
+                              numberOfSamples - (long) block * BLOCK_SIZE);
+    }
+}
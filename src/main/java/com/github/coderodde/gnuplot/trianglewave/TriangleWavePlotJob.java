@@ -0,0 +1,63 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class describes a single plot job: a plotter configuration and the name
+ * of the output PNG file. A job may also overlay several waves sharing the 
+ * plot area.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class TriangleWavePlotJob {
+    
+    private final List<TriangleWavePlotterConfiguration> configurations;
+    private final String outputFileName;
+    
+    public TriangleWavePlotJob(TriangleWavePlotterConfiguration configuration,
+                               String outputFileName) {
+        this(List.of(Objects.requireNonNull(
+                        configuration, 
+                        "The input configuration is null.")), 
+             outputFileName);
+    }
+    
+    public TriangleWavePlotJob(
+            List<TriangleWavePlotterConfiguration> configurations,
+            String outputFileName) {
+        this.configurations = 
+                List.copyOf(
+                        TriangleWavePlotterConfiguration.validateOverlay(
+                                configurations));
+        
+        this.outputFileName = 
+                Objects.requireNonNull(
+                        outputFileName, 
+                        "The input output file name is null.");
+    }
+    
+    /**
+     * Returns the configuration of the first wave of this job.
+     * 
+     * @return the configuration of the first wave.
+     */
+    public TriangleWavePlotterConfiguration getConfiguration() {
+        return configurations.get(0);
+    }
+    
+    /**
+     * Returns the configurations of all the waves of this job.
+     * 
+     * @return the configurations of the overlaid waves.
+     */
+    public List<TriangleWavePlotterConfiguration> getConfigurations() {
+        return configurations;
+    }
+    
+    public String getOutputFileName() {
+        return outputFileName;
+    }
+}
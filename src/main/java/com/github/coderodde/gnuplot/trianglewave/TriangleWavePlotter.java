@@ -1,11 +1,21 @@
 package com.github.coderodde.gnuplot.trianglewave;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.util.Scanner;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,30 +31,30 @@ public final class TriangleWavePlotter {
     private static final Logger LOGGER = 
             Logger.getLogger(TriangleWavePlotter.class.getSimpleName());
     
-    private static final String TRIANGULAR_WAVE_GNUPLOT_FILE_NAME = 
-            "triangle-wave.plt";
-    
-    private static final String TEMPORARY_PLOT_SCRIPT_PREFIX = "triangle-wave-";
-    private static final String TEMPORARY_PLOT_SCRIPT_SUFFIX = ".plt";
     private static final String WINDOWS_USERPROFILE = "%USERPROFILE%";
     private static final String LINUX_USERPROFILE = "~";
+    private static final String BATCH_COMMAND = "--batch";
+    private static final String EXPORT_COMMAND = "--export";
+    private static final String SERVE_COMMAND = "--serve";
+    private static final String SWEEP_COMMAND = "--sweep";
+    private static final String WATCH_COMMAND = "--watch";
+    private static final String AUDIO_COMMAND = "--audio";
+    private static final String WAVE_SEPARATOR = "--wave";
+    private static final String DEFAULT_PORT = "8080";
+    private static final String DEFAULT_BIND_ADDRESS = "127.0.0.1";
+    private static final String DEFAULT_NUMBER_OF_SAMPLES = "1000000";
+    private static final String DEFAULT_NUMBER_OF_FRAMES = "100";
+    private static final String DEFAULT_DURATION_SECONDS = "1";
+    private static final String CONFIGURATION_FILE_COMMENT = "#";
+    
+    private static final class CacheLimits {
+        static final long MEMORY_BYTES   = 64L * 1024L * 1024L ;
+        static final int  MEMORY_ENTRIES = 1_000               ;
+        static final long DISK_BYTES     = 1024L * 1024L * 1024L;
+        static final int  DISK_ENTRIES   = 100_000             ;
+    }
     
-    private static final class Anchors {
-        static final String PERIOD           = "{PERIOD}"          ;
-        static final String AMPLITUDE        = "{AMPLITUDE}"       ;
-        static final String SHIFT            = "{SHIFT}"           ;
-        static final String COLOR            = "{COLOR}"           ;
-        static final String LINE_WIDTH       = "{LINE_WIDTH}"      ;
-        static final String X_RANGE_START    = "{X_RANGE_START}"   ;
-        static final String X_RANGE_END      = "{X_RANGE_END}"     ;
-        static final String Y_RANGE_START    = "{Y_RANGE_START}"   ;
-        static final String Y_RANGE_END      = "{Y_RANGE_END}"     ;
-        static final String PLOT_WIDTH       = "{PLOT_WIDTH}"      ;
-        static final String PLOT_HEIGHT      = "{PLOT_HEIGHT}"     ;  
-        static final String OUTPUT_FILE_NAME = "{OUTPUT_FILE_NAME}";
-    }
-    
-    private static final class CommandLineArguments {
+    static final class CommandLineArguments {
         static final String PERIOD        = "--period"     ;
         static final String AMPLITUDE     = "--amplitude"  ;
         static final String SHIFT         = "--shift"      ;
@@ -56,6 +66,36 @@ public final class TriangleWavePlotter {
         static final String Y_RANGE_END   = "--yRangeEnd"  ;
         static final String PLOT_WIDTH    = "--plotWidth"  ;
         static final String PLOT_HEIGHT   = "--plotHeight" ;   
+        static final String SAMPLING      = "--sampling"   ;
+        static final String BACKEND       = "--backend"    ;
+        static final String GNUPLOT_PATH  = "--gnuplotPath";
+        static final String SCRIPT_INPUT  = "--scriptInput";
+        static final String SAMPLES       = "--samples"    ;
+        static final String SAMPLE_FORMAT = "--sampleFormat";
+        static final String CACHE_DIRECTORY = "--cacheDirectory";
+        static final String CACHE_MEMORY_BYTES   = "--cacheMemoryBytes"  ;
+        static final String CACHE_MEMORY_ENTRIES = "--cacheMemoryEntries";
+        static final String CACHE_DISK_BYTES     = "--cacheDiskBytes"    ;
+        static final String CACHE_DISK_ENTRIES   = "--cacheDiskEntries"  ;
+        static final String PORT           = "--port"          ;
+        static final String BIND_ADDRESS   = "--bindAddress"   ;
+        static final String WORKERS        = "--workers"       ;
+        static final String QUEUE_CAPACITY = "--queueCapacity" ;
+        static final String TIMEOUT        = "--timeout"       ;
+        static final String RETRIES        = "--retries"       ;
+        static final String JOB_FORMAT     = "--jobFormat"     ;
+        static final String PARAMETER      = "--parameter"     ;
+        static final String FROM           = "--from"          ;
+        static final String TO             = "--to"            ;
+        static final String FRAMES         = "--frames"        ;
+        static final String STRATEGY       = "--strategy"      ;
+        static final String FRAME_DELAY    = "--frameDelay"    ;
+        static final String TILE_WIDTH     = "--tileWidth"     ;
+        static final String DEBOUNCE       = "--debounce"      ;
+        static final String SAMPLE_RATE    = "--sampleRate"    ;
+        static final String DURATION       = "--duration"      ;
+        static final String AUDIO_FORMAT   = "--audioFormat"   ;
+        static final String BAND_LIMITED   = "--bandLimited"   ;
     }
     
     public static void main(String[] args) {
@@ -75,25 +115,41 @@ public final class TriangleWavePlotter {
             return;
         }
         
-        String outputFileName = args[args.length - 1];
-        String homeDirectory = System.getProperty("user.home");
+        if (args[0].equals(BATCH_COMMAND)) {
+            runBatch(args);
+            return;
+        }
         
-        if (outputFileName.startsWith(WINDOWS_USERPROFILE)) {
-            outputFileName = 
-                    homeDirectory
-                    + File.separator
-                    + outputFileName.substring(WINDOWS_USERPROFILE.length());
-        } else if (outputFileName.startsWith(LINUX_USERPROFILE)) {
-            outputFileName = 
-                    homeDirectory
-                    + File.separator
-                    + outputFileName.substring(LINUX_USERPROFILE.length());
+        if (args[0].equals(EXPORT_COMMAND)) {
+            runExport(args);
+            return;
         }
         
-        String plotTemplate;
+        if (args[0].equals(SERVE_COMMAND)) {
+            runServer(args);
+            return;
+        }
+        
+        if (args[0].equals(SWEEP_COMMAND)) {
+            runSweep(args);
+            return;
+        }
+        
+        if (args[0].equals(WATCH_COMMAND)) {
+            runWatch(args);
+            return;
+        }
+        
+        if (args[0].equals(AUDIO_COMMAND)) {
+            runAudio(args);
+            return;
+        }
+        
+        String outputFileName = expandHomeDirectory(args[args.length - 1]);
+        TriangleWaveRenderer renderer;
         
         try {
-            plotTemplate = readTriangularWaveGnuplotFile();
+            renderer = selectTiledOrPlainRenderer(args);
         } catch (IOException ex) {
             LOGGER.log(
                     Level.SEVERE,
@@ -104,195 +160,949 @@ public final class TriangleWavePlotter {
             return;
         }
         
-        TriangleWavePlotterConfiguration triangleWavePlotterConfiguration = 
-                buildTriangleWavePlotterConfiguration(args);
+        List<TriangleWavePlotterConfiguration> configurations = 
+                buildOverlayConfigurations(args);
         
-        String gnuplotScript = 
-                computeGnuplotScript(
-                        plotTemplate,
-                        outputFileName,
-                        triangleWavePlotterConfiguration);
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault().startStage(RenderStage.RENDER)) {
+            if (configurations.size() == 1) {
+                renderer.render(configurations.get(0), 
+                                Path.of(outputFileName));
+            } else {
+                renderer.renderOverlay(configurations, 
+                                       Path.of(outputFileName));
+            }
+            
+            timer.markSuccessful();
+            System.out.println("Generated the plot in " + outputFileName);
+        } catch (IOException ex) {
+            LOGGER.log(
+                    Level.SEVERE,
+                    "I/O exception while generating the plot PNG.", 
+                    ex);
+        }
+    }
+    
+    /**
+     * Renders the triangle wave described by {@code configuration} and returns
+     * the PNG data.
+     * 
+     * @param renderer      the rendering backend.
+     * @param configuration the plot configuration.
+     * @return the PNG data.
+     * @throws IOException if the rendering fails.
+     */
+    public static byte[] plotToByteArray(
+            TriangleWaveRenderer renderer,
+            TriangleWavePlotterConfiguration configuration) 
+            throws IOException {
+        
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        renderer.render(configuration, outputStream);
+        return outputStream.toByteArray();
+    }
+    
+    /**
+     * Renders the overlay of the triangle waves described by 
+     * {@code configurations} into a single plot and returns the PNG data.
+     * 
+     * @param renderer       the rendering backend.
+     * @param configurations the configurations of the waves.
+     * @return the PNG data.
+     * @throws IOException if the rendering fails.
+     */
+    public static byte[] plotToByteArray(
+            TriangleWaveRenderer renderer,
+            List<TriangleWavePlotterConfiguration> configurations) 
+            throws IOException {
         
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        renderer.renderOverlay(configurations, outputStream);
+        return outputStream.toByteArray();
+    }
+    
+    /**
+     * Renders the triangle wave described by {@code configuration} and writes 
+     * the PNG data into {@code outputStream}. The stream is not closed.
+     * 
+     * @param renderer      the rendering backend.
+     * @param configuration the plot configuration.
+     * @param outputStream  the stream receiving the PNG data.
+     * @throws IOException if the rendering fails.
+     */
+    public static void plot(TriangleWaveRenderer renderer,
+                            TriangleWavePlotterConfiguration configuration,
+                            OutputStream outputStream) throws IOException {
+        renderer.render(configuration, outputStream);
+    }
+    
+    /**
+     * Renders the triangle wave described by {@code configuration} and puts 
+     * the PNG data into {@code byteBuffer}, starting at its current position.
+     * 
+     * @param renderer      the rendering backend.
+     * @param configuration the plot configuration.
+     * @param byteBuffer    the buffer receiving the PNG data.
+     * @return the number of bytes written.
+     * @throws IOException if the rendering fails or the PNG does not fit into
+     *                     the remaining space of {@code byteBuffer}.
+     */
+    public static int plot(TriangleWaveRenderer renderer,
+                           TriangleWavePlotterConfiguration configuration,
+                           ByteBuffer byteBuffer) throws IOException {
+        int startPosition = byteBuffer.position();
+        renderer.render(configuration, new ByteBufferOutputStream(byteBuffer));
+        return byteBuffer.position() - startPosition;
+    }
+    
+    /**
+     * Starts rendering the triangle wave described by {@code configuration} 
+     * into the PNG file {@code outputFile} via {@code renderer}. The calling 
+     * thread does not wait for the rendering to complete.
+     * 
+     * @param renderer      the rendering backend.
+     * @param configuration the plot configuration.
+     * @param outputFile    the output PNG file.
+     * @return the future of {@code outputFile}, completed exceptionally with 
+     *         an {@link IOException} if the rendering fails.
+     */
+    public static CompletableFuture<Path> renderAsync(
+            TriangleWaveRenderer renderer,
+            TriangleWavePlotterConfiguration configuration,
+            Path outputFile) {
+        return renderer.renderAsync(configuration, outputFile);
+    }
+    
+    /**
+     * Starts rendering the triangle wave described by {@code configuration} 
+     * into the PNG file {@code outputFile} via the default Gnuplot executable.
+     * No thread is blocked while Gnuplot runs.
+     * 
+     * @param configuration the plot configuration.
+     * @param outputFile    the output PNG file.
+     * @return the future of {@code outputFile}, completed exceptionally with 
+     *         an {@link IOException} if the rendering fails.
+     */
+    public static CompletableFuture<Path> renderAsync(
+            TriangleWavePlotterConfiguration configuration,
+            Path outputFile) {
         try {
-            generatePNGFile(outputFileName, gnuplotScript);
+            return renderAsync(new GnuplotRenderer(), 
+                               configuration, 
+                               outputFile);
         } catch (IOException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+    
+    /**
+     * Selects the rendering backend requested via the {@code --backend} 
+     * option. If there is no such option, Gnuplot is used. If the 
+     * {@code --cacheDirectory} option is present, the backend is wrapped in a
+     * {@link CachingRenderer}, whose limits are set by the 
+     * {@code --cacheMemoryBytes}, {@code --cacheMemoryEntries}, 
+     * {@code --cacheDiskBytes} and {@code --cacheDiskEntries} options.
+     * 
+     * @param args the command line arguments.
+     * @return the renderer.
+     * @throws IOException if the Gnuplot renderer cannot be created.
+     */
+    static TriangleWaveRenderer selectRenderer(String[] args) 
+            throws IOException {
+        String backendName = 
+                findOption(args, 
+                           CommandLineArguments.BACKEND, 
+                           GnuplotRenderer.NAME);
+        
+        TriangleWaveRenderer renderer = switch (backendName) {
+            case GnuplotRenderer.NAME -> createGnuplotRenderer(args);
+            case Java2DRenderer.NAME -> new Java2DRenderer();
+            
+            default -> throw new IllegalStateException(
+                    "Unknown backend = '" + backendName + "'");
+        };
+        
+        String cacheDirectory = 
+                findOption(args, CommandLineArguments.CACHE_DIRECTORY, null);
+        
+        if (cacheDirectory == null) {
+            return renderer;
+        }
+        
+        long memoryBytes = 
+                Long.parseLong(
+                        findOption(args, 
+                                   CommandLineArguments.CACHE_MEMORY_BYTES, 
+                                   Long.toString(CacheLimits.MEMORY_BYTES)));
+        
+        int memoryEntries = 
+                Integer.parseInt(
+                        findOption(args, 
+                                   CommandLineArguments.CACHE_MEMORY_ENTRIES, 
+                                   Integer.toString(
+                                           CacheLimits.MEMORY_ENTRIES)));
+        
+        long diskBytes = 
+                Long.parseLong(
+                        findOption(args, 
+                                   CommandLineArguments.CACHE_DISK_BYTES, 
+                                   Long.toString(CacheLimits.DISK_BYTES)));
+        
+        int diskEntries = 
+                Integer.parseInt(
+                        findOption(args, 
+                                   CommandLineArguments.CACHE_DISK_ENTRIES, 
+                                   Integer.toString(
+                                           CacheLimits.DISK_ENTRIES)));
+        
+        return new CachingRenderer(
+                renderer, 
+                new RenderCache(memoryBytes,
+                                memoryEntries,
+                                Path.of(expandHomeDirectory(cacheDirectory)),
+                                diskBytes,
+                                diskEntries));
+    }
+    
+    /**
+     * Returns a {@link TiledRenderer} rendering the tiles on {@code --workers}
+     * threads if the {@code --tileWidth} option is present, and the renderer
+     * of {@link #selectRenderer(java.lang.String[])} otherwise.
+     * 
+     * @param args the command line arguments.
+     * @return the renderer.
+     * @throws IOException if the Gnuplot renderer cannot be created.
+     */
+    static TriangleWaveRenderer selectTiledOrPlainRenderer(String[] args) 
+            throws IOException {
+        String tileWidth = 
+                findOption(args, CommandLineArguments.TILE_WIDTH, null);
+        
+        if (tileWidth == null) {
+            return selectRenderer(args);
+        }
+        
+        int numberOfWorkers = findNumberOfWorkers(args);
+        
+        return new TiledRenderer(
+                new RenderScheduler(createRendererFactory(args), 
+                                    numberOfWorkers, 
+                                    2 * numberOfWorkers),
+                Integer.parseInt(tileWidth));
+    }
+    
+    private static GnuplotRenderer createGnuplotRenderer(String[] args) 
+            throws IOException {
+        return new GnuplotRenderer(
+                findGnuplotExecutable(args),
+                GnuplotRenderer.ScriptInput.fromName(
+                        findOption(args, 
+                                   CommandLineArguments.SCRIPT_INPUT,
+                                   GnuplotRenderer.ScriptInput.FILE
+                                                  .getName())),
+                findTimeout(args),
+                findNumberOfRetries(args));
+    }
+    
+    private static String findGnuplotExecutable(String[] args) {
+        return findOption(args, 
+                          CommandLineArguments.GNUPLOT_PATH, 
+                          GnuplotRenderer.DEFAULT_GNUPLOT_EXECUTABLE);
+    }
+    
+    private static Duration findTimeout(String[] args) {
+        String timeoutSeconds = 
+                findOption(args, CommandLineArguments.TIMEOUT, null);
+        
+        if (timeoutSeconds == null) {
+            return GnuplotRenderer.DEFAULT_TIMEOUT;
+        }
+        
+        return Duration.ofMillis(
+                Math.round(1000.0 * Double.parseDouble(timeoutSeconds)));
+    }
+    
+    private static int findNumberOfRetries(String[] args) {
+        return Integer.parseInt(
+                findOption(args, 
+                           CommandLineArguments.RETRIES, 
+                           Integer.toString(
+                                   GnuplotRenderer
+                                           .DEFAULT_NUMBER_OF_RETRIES)));
+    }
+    
+    /**
+     * Returns the value of the last {@code option=value} argument.
+     * 
+     * @param args   the command line arguments.
+     * @param option the option name, including the leading dashes.
+     * @return the option value.
+     * @throws IllegalStateException if the option is not present.
+     */
+    private static String findRequiredOption(String[] args, String option) {
+        String value = findOption(args, option, null);
+        
+        if (value == null) {
+            throw new IllegalStateException(
+                    "Missing option = '" + option + "'");
+        }
+        
+        return value;
+    }
+    
+    private static int findNumberOfWorkers(String[] args) {
+        return Integer.parseInt(
+                findOption(args, 
+                           CommandLineArguments.WORKERS, 
+                           Integer.toString(
+                                   Runtime.getRuntime()
+                                          .availableProcessors())));
+    }
+    
+    /**
+     * Returns the value of the last {@code option=value} argument, or 
+     * {@code defaultValue} if there is no such argument.
+     * 
+     * @param args         the command line arguments.
+     * @param option       the option name, including the leading dashes.
+     * @param defaultValue the value to return if the option is not present.
+     * @return the option value.
+     */
+    private static String findOption(String[] args, 
+                                     String option, 
+                                     String defaultValue) {
+        String value = defaultValue;
+        
+        for (String argument : args) {
+            if (argument.startsWith(option) 
+                    && argument.length() > option.length()
+                    && argument.charAt(option.length()) == '=') {
+                value = argument.substring(option.length() + 1);
+            }
+        }
+        
+        return value;
+    }
+    
+    /**
+     * Plots all the {@code jobs} through a single, long-lived Gnuplot process.
+     * Compared to plotting each job via {@link #main(java.lang.String[])}, 
+     * this saves a JVM and a Gnuplot startup per plot.
+     * 
+     * @param jobs              the jobs to plot.
+     * @param gnuplotExecutable the Gnuplot executable to run.
+     * @return the number of successfully generated plots.
+     * @throws IOException if the Gnuplot template file cannot be read or the 
+     *                     Gnuplot process cannot be started.
+     */
+    static int plotBatch(Iterable<TriangleWavePlotJob> jobs,
+                         String gnuplotExecutable) throws IOException {
+        RenderScheduler renderScheduler = 
+                new RenderScheduler(
+                        () -> new GnuplotSessionRenderer(gnuplotExecutable), 
+                        1, 
+                        1);
+        
+        try {
+            return (int) renderScheduler.renderAll(
+                    jobs, 
+                    TriangleWavePlotter::logFailure)
+                                        .getNumberOfSucceededJobs();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while plotting the batch.", ex);
+        }
+    }
+    
+    private void runBatch(String[] args) {
+        if (args.length < 2) {
+            System.out.println("No batch job file name provided.");
+            return;
+        }
+        
+        int numberOfWorkers = findNumberOfWorkers(args);
+        RenderScheduler renderScheduler = 
+                new RenderScheduler(createRendererFactory(args),
+                                    numberOfWorkers, 
+                                    2 * numberOfWorkers);
+        
+        Path jobFile = Path.of(expandHomeDirectory(args[1]));
+        String jobFileFormatName = 
+                findOption(args, CommandLineArguments.JOB_FORMAT, null);
+        
+        JobFileFormat jobFileFormat = 
+                jobFileFormatName == null ?
+                JobFileFormat.fromFileName(jobFile) :
+                JobFileFormat.fromName(jobFileFormatName);
+        
+        try (JobFileReader jobFileReader = 
+                new JobFileReader(jobFile, 
+                                  jobFileFormat, 
+                                  TriangleWavePlotter::expandHomeDirectory)) {
+            System.out.println(
+                    renderScheduler.renderAll(jobFileReader, 
+                                              TriangleWavePlotter::logFailure));
+            
+            if (jobFileReader.getNumberOfMalformedLines() > 0L) {
+                System.out.println(
+                        "Skipped " 
+                                + jobFileReader.getNumberOfMalformedLines()
+                                + " malformed job line(s).");
+            }
+            
+            System.out.print(RenderMetrics.getDefault().snapshot());
+        } catch (IOException | UncheckedIOException ex) {
             LOGGER.log(
                     Level.SEVERE,
-                    "I/O exception while generating the plot PNG.", 
+                    "I/O exception while running the batch.", 
                     ex);
         } catch (InterruptedException ex) {
             LOGGER.log(
                     Level.SEVERE,
-                    "Interrupted while generating the plot PNG.",
+                    "Interrupted while running the batch.", 
                     ex);
         }
     }
     
-    private static File getTemporaryGnuplotFile() throws IOException {
-        return File.createTempFile(TEMPORARY_PLOT_SCRIPT_PREFIX,
-                                   TEMPORARY_PLOT_SCRIPT_SUFFIX);
+    /**
+     * Creates the factory of the worker renderers for the batch mode. With 
+     * the Gnuplot backend, each worker gets its own Gnuplot session, 
+     * otherwise all the workers share the renderer chosen by 
+     * {@link #selectRenderer(java.lang.String[])}.
+     * 
+     * @param args the command line arguments.
+     * @return the renderer factory.
+     */
+    private static RenderScheduler.RendererFactory 
+        createRendererFactory(String[] args) {
+        
+        String backendName = 
+                findOption(args, 
+                           CommandLineArguments.BACKEND, 
+                           GnuplotRenderer.NAME);
+        
+        if (backendName.equals(GnuplotRenderer.NAME)
+                && findOption(args, 
+                              CommandLineArguments.CACHE_DIRECTORY, 
+                              null) == null) {
+            String gnuplotExecutable = findGnuplotExecutable(args);
+            Duration timeout = findTimeout(args);
+            int numberOfRetries = findNumberOfRetries(args);
+            
+            return () -> new GnuplotSessionRenderer(gnuplotExecutable,
+                                                    timeout,
+                                                    numberOfRetries);
+        }
+        
+        TriangleWaveRenderer[] sharedRenderer = { null };
+        
+        return () -> {
+            if (sharedRenderer[0] == null) {
+                sharedRenderer[0] = selectRenderer(args);
+            }
+            
+            return sharedRenderer[0];
+        };
+    }
+    
+    private static void logFailure(RenderResult result) {
+        if (!result.isSuccessful()) {
+            LOGGER.log(
+                    Level.SEVERE, 
+                    "Could not generate the plot in " 
+                            + result.getJob().getOutputFileName(),
+                    result.getFailure());
+        }
     }
     
-    private static void generatePNGFile(String plotPNGFileName,
-                                        String gnuplotScript) 
-            throws IOException, InterruptedException {
-        File temporaryScriptFile = getTemporaryGnuplotFile();
-        Files.write(temporaryScriptFile.toPath(), gnuplotScript.getBytes());
+    private void runExport(String[] args) {
+        if (args.length < 2) {
+            System.out.println("No output sample file name provided.");
+            return;
+        }
         
-        String[] commands = { 
-            "gnuplot.exe",
-            temporaryScriptFile.getAbsolutePath() 
-        };
+        String outputFileName = expandHomeDirectory(args[args.length - 1]);
+        String[] exportArgs = Arrays.copyOfRange(args, 1, args.length);
         
-        Process process = Runtime.getRuntime().exec(commands);
-        int returnStatus = process.waitFor();
+        TriangleWavePlotterConfiguration triangleWavePlotterConfiguration = 
+                buildTriangleWavePlotterConfiguration(exportArgs);
         
-        if (returnStatus != 0) {
-            System.err.println(
-                    "Gnuplot seems to fail, return status: " + returnStatus);
-        } else {
+        long numberOfSamples = 
+                Long.parseLong(
+                        findOption(exportArgs, 
+                                   CommandLineArguments.SAMPLES, 
+                                   DEFAULT_NUMBER_OF_SAMPLES));
+        
+        String formatName = 
+                findOption(exportArgs,
+                           CommandLineArguments.SAMPLE_FORMAT,
+                           TriangleWaveSampleGenerator.Format.BINARY.getName());
+        
+        TriangleWaveSampleGenerator.Format format = 
+                TriangleWaveSampleGenerator.Format.fromName(formatName);
+        
+        try {
+            new TriangleWaveSampleGenerator(triangleWavePlotterConfiguration,
+                                            numberOfSamples)
+                    .write(Path.of(outputFileName), format);
+            
             System.out.println(
-                    "Generated the plot in " + plotPNGFileName);
+                    "Exported " 
+                            + numberOfSamples 
+                            + " samples to " 
+                            + outputFileName);
+        } catch (IOException ex) {
+            LOGGER.log(
+                    Level.SEVERE,
+                    "I/O exception while exporting the samples.", 
+                    ex);
         }
+    }
+    
+    private void runAudio(String[] args) {
+        if (args.length < 2) {
+            System.out.println("No output WAV file name provided.");
+            return;
+        }
+        
+        String outputFileName = expandHomeDirectory(args[args.length - 1]);
+        String[] audioArgs = Arrays.copyOfRange(args, 1, args.length);
+        
+        TriangleWavePlotterConfiguration triangleWavePlotterConfiguration = 
+                buildTriangleWavePlotterConfiguration(audioArgs);
+        
+        int sampleRate = 
+                Integer.parseInt(
+                        findOption(audioArgs,
+                                   CommandLineArguments.SAMPLE_RATE,
+                                   Integer.toString(
+                                           TriangleWaveAudioWriter
+                                                   .DEFAULT_SAMPLE_RATE)));
+        
+        double durationSeconds = 
+                Double.parseDouble(
+                        findOption(audioArgs, 
+                                   CommandLineArguments.DURATION, 
+                                   DEFAULT_DURATION_SECONDS));
+        
+        TriangleWaveAudioWriter.Format format = 
+                TriangleWaveAudioWriter.Format.fromName(
+                        findOption(audioArgs,
+                                   CommandLineArguments.AUDIO_FORMAT,
+                                   TriangleWaveAudioWriter.Format.PCM_16
+                                                          .getName()));
+        
+        boolean bandLimited = 
+                Boolean.parseBoolean(
+                        findOption(audioArgs, 
+                                   CommandLineArguments.BAND_LIMITED, 
+                                   "false"));
+        
+        // The configuration wraps the shift into [0, 2 pi), a phase of the 
+        // plot, but the audio shift is a time:
+        double shiftSeconds = 
+                Double.parseDouble(
+                        findOption(audioArgs, 
+                                   CommandLineArguments.SHIFT, 
+                                   Double.toString(
+                                           triangleWavePlotterConfiguration
+                                                   .getShift())));
         
-        if (!temporaryScriptFile.delete()) {
-            System.gc();
-            temporaryScriptFile.deleteOnExit();
+        try {
+            TriangleWaveAudioWriter audioWriter = 
+                    new TriangleWaveAudioWriter(
+                            triangleWavePlotterConfiguration, 
+                            shiftSeconds, 
+                            sampleRate, 
+                            durationSeconds, 
+                            bandLimited);
+            
+            audioWriter.write(Path.of(outputFileName), format);
+            
+            System.out.println(
+                    "Exported " 
+                            + audioWriter.getNumberOfSamples() 
+                            + " audio samples to " 
+                            + outputFileName);
+        } catch (IOException ex) {
+            LOGGER.log(
+                    Level.SEVERE,
+                    "I/O exception while exporting the audio.", 
+                    ex);
         }
     }
     
-    private String readTriangularWaveGnuplotFile() throws IOException {
-        InputStream inputStream = 
-                getClass()
-               .getClassLoader()
-               .getResourceAsStream(TRIANGULAR_WAVE_GNUPLOT_FILE_NAME);
+    private void runSweep(String[] args) {
+        if (args.length < 2) {
+            System.out.println("No output file name provided.");
+            return;
+        }
         
-        Scanner scanner = new Scanner(inputStream);
-        StringBuilder stringBuilder = new StringBuilder();
+        Path outputFile = Path.of(expandHomeDirectory(args[args.length - 1]));
+        String[] sweepArgs = Arrays.copyOfRange(args, 1, args.length);
         
-        while (scanner.hasNextLine()) {
-            stringBuilder.append(scanner.nextLine()).append("\n");
-        }
+        TriangleWavePlotterConfiguration triangleWavePlotterConfiguration = 
+                buildTriangleWavePlotterConfiguration(sweepArgs);
+        
+        ParameterSweep sweep = 
+                new ParameterSweep(
+                        SweepParameter.fromName(
+                                findOption(sweepArgs,
+                                           CommandLineArguments.PARAMETER,
+                                           SweepParameter.SHIFT.getName())),
+                        Double.parseDouble(
+                                findRequiredOption(sweepArgs, 
+                                                   CommandLineArguments.FROM)),
+                        Double.parseDouble(
+                                findRequiredOption(sweepArgs, 
+                                                   CommandLineArguments.TO)),
+                        Integer.parseInt(
+                                findOption(sweepArgs, 
+                                           CommandLineArguments.FRAMES, 
+                                           DEFAULT_NUMBER_OF_FRAMES)));
         
-        return stringBuilder.toString();
+        String frameDelayMillis = 
+                findOption(sweepArgs, CommandLineArguments.FRAME_DELAY, null);
+        
+        Duration frameDelay = 
+                frameDelayMillis == null ? 
+                SweepRenderer.DEFAULT_FRAME_DELAY : 
+                Duration.ofMillis(Long.parseLong(frameDelayMillis));
+        
+        try {
+            System.out.println(
+                    createSweepRenderer(sweepArgs, 
+                                        triangleWavePlotterConfiguration,
+                                        frameDelay)
+                            .render(triangleWavePlotterConfiguration, 
+                                    sweep, 
+                                    outputFile));
+            
+            System.out.print(RenderMetrics.getDefault().snapshot());
+        } catch (IOException ex) {
+            LOGGER.log(
+                    Level.SEVERE,
+                    "I/O exception while rendering the sweep.", 
+                    ex);
+        } catch (InterruptedException ex) {
+            LOGGER.log(
+                    Level.SEVERE,
+                    "Interrupted while rendering the sweep.", 
+                    ex);
+        }
     }
     
-    private TriangleWavePlotterConfiguration 
-        buildTriangleWavePlotterConfiguration(String[] args) {
+    /**
+     * Creates the sweep renderer requested via the {@code --strategy} option.
+     * By default, a Gnuplot loop is used for the Gnuplot backend without a 
+     * cache and function sampling, and parallel workers otherwise.
+     */
+    private static SweepRenderer createSweepRenderer(
+            String[] args,
+            TriangleWavePlotterConfiguration configuration,
+            Duration frameDelay) throws IOException {
         
-        TriangleWavePlotterConfiguration triangleWavePlotterConfiguration = 
-                new TriangleWavePlotterConfiguration();
+        boolean gnuplotLoopPossible = 
+                findOption(args, 
+                           CommandLineArguments.BACKEND, 
+                           GnuplotRenderer.NAME).equals(GnuplotRenderer.NAME)
+                && findOption(args, 
+                              CommandLineArguments.CACHE_DIRECTORY, 
+                              null) == null
+                && configuration.getSampling() 
+                        == TriangleWaveSampling.FUNCTION;
         
-        int index = 0;
+        String strategyName = 
+                findOption(args, 
+                           CommandLineArguments.STRATEGY, 
+                           gnuplotLoopPossible ? 
+                                   SweepRenderer.Strategy.LOOP.getName() : 
+                                   SweepRenderer.Strategy.PARALLEL.getName());
         
-        for (String argument : args) {
-            if (index < args.length - 1) {
-                processArgument(triangleWavePlotterConfiguration, argument);
+        switch (SweepRenderer.Strategy.fromName(strategyName)) {
+            case LOOP -> {
+                if (!gnuplotLoopPossible) {
+                    throw new IllegalStateException(
+                            "The loop strategy needs the gnuplot backend, "
+                                    + "no cache and the function sampling.");
+                }
+                
+                return SweepRenderer.withGnuplotLoop(
+                        createGnuplotRenderer(args), 
+                        frameDelay);
             }
+            
+            default -> {
+                int numberOfWorkers = findNumberOfWorkers(args);
                 
-            index++;
+                return SweepRenderer.withScheduler(
+                        new RenderScheduler(createRendererFactory(args),
+                                            numberOfWorkers, 
+                                            2 * numberOfWorkers),
+                        frameDelay);
+            }
+        }
+    }
+    
+    private void runWatch(String[] args) {
+        if (args.length < 3) {
+            System.out.println(
+                    "No configuration file or output file name provided.");
+            return;
+        }
+        
+        Path configurationFile = Path.of(expandHomeDirectory(args[1]));
+        Path outputFile = Path.of(expandHomeDirectory(args[args.length - 1]));
+        List<String> baseArguments = 
+                Arrays.asList(args).subList(2, args.length - 1);
+        
+        String[] watchArgs = Arrays.copyOfRange(args, 1, args.length);
+        String debounceMillis = 
+                findOption(watchArgs, CommandLineArguments.DEBOUNCE, null);
+        
+        Duration debounceDelay = 
+                debounceMillis == null ? 
+                ConfigurationWatcher.DEFAULT_DEBOUNCE_DELAY : 
+                Duration.ofMillis(Long.parseLong(debounceMillis));
+        
+        TriangleWaveRenderer renderer;
+        
+        try {
+            // A Gnuplot session stays warm between the renders.
+            renderer = createRendererFactory(watchArgs).createRenderer();
+        } catch (IOException ex) {
+            LOGGER.log(Level.SEVERE, "Could not create the renderer.", ex);
+            System.exit(1);
+            return;
+        }
+        
+        try (ConfigurationWatcher watcher = 
+                new ConfigurationWatcher(
+                        configurationFile, 
+                        debounceDelay,
+                        file -> readConfigurationFile(file, baseArguments),
+                        (configuration, changedProperties) -> 
+                                renderChange(renderer, 
+                                             configuration, 
+                                             changedProperties, 
+                                             outputFile))) {
+            
+            Runtime.getRuntime().addShutdownHook(new Thread(watcher::close));
+            System.out.println("Watching " + configurationFile);
+            watcher.run();
+        } catch (IOException ex) {
+            LOGGER.log(
+                    Level.SEVERE,
+                    "I/O exception while watching the configuration file.", 
+                    ex);
+        } catch (InterruptedException ex) {
+            LOGGER.log(
+                    Level.SEVERE,
+                    "Interrupted while watching the configuration file.", 
+                    ex);
+        } finally {
+            if (renderer instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    LOGGER.log(Level.WARNING, 
+                               "Could not close the renderer.", 
+                               ex);
+                }
+            }
         }
+    }
+    
+    private static void renderChange(
+            TriangleWaveRenderer renderer,
+            TriangleWavePlotterConfiguration configuration,
+            List<String> changedProperties,
+            Path outputFile) {
         
-        return triangleWavePlotterConfiguration;
+        long startNanos = System.nanoTime();
+        
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault().startStage(RenderStage.RENDER)) {
+            renderer.render(configuration, outputFile);
+            timer.markSuccessful();
+        } catch (IOException ex) {
+            LOGGER.log(
+                    Level.SEVERE,
+                    "I/O exception while generating the plot PNG.", 
+                    ex);
+            
+            return;
+        }
+        
+        System.out.println(
+                "Generated the plot in " 
+                        + outputFile 
+                        + " in " 
+                        + (System.nanoTime() - startNanos) / 1_000_000L
+                        + " ms, changed: " 
+                        + (changedProperties.isEmpty() ? 
+                                "nothing" : 
+                                String.join(", ", changedProperties)));
     }
+    
+    /**
+     * Reads the configuration file of the watch mode. Each line holds zero or
+     * more whitespace-separated OPTIONS, and lines starting with {@code #} 
+     * are comments. The options in the file are applied after 
+     * {@code baseArguments}.
+     * 
+     * @param configurationFile the configuration file.
+     * @param baseArguments     the options given on the command line.
+     * @return the configuration.
+     * @throws IOException if the file cannot be read.
+     */
+    static TriangleWavePlotterConfiguration readConfigurationFile(
+            Path configurationFile,
+            List<String> baseArguments) throws IOException {
+        
+        TriangleWavePlotterConfiguration.Builder builder = 
+                TriangleWavePlotterConfiguration.builder();
+        
+        for (String argument : baseArguments) {
+            ConfigurationArgumentParser.parseArgument(builder, argument);
+        }
         
-    private void processArgument(
-            TriangleWavePlotterConfiguration triangleWavePlotterConfiguration,
-            String argument) {
+        for (String line : Files.readAllLines(configurationFile, 
+                                              StandardCharsets.UTF_8)) {
+            if (line.strip().startsWith(CONFIGURATION_FILE_COMMENT)) {
+                continue;
+            }
+            
+            for (String argument : ConfigurationArgumentParser.tokenize(line)) {
+                ConfigurationArgumentParser.parseArgument(builder, argument);
+            }
+        }
+        
+        return builder.build();
+    }
     
-        String command = argument.split("=")[0];
-        String param   = argument.split("=")[1];
+    private void runServer(String[] args) {
+        int port = 
+                Integer.parseInt(
+                        findOption(args, 
+                                   CommandLineArguments.PORT, 
+                                   DEFAULT_PORT));
+        
+        int numberOfWorkers = findNumberOfWorkers(args);
+        int queueCapacity = 
+                Integer.parseInt(
+                        findOption(args,
+                                   CommandLineArguments.QUEUE_CAPACITY,
+                                   Integer.toString(4 * numberOfWorkers)));
+        
+        TriangleWavePlotterServer server;
+        
+        try {
+            InetAddress bindAddress = 
+                    InetAddress.getByName(
+                            findOption(args, 
+                                       CommandLineArguments.BIND_ADDRESS, 
+                                       DEFAULT_BIND_ADDRESS));
             
-        if (command.startsWith(CommandLineArguments.PERIOD)) {
-            triangleWavePlotterConfiguration
-                    .setPeriod(Double.parseDouble(param));
-        } else if (command.startsWith(CommandLineArguments.AMPLITUDE)) {
-            triangleWavePlotterConfiguration
-                    .setAmplitude(Double.parseDouble(param));
-        } else if (command.startsWith(CommandLineArguments.SHIFT)) {
-            triangleWavePlotterConfiguration.setShift(
-                    Double.parseDouble(param));
-        } else if (command.startsWith(CommandLineArguments.COLOR)) {
-            triangleWavePlotterConfiguration.setColor(param);
-        } else if (command.startsWith(CommandLineArguments.LINE_WIDTH)) {
-            triangleWavePlotterConfiguration
-                    .setLineWidth(Integer.parseInt(param));
-        } else if (command.startsWith(CommandLineArguments.X_RANGE_START)) {
-            triangleWavePlotterConfiguration
-                    .setXRangeStart(Double.parseDouble(param));
-        } else if (command.startsWith(CommandLineArguments.X_RANGE_END)) {
-            triangleWavePlotterConfiguration
-                    .setXRangeEnd(Double.parseDouble(param));
-        } else if (command.startsWith(CommandLineArguments.Y_RANGE_START)) {
-            triangleWavePlotterConfiguration
-                    .setYRangeStart(Double.parseDouble(param));
-        } else if (command.startsWith(CommandLineArguments.Y_RANGE_END)) {
-            triangleWavePlotterConfiguration
-                    .setYRangeEnd(Double.parseDouble(param));
-        } else if (command.startsWith(CommandLineArguments.PLOT_WIDTH)) {
-            triangleWavePlotterConfiguration.setPlotWidth(param);
-        } else if (command.startsWith(CommandLineArguments.PLOT_HEIGHT)) {
-            triangleWavePlotterConfiguration.setPlotHeight(param);
-        } else {
-            throw new IllegalStateException(
-                    "Unknown command = '" + command + "'");
-        }
-    }
-        
-    private String computeGnuplotScript(
-            String plotTemplate,
-            String outputFileName,
-            TriangleWavePlotterConfiguration triangleWavePlotterConfiguration) {
-        
-        return plotTemplate
-                .replace(
-                        Anchors.PERIOD, 
-                        Double.toString(
-                                triangleWavePlotterConfiguration.getPeriod()))
-                .replace(
-                        Anchors.AMPLITUDE,
-                        Double.toString(
-                                triangleWavePlotterConfiguration
-                                        .getAmplitude()))
-                .replace(
-                        Anchors.SHIFT,
-                        Double.toString(
-                                triangleWavePlotterConfiguration.getShift()))
-                .replace(
-                        Anchors.COLOR, 
-                        triangleWavePlotterConfiguration.getColor())
-                .replace(
-                        Anchors.LINE_WIDTH, 
-                        Integer.toString(
-                                triangleWavePlotterConfiguration
-                                        .getLineWidth())) 
-                .replace(
-                        Anchors.X_RANGE_START, 
-                        Double.toString(
-                                triangleWavePlotterConfiguration
-                                        .getXRangeStart()))
-                .replace(
-                        Anchors.X_RANGE_END, 
-                        Double.toString(
-                                triangleWavePlotterConfiguration
-                                        .getXRangeEnd()))
-                .replace(
-                        Anchors.Y_RANGE_START,
-                        Double.toString(
-                                triangleWavePlotterConfiguration
-                                        .getYRangeStart()))
-                .replace(
-                        Anchors.Y_RANGE_END, 
-                        Double.toString(
-                                triangleWavePlotterConfiguration
-                                        .getYRangeEnd()))
-                .replace(
-                        Anchors.PLOT_WIDTH, 
-                        triangleWavePlotterConfiguration.getPlotWidth())
-                .replace(
-                        Anchors.PLOT_HEIGHT, 
-                        triangleWavePlotterConfiguration.getPlotHeight())
-                .replace(Anchors.OUTPUT_FILE_NAME, outputFileName);
+            server = new TriangleWavePlotterServer(bindAddress, 
+                                                   port, 
+                                                   selectRenderer(args), 
+                                                   numberOfWorkers, 
+                                                   queueCapacity);
+        } catch (IOException ex) {
+            LOGGER.log(Level.SEVERE, "Could not start the server.", ex);
+            System.exit(1);
+            return;
+        }
+        
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        server.start();
+        
+        System.out.println(
+                "Serving plots at http://" 
+                        + server.getAddress().getHostAddress() 
+                        + ":" 
+                        + server.getPort() 
+                        + TriangleWavePlotterServer.PLOT_PATH);
+    }
+    
+    private static String expandHomeDirectory(String fileName) {
+        String homeDirectory = System.getProperty("user.home");
+        
+        if (fileName.startsWith(WINDOWS_USERPROFILE)) {
+            return homeDirectory
+                    + File.separator
+                    + fileName.substring(WINDOWS_USERPROFILE.length());
+        } else if (fileName.startsWith(LINUX_USERPROFILE)) {
+            return homeDirectory
+                    + File.separator
+                    + fileName.substring(LINUX_USERPROFILE.length());
+        }
+        
+        return fileName;
+    }
+    
+    static TriangleWavePlotterConfiguration 
+        buildTriangleWavePlotterConfiguration(String[] args) {
+        
+        TriangleWavePlotterConfiguration.Builder builder = 
+                TriangleWavePlotterConfiguration.builder();
+        
+        for (int index = 0; index < args.length - 1; index++) {
+            ConfigurationArgumentParser.parseArgument(builder, args[index]);
+        }
+        
+        return builder.build();
+    }
+    
+    /**
+     * Builds the configurations of the overlaid waves. The options before the
+     * first {@code --wave} apply to all the waves, and each {@code --wave} 
+     * starts a new wave configured by the options following it. The last 
+     * argument is the output file name.
+     * 
+     * @param args the command line arguments.
+     * @return the configurations of the waves, at least one.
+     */
+    static List<TriangleWavePlotterConfiguration> 
+        buildOverlayConfigurations(String[] args) {
+        
+        List<String> commonArguments = new ArrayList<>();
+        List<List<String>> waveArguments = new ArrayList<>();
+        
+        for (int index = 0; index < args.length - 1; index++) {
+            if (args[index].equals(WAVE_SEPARATOR)) {
+                waveArguments.add(new ArrayList<>());
+            } else if (waveArguments.isEmpty()) {
+                commonArguments.add(args[index]);
+            } else {
+                waveArguments.get(waveArguments.size() - 1).add(args[index]);
+            }
+        }
+        
+        if (waveArguments.isEmpty()) {
+            waveArguments.add(List.of());
+        }
+        
+        List<TriangleWavePlotterConfiguration> configurations = 
+                new ArrayList<>(waveArguments.size());
+        
+        for (List<String> arguments : waveArguments) {
+            TriangleWavePlotterConfiguration.Builder builder = 
+                    TriangleWavePlotterConfiguration.builder();
+            
+            for (String argument : commonArguments) {
+                ConfigurationArgumentParser.parseArgument(builder, argument);
+            }
+            
+            for (String argument : arguments) {
+                ConfigurationArgumentParser.parseArgument(builder, argument);
+            }
+            
+            configurations.add(builder.build());
+        }
+        
+        return TriangleWavePlotterConfiguration.validateOverlay(configurations);
     }
     
     private void printHelp() {
@@ -309,19 +1119,78 @@ public final class TriangleWavePlotter {
         System.out.println(
         """
         java -jar %s [OPTIONS] OUTPUT_FILE_NAME
+        java -jar %s [OPTIONS] --wave [OPTIONS] --wave [OPTIONS] ... OUTPUT_FILE_NAME
+        java -jar %s --batch JOB_FILE_NAME [--jobFormat=FORMAT] [--workers=N] [--backend=...]
+        java -jar %s --export [OPTIONS] OUTPUT_FILE_NAME
+        java -jar %s --audio [--sampleRate=RATE] [--duration=SECONDS] [OPTIONS] OUTPUT_FILE_NAME
+        java -jar %s --sweep --from=VALUE --to=VALUE [--parameter=NAME] [--frames=N] [OPTIONS] OUTPUT_FILE_NAME
+        java -jar %s --watch CONFIGURATION_FILE [--debounce=MILLIS] [OPTIONS] OUTPUT_FILE_NAME
+        java -jar %s --serve [--port=PORT] [--bindAddress=ADDRESS] [--workers=N] [--queueCapacity=N] [--backend=...]
         Where OPTIONS can have:
             --period=PERIOD       sets the period, positive floating-point-value
             --amplitude=AMPLITUDE sets the amplitude, positive floating-point value
             --shift               sets the shift, floating-point value
-            --color               sets the line color, long or short RGB value, or predefined color name
+            --color               sets the line color, #RGB, #RRGGBB, #AARRGGBB or a Gnuplot color name
             --lineWidth           sets the line width, positive integer
             --xRangeStart         sets the X-range start, floating-point value
             --xRangeEnd           sets the X-range end, floating-point value
             --yRangeStart         sets the Y-range start, floating-point value
             --yRangeEnd           sets the Y-range end, floating-point value
-            --plotWidth           sets the plot width, string
-            --plotHeight          sets the plot height, string
-        """.formatted(jarFileName));
+            --plotWidth           sets the plot width, positive integer of at most 1048576 pixels
+            --plotHeight          sets the plot height, positive integer of at most 1048576 pixels
+            --sampling            function (default), vertices (exact peaks and troughs only,
+                                  decimated like minmax when denser than the pixels) or
+                                  minmax (one min/max pair per pixel column, for huge x-ranges)
+            --backend             sets the rendering backend, gnuplot (default) or java
+            --gnuplotPath         sets the Gnuplot executable, gnuplot.exe by default
+            --scriptInput         passes the script via a temporary file (default) or stdin
+            --timeout             kills a Gnuplot run after the given seconds, 60 by default
+            --retries             sets the number of retries of a failed Gnuplot run, 0 by default
+            --tileWidth           renders the plot area only, in tiles of at most the given pixel
+                                  width on --workers threads, for very wide plots
+            --cacheDirectory      reuses the PNGs of identical earlier plots cached in the directory
+            --cacheMemoryBytes    sets the maximum size of the PNGs cached in memory, 64 MiB by default
+            --cacheMemoryEntries  sets the maximum number of PNGs cached in memory, 1000 by default
+            --cacheDiskBytes      sets the maximum size of the PNGs cached on disk, 1 GiB by default
+            --cacheDiskEntries    sets the maximum number of PNGs cached on disk, 100000 by default
+            --samples             sets the number of exported samples, 1000000 by default
+            --sampleFormat        sets the export format: binary (default, little-endian
+                                  float64 x/y pairs), raw (float64 y-values) or csv
+            --sampleRate          sets the audio sample rate in Hz, 48000 by default
+            --duration            sets the audio duration in seconds, 1 by default
+            --audioFormat         sets the WAV sample format: pcm16 (default), pcm24 or float32
+            --bandLimited         true leaves out the harmonics above the Nyquist frequency
+        Each line of JOB_FILE_NAME is of form [OPTIONS] OUTPUT_FILE_NAME, unless FORMAT
+        (guessed from the file name extension) is jsonl, with lines like
+        {"period": 4, "output": "a.png"}, or csv, with a header like period,output.
+        The job file is streamed, and malformed lines are reported and skipped.
+        Each --wave adds a wave to a single overlay plot, configured by the OPTIONS
+        before the first --wave and then by its own OPTIONS. All the waves must share
+        the ranges and the plot size.
+        The batch mode renders on --workers threads, one per processor by default.
+        The sweep mode steps the period, amplitude or shift (default) from --from to --to over
+        --frames frames (100 by default), either in a single Gnuplot do-for loop (--strategy=loop,
+        the default for Gnuplot) or in parallel on --workers threads (--strategy=parallel). The
+        frames are written as OUTPUT_FILE_NAME with a frame number appended to its name, or, if
+        OUTPUT_FILE_NAME ends with .gif, as an animated GIF showing a frame per --frameDelay
+        milliseconds, 40 by default.
+        The audio mode writes a mono WAV file of the wave with the period and the shift in
+        seconds and the amplitude relative to the full scale, e.g. --period=0.001 for 1 kHz.
+        The watch mode re-renders OUTPUT_FILE_NAME whenever the OPTIONS in CONFIGURATION_FILE,
+        applied after the command line OPTIONS, change. Bursts of edits are merged until the file
+        has been quiet for --debounce milliseconds (20 by default), and saves not changing the
+        plot are skipped. With Gnuplot, all the plots are drawn by the same Gnuplot process.
+        The server maps the query parameters of /plot to OPTIONS, e.g. /plot?period=4&amplitude=2
+        and serves the per-stage render latencies at /metrics. It listens on the loopback address
+        unless --bindAddress is given, and rejects plots of more than 4096 x 4096 pixels.
+        """.formatted(jarFileName, 
+                     jarFileName, 
+                     jarFileName, 
+                     jarFileName, 
+                     jarFileName, 
+                     jarFileName, 
+                     jarFileName, 
+                     jarFileName));
     }
     
     private String getJarFileName() throws URISyntaxException {
@@ -1,11 +1,14 @@
 package com.github.coderodde.gnuplot.trianglewave;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * This class holds all the configuration parameters for plotting a 
- * triangle wave.
+ * triangle wave. Instances are immutable, and thus may be shared by 
+ * concurrent renders and used as map keys; use a {@link Builder} to create 
+ * them.
  * 
  * @author Rodion "rodde" Efremov
  * @version 1.6 (Sep 17, 2023)
@@ -13,8 +16,10 @@ import java.util.regex.Pattern;
  */
 public final class TriangleWavePlotterConfiguration {
     
-    private static final Pattern SHORT_COLOR_RGB_HEX = 
-            Pattern.compile("#[0-9A-F]{3}", Pattern.CASE_INSENSITIVE);
+    /**
+     * The maximum plot width and height in pixels.
+     */
+    static final int MAXIMUM_PLOT_DIMENSION = 1 << 20;
     
     private static final class Defaults {
         static final double PERIOD        = 2.0 * Math.PI ;
@@ -28,119 +33,432 @@ public final class TriangleWavePlotterConfiguration {
         static final double Y_RANGE_END   = 1.5           ;
         static final String PLOT_WIDTH    = "960"         ;
         static final String PLOT_HEIGHT   = "600"         ;
+        static final TriangleWaveSampling SAMPLING = 
+                TriangleWaveSampling.FUNCTION;
+        static final boolean DECORATED    = true          ;
     }
     
-    private double period      = Defaults.PERIOD       ;      
-    private double amplitude   = Defaults.AMPLITUDE    ;
-    private double shift       = Defaults.SHIFT        ;
-    private String color       = Defaults.COLOR        ;
-    private int lineWidth      = Defaults.LINE_WIDTH   ;
-    private double xRangeStart = Defaults.X_RANGE_START;
-    private double xRangeEnd   = Defaults.X_RANGE_END  ;
-    private double yRangeStart = Defaults.Y_RANGE_START;
-    private double yRangeEnd   = Defaults.Y_RANGE_END  ;
-    private String plotWidth   = Defaults.PLOT_WIDTH   ;
-    private String plotHeight  = Defaults.PLOT_HEIGHT  ; 
-
-    public double getPeriod() {
-        return period;
+    private final double period;
+    private final double amplitude;
+    private final double shift;
+    private final String color;
+    private final int lineWidth;
+    private final double xRangeStart;
+    private final double xRangeEnd;
+    private final double yRangeStart;
+    private final double yRangeEnd;
+    private final String plotWidth;
+    private final String plotHeight;
+    private final TriangleWaveSampling sampling;
+    private final boolean decorated;
+    
+    /**
+     * The arguments {@code PERIOD, AMPLITUDE, SHIFT} of the triangle function
+     * in the Gnuplot script, formatted once.
+     */
+    private final String waveFunctionArguments;
+    private final int hashCode;
+    
+    /**
+     * Constructs the default configuration.
+     */
+    public TriangleWavePlotterConfiguration() {
+        this(new Builder());
     }
     
-    public void setPeriod(double period) {
-        this.period = requireDoubleIsPositive(period);
+    private TriangleWavePlotterConfiguration(Builder builder) {
+        this.period      = builder.period;
+        this.amplitude   = builder.amplitude;
+        this.shift       = builder.shift;
+        this.color       = builder.color;
+        this.lineWidth   = builder.lineWidth;
+        this.xRangeStart = builder.xRangeStart;
+        this.xRangeEnd   = builder.xRangeEnd;
+        this.yRangeStart = builder.yRangeStart;
+        this.yRangeEnd   = builder.yRangeEnd;
+        this.plotWidth   = builder.plotWidth;
+        this.plotHeight  = builder.plotHeight;
+        this.sampling    = builder.sampling;
+        this.decorated   = builder.decorated;
+        
+        this.waveFunctionArguments = period + ", " + amplitude + ", " + shift;
+        this.hashCode = Objects.hash(period, 
+                                     amplitude, 
+                                     shift, 
+                                     color, 
+                                     lineWidth, 
+                                     xRangeStart, 
+                                     xRangeEnd, 
+                                     yRangeStart, 
+                                     yRangeEnd, 
+                                     plotWidth, 
+                                     plotHeight, 
+                                     sampling, 
+                                     decorated);
     }
     
-    public double getAmplitude() {
-        return amplitude;
+    /**
+     * Returns a builder initialized with the default configuration.
+     * 
+     * @return the builder.
+     */
+    public static Builder builder() {
+        return new Builder();
     }
     
-    public void setAmplitude(double amplitude) {
-        this.amplitude = requireDoubleIsPositive(amplitude);
+    /**
+     * Returns a builder initialized with this configuration.
+     * 
+     * @return the builder.
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
     }
     
-    public double getShift() {
-        return shift;
+    public double getPeriod() {
+        return period;
     }
     
-    public void setShift(double shift) {
-        double actualShift = shift % (2.0 * Math.PI);
-        
-        if (actualShift < 0.0) {
-            actualShift += 2.0 * Math.PI;
-        }
-        
-        this.shift = actualShift;
+    public double getAmplitude() {
+        return amplitude;
+    }
+    
+    public double getShift() {
+        return shift;
     }
     
     public String getColor() {
         return color;
     }
-
-    public void setColor(String color) {
-        this.color = validateHexColor(color);
-    }
-
+    
     public int getLineWidth() {
         return lineWidth;
     }
-
-    public void setLineWidth(int lineWidth) {
-        if (lineWidth < 1) {
-            throw new IllegalArgumentException(
-                    "Line width is too small: " 
-                            + lineWidth 
-                            + ". Must be at least 1.");
-        }
-        
-        this.lineWidth = lineWidth;
-    }
-
+    
     public double getXRangeStart() {
         return xRangeStart;
     }
-
-    public void setXRangeStart(double xRangeStart) {
-        this.xRangeStart = requireFiniteDouble(xRangeStart);
-    }
-
+    
     public double getXRangeEnd() {
         return xRangeEnd;
     }
-
-    public void setXRangeEnd(double xRangeEnd) {
-        this.xRangeEnd = requireFiniteDouble(xRangeEnd);
-    }
-
+    
     public double getYRangeStart() {
         return yRangeStart;
     }
-
-    public void setYRangeStart(double yRangeStart) {
-        this.yRangeStart = requireFiniteDouble(yRangeStart);
-    }
-
+    
     public double getYRangeEnd() {
         return yRangeEnd;
     }
-
-    public void setYRangeEnd(double yRangeEnd) {
-        this.yRangeEnd = requireFiniteDouble(yRangeEnd);
-    }
-
+    
     public String getPlotWidth() {
         return plotWidth;
     }
-
-    public void setPlotWidth(String plotWidth) {
-        this.plotWidth = plotWidth;
-    }
-
+    
     public String getPlotHeight() {
         return plotHeight;
     }
-
-    public void setPlotHeight(String plotHeight) {
-        this.plotHeight = plotHeight;
+    
+    /**
+     * Returns the plot width as a number of pixels.
+     * 
+     * @return the plot width in pixels.
+     */
+    public int getPlotWidthInPixels() {
+        return parseDimension(plotWidth);
+    }
+    
+    /**
+     * Returns the plot height as a number of pixels.
+     * 
+     * @return the plot height in pixels.
+     */
+    public int getPlotHeightInPixels() {
+        return parseDimension(plotHeight);
+    }
+    
+    public TriangleWaveSampling getSampling() {
+        return sampling;
+    }
+    
+    /**
+     * Tells whether the plot has margins, a border and tics. An undecorated 
+     * plot consists of the plot area only, so that the plots of adjacent 
+     * x-ranges line up side by side.
+     * 
+     * @return {@code true} if the plot is decorated.
+     */
+    public boolean isDecorated() {
+        return decorated;
+    }
+    
+    /**
+     * Returns the script fragment {@code PERIOD, AMPLITUDE, SHIFT}, the 
+     * arguments of the triangle function in the Gnuplot script.
+     * 
+     * @return the arguments of the triangle function.
+     */
+    String getWaveFunctionArguments() {
+        return waveFunctionArguments;
+    }
+    
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        
+        if (!(object instanceof TriangleWavePlotterConfiguration)) {
+            return false;
+        }
+        
+        TriangleWavePlotterConfiguration other = 
+                (TriangleWavePlotterConfiguration) object;
+        
+        return hashCode == other.hashCode
+                && Double.compare(period, other.period) == 0
+                && Double.compare(amplitude, other.amplitude) == 0
+                && Double.compare(shift, other.shift) == 0
+                && color.equals(other.color)
+                && lineWidth == other.lineWidth
+                && Double.compare(xRangeStart, other.xRangeStart) == 0
+                && Double.compare(xRangeEnd, other.xRangeEnd) == 0
+                && Double.compare(yRangeStart, other.yRangeStart) == 0
+                && Double.compare(yRangeEnd, other.yRangeEnd) == 0
+                && plotWidth.equals(other.plotWidth)
+                && plotHeight.equals(other.plotHeight)
+                && sampling == other.sampling
+                && decorated == other.decorated;
+    }
+    
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+    
+    /**
+     * Returns the names of the properties whose values differ between this 
+     * configuration and {@code other}, in the order of declaration.
+     * 
+     * @param other the configuration to compare to.
+     * @return the names of the changed properties, empty if the 
+     *         configurations describe the same plot.
+     */
+    List<String> findChangedProperties(TriangleWavePlotterConfiguration other) {
+        Objects.requireNonNull(other, "The input configuration is null.");
+        List<String> changed = new ArrayList<>();
+        
+        addIfChanged(changed, "period", period, other.period);
+        addIfChanged(changed, "amplitude", amplitude, other.amplitude);
+        addIfChanged(changed, "shift", shift, other.shift);
+        addIfChanged(changed, "color", color, other.color);
+        addIfChanged(changed, "lineWidth", lineWidth, other.lineWidth);
+        addIfChanged(changed, "xRangeStart", xRangeStart, other.xRangeStart);
+        addIfChanged(changed, "xRangeEnd", xRangeEnd, other.xRangeEnd);
+        addIfChanged(changed, "yRangeStart", yRangeStart, other.yRangeStart);
+        addIfChanged(changed, "yRangeEnd", yRangeEnd, other.yRangeEnd);
+        addIfChanged(changed, "plotWidth", plotWidth, other.plotWidth);
+        addIfChanged(changed, "plotHeight", plotHeight, other.plotHeight);
+        addIfChanged(changed, "sampling", sampling, other.sampling);
+        addIfChanged(changed, "decorated", decorated, other.decorated);
+        
+        return changed;
+    }
+    
+    /**
+     * Checks that the waves of {@code configurations} can be overlaid in a 
+     * single plot: there is at least one wave, and all the waves share the 
+     * x- and y-ranges and the plot size.
+     * 
+     * @param configurations the configurations of the waves.
+     * @return {@code configurations}.
+     */
+    static List<TriangleWavePlotterConfiguration> validateOverlay(
+            List<TriangleWavePlotterConfiguration> configurations) {
+        
+        Objects.requireNonNull(configurations, 
+                               "The input configuration list is null.");
+        
+        if (configurations.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "The input configuration list is empty.");
+        }
+        
+        TriangleWavePlotterConfiguration first = configurations.get(0);
+        
+        for (TriangleWavePlotterConfiguration configuration : configurations) {
+            if (configuration.xRangeStart != first.xRangeStart
+                    || configuration.xRangeEnd != first.xRangeEnd
+                    || configuration.yRangeStart != first.yRangeStart
+                    || configuration.yRangeEnd != first.yRangeEnd
+                    || !configuration.plotWidth.equals(first.plotWidth)
+                    || !configuration.plotHeight.equals(first.plotHeight)) {
+                throw new IllegalArgumentException(
+                        "The overlaid waves do not share the plot area.");
+            }
+        }
+        
+        return configurations;
+    }
+    
+    /**
+     * This class builds immutable configurations. Each setter validates its
+     * input.
+     */
+    public static final class Builder {
+        
+        private double period      = Defaults.PERIOD       ;
+        private double amplitude   = Defaults.AMPLITUDE    ;
+        private double shift       = Defaults.SHIFT        ;
+        private String color       = Defaults.COLOR        ;
+        private int lineWidth      = Defaults.LINE_WIDTH   ;
+        private double xRangeStart = Defaults.X_RANGE_START;
+        private double xRangeEnd   = Defaults.X_RANGE_END  ;
+        private double yRangeStart = Defaults.Y_RANGE_START;
+        private double yRangeEnd   = Defaults.Y_RANGE_END  ;
+        private String plotWidth   = Defaults.PLOT_WIDTH   ;
+        private String plotHeight  = Defaults.PLOT_HEIGHT  ;
+        private TriangleWaveSampling sampling = Defaults.SAMPLING;
+        private boolean decorated  = Defaults.DECORATED    ;
+        
+        private Builder() {}
+        
+        private Builder(TriangleWavePlotterConfiguration configuration) {
+            this.period      = configuration.period;
+            this.amplitude   = configuration.amplitude;
+            this.shift       = configuration.shift;
+            this.color       = configuration.color;
+            this.lineWidth   = configuration.lineWidth;
+            this.xRangeStart = configuration.xRangeStart;
+            this.xRangeEnd   = configuration.xRangeEnd;
+            this.yRangeStart = configuration.yRangeStart;
+            this.yRangeEnd   = configuration.yRangeEnd;
+            this.plotWidth   = configuration.plotWidth;
+            this.plotHeight  = configuration.plotHeight;
+            this.sampling    = configuration.sampling;
+            this.decorated   = configuration.decorated;
+        }
+        
+        public Builder setPeriod(double period) {
+            this.period = requireDoubleIsPositive(period);
+            return this;
+        }
+        
+        public Builder setAmplitude(double amplitude) {
+            this.amplitude = requireDoubleIsPositive(amplitude);
+            return this;
+        }
+        
+        public Builder setShift(double shift) {
+            double actualShift = shift % (2.0 * Math.PI);
+            
+            if (actualShift < 0.0) {
+                actualShift += 2.0 * Math.PI;
+            }
+            
+            this.shift = actualShift;
+            return this;
+        }
+        
+        public Builder setColor(String color) {
+            this.color = 
+                    validateHexColor(
+                            Objects.requireNonNull(
+                                    color, 
+                                    "The input color is null."));
+            return this;
+        }
+        
+        public Builder setLineWidth(int lineWidth) {
+            if (lineWidth < 1) {
+                throw new IllegalArgumentException(
+                        "Line width is too small: " 
+                                + lineWidth 
+                                + ". Must be at least 1.");
+            }
+            
+            this.lineWidth = lineWidth;
+            return this;
+        }
+        
+        public Builder setXRangeStart(double xRangeStart) {
+            this.xRangeStart = requireFiniteDouble(xRangeStart);
+            return this;
+        }
+        
+        public Builder setXRangeEnd(double xRangeEnd) {
+            this.xRangeEnd = requireFiniteDouble(xRangeEnd);
+            return this;
+        }
+        
+        public Builder setYRangeStart(double yRangeStart) {
+            this.yRangeStart = requireFiniteDouble(yRangeStart);
+            return this;
+        }
+        
+        public Builder setYRangeEnd(double yRangeEnd) {
+            this.yRangeEnd = requireFiniteDouble(yRangeEnd);
+            return this;
+        }
+        
+        /**
+         * Sets the plot width, a positive integer of at most 
+         * {@link #MAXIMUM_PLOT_DIMENSION} pixels.
+         * 
+         * @param plotWidth the plot width.
+         * @return this builder.
+         */
+        public Builder setPlotWidth(String plotWidth) {
+            this.plotWidth = 
+                    Integer.toString(
+                            parseDimension(
+                                    Objects.requireNonNull(
+                                            plotWidth, 
+                                            "The input plot width is null.")));
+            return this;
+        }
+        
+        /**
+         * Sets the plot height, a positive integer of at most 
+         * {@link #MAXIMUM_PLOT_DIMENSION} pixels.
+         * 
+         * @param plotHeight the plot height.
+         * @return this builder.
+         */
+        public Builder setPlotHeight(String plotHeight) {
+            this.plotHeight = 
+                    Integer.toString(
+                            parseDimension(
+                                    Objects.requireNonNull(
+                                            plotHeight, 
+                                            "The input plot height is null.")));
+            return this;
+        }
+        
+        public Builder setSampling(TriangleWaveSampling sampling) {
+            this.sampling = 
+                    Objects.requireNonNull(sampling, 
+                                           "The input sampling is null.");
+            return this;
+        }
+        
+        public Builder setDecorated(boolean decorated) {
+            this.decorated = decorated;
+            return this;
+        }
+        
+        public TriangleWavePlotterConfiguration build() {
+            return new TriangleWavePlotterConfiguration(this);
+        }
+    }
+    
+    private static void addIfChanged(List<String> changed, 
+                                     String propertyName, 
+                                     Object value, 
+                                     Object otherValue) {
+        if (!value.equals(otherValue)) {
+            changed.add(propertyName);
+        }
     }
     
     private static double requireFiniteDouble(double d) {
@@ -173,31 +491,46 @@ public final class TriangleWavePlotterConfiguration {
         return d;
     }
     
-    static String validateHexColor(String hexColorCandidate) {
-        Matcher matcherShoftRGBHex = 
-                SHORT_COLOR_RGB_HEX.matcher(hexColorCandidate);
+    private static int parseDimension(String dimension) {
+        int value;
+        
+        try {
+            value = Integer.parseInt(dimension.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(
+                    "Bad plot dimension: '" + dimension + "'.", 
+                    ex);
+        }
+        
+        if (value < 1) {
+            throw new IllegalArgumentException(
+                    "Plot dimension is too small: " 
+                            + value 
+                            + ". Must be at least 1.");
+        }
         
-        if (matcherShoftRGBHex.matches()) {
-            return convertShortRGBToLong(hexColorCandidate);
+        if (value > MAXIMUM_PLOT_DIMENSION) {
+            throw new IllegalArgumentException(
+                    "Plot dimension is too large: " 
+                            + value 
+                            + ". Must be at most " 
+                            + MAXIMUM_PLOT_DIMENSION 
+                            + ".");
         }
         
-        // Perhaps, it's a color name. Just return and wish for the good.
-        return hexColorCandidate;
+        return value;
     }
     
-    private static String convertShortRGBToLong(String hexColor) {
-        char r = hexColor.charAt(1);
-        char g = hexColor.charAt(2);
-        char b = hexColor.charAt(3);
-        
-        return new StringBuilder()
-                .append("#")
-                .append(r)
-                .append(r)
-                .append(g)
-                .append(g)
-                .append(b)
-                .append(b)
-                .toString();
+    /**
+     * Validates the color specification {@code hexColorCandidate}.
+     * 
+     * @param hexColorCandidate the color specification.
+     * @return the normalized color.
+     * @throws IllegalArgumentException if the color is neither a hex color 
+     *                                  nor a Gnuplot color name.
+     * @see GnuplotColors#validate(String)
+     */
+    static String validateHexColor(String hexColorCandidate) {
+        return GnuplotColors.validate(hexColorCandidate);
     }
 }
@@ -0,0 +1,337 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This class implements an HTTP server rendering triangle wave plots. The 
+ * query parameters of {@code GET /plot} have the same names as the command 
+ * line options, without the leading dashes, for example
+ * {@code /plot?period=4&amplitude=2}. Each request runs on its own virtual 
+ * thread, while at most {@code numberOfWorkers} renders run at a time and at
+ * most {@code queueCapacity} requests wait for a worker. The requests beyond 
+ * that are answered with 503 Service Unavailable. {@code GET /metrics} 
+ * returns the per-stage render latencies of {@link RenderMetrics}.
+ * <p>
+ * The server listens on the loopback address unless another bind address is
+ * given. A plot of more than {@link #MAXIMUM_PLOT_PIXELS} pixels, or a 
+ * vertex-sampled plot of more than {@link #MAXIMUM_PLOT_VERTICES} vertices,
+ * is answered with 400 Bad Request, so that a query cannot exhaust the memory
+ * of the server.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class TriangleWavePlotterServer implements AutoCloseable {
+    
+    private static final Logger LOGGER = 
+            Logger.getLogger(TriangleWavePlotterServer.class.getSimpleName());
+    
+    static final String PLOT_PATH = "/plot";
+    static final String METRICS_PATH = "/metrics";
+    
+    /**
+     * The maximum number of pixels of a served plot.
+     */
+    static final long MAXIMUM_PLOT_PIXELS = 4096L * 4096L;
+    
+    /**
+     * The maximum number of vertices of a served plot sampled at the wave 
+     * vertices.
+     */
+    static final long MAXIMUM_PLOT_VERTICES = 1L << 20;
+    
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String PNG_CONTENT_TYPE = "image/png";
+    private static final String TEXT_CONTENT_TYPE = "text/plain; charset=utf-8";
+    private static final String RETRY_AFTER = "Retry-After";
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final String GET_METHOD = "GET";
+    private static final int STOP_DELAY_SECONDS = 1;
+    
+    private static final class StatusCodes {
+        static final int OK                  = 200;
+        static final int BAD_REQUEST         = 400;
+        static final int METHOD_NOT_ALLOWED  = 405;
+        static final int INTERNAL_ERROR      = 500;
+        static final int SERVICE_UNAVAILABLE = 503;
+    }
+    
+    private final HttpServer httpServer;
+    private final ExecutorService executorService;
+    private final TriangleWaveRenderer renderer;
+    private final Semaphore workerPermits;
+    private final Semaphore admissionPermits;
+    
+    /**
+     * Constructs the server and binds it to the loopback address. Call 
+     * {@link #start()} to start serving.
+     * 
+     * @param port            the port to listen on, or 0 for any free port.
+     * @param renderer        the renderer. Must be thread-safe.
+     * @param numberOfWorkers the maximum number of concurrent renders.
+     * @param queueCapacity   the maximum number of requests waiting for a 
+     *                        worker.
+     * @throws IOException if the server cannot be bound.
+     */
+    public TriangleWavePlotterServer(int port,
+                                     TriangleWaveRenderer renderer,
+                                     int numberOfWorkers,
+                                     int queueCapacity) throws IOException {
+        this(InetAddress.getLoopbackAddress(), 
+             port, 
+             renderer, 
+             numberOfWorkers, 
+             queueCapacity);
+    }
+    
+    /**
+     * Constructs and binds the server. Call {@link #start()} to start serving.
+     * 
+     * @param bindAddress     the address to listen on.
+     * @param port            the port to listen on, or 0 for any free port.
+     * @param renderer        the renderer. Must be thread-safe.
+     * @param numberOfWorkers the maximum number of concurrent renders.
+     * @param queueCapacity   the maximum number of requests waiting for a 
+     *                        worker.
+     * @throws IOException if the server cannot be bound.
+     */
+    public TriangleWavePlotterServer(InetAddress bindAddress,
+                                     int port,
+                                     TriangleWaveRenderer renderer,
+                                     int numberOfWorkers,
+                                     int queueCapacity) throws IOException {
+        Objects.requireNonNull(bindAddress, "The input bind address is null.");
+        
+        if (numberOfWorkers < 1) {
+            throw new IllegalArgumentException(
+                    "Number of workers is too small: " 
+                            + numberOfWorkers 
+                            + ". Must be at least 1.");
+        }
+        
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Queue capacity is negative: " + queueCapacity + ".");
+        }
+        
+        this.renderer = 
+                Objects.requireNonNull(renderer, "The input renderer is null.");
+        
+        this.workerPermits = new Semaphore(numberOfWorkers);
+        this.admissionPermits = new Semaphore(numberOfWorkers + queueCapacity);
+        this.executorService = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpServer = 
+                HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+        this.httpServer.setExecutor(executorService);
+        this.httpServer.createContext(PLOT_PATH, this::handlePlot);
+        this.httpServer.createContext(METRICS_PATH, this::handleMetrics);
+    }
+    
+    public void start() {
+        httpServer.start();
+    }
+    
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+    
+    public InetAddress getAddress() {
+        return httpServer.getAddress().getAddress();
+    }
+    
+    @Override
+    public void close() {
+        httpServer.stop(STOP_DELAY_SECONDS);
+        executorService.close();
+    }
+    
+    private void handlePlot(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals(GET_METHOD)) {
+                sendText(exchange, 
+                         StatusCodes.METHOD_NOT_ALLOWED, 
+                         "Only GET is supported.");
+                return;
+            }
+            
+            TriangleWavePlotterConfiguration configuration;
+            
+            try {
+                configuration = 
+                        parseConfiguration(exchange.getRequestURI()
+                                                   .getRawQuery());
+            } catch (RuntimeException ex) {
+                sendText(exchange, StatusCodes.BAD_REQUEST, ex.getMessage());
+                return;
+            }
+            
+            if (!admissionPermits.tryAcquire()) {
+                exchange.getResponseHeaders()
+                        .set(RETRY_AFTER, RETRY_AFTER_SECONDS);
+                
+                sendText(exchange, 
+                         StatusCodes.SERVICE_UNAVAILABLE, 
+                         "The server is overloaded.");
+                return;
+            }
+            
+            byte[] png;
+            
+            try {
+                png = render(configuration);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                sendText(exchange, 
+                         StatusCodes.SERVICE_UNAVAILABLE, 
+                         "The server is shutting down.");
+                return;
+            } catch (IOException | RuntimeException ex) {
+                LOGGER.log(Level.SEVERE, "Could not render the plot.", ex);
+                sendText(exchange, 
+                         StatusCodes.INTERNAL_ERROR, 
+                         "Could not render the plot.");
+                return;
+            } finally {
+                admissionPermits.release();
+            }
+            
+            exchange.getResponseHeaders().set(CONTENT_TYPE, PNG_CONTENT_TYPE);
+            exchange.sendResponseHeaders(StatusCodes.OK, png.length);
+            
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(png);
+            }
+        }
+    }
+    
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            sendText(exchange, 
+                     StatusCodes.OK, 
+                     RenderMetrics.getDefault().snapshot().toString());
+        }
+    }
+    
+    private byte[] render(TriangleWavePlotterConfiguration configuration) 
+            throws IOException, InterruptedException {
+        workerPermits.acquire();
+        
+        try (RenderStageTimer timer = 
+                RenderMetrics.getDefault().startStage(RenderStage.RENDER)) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            renderer.render(configuration, outputStream);
+            timer.markSuccessful();
+            return outputStream.toByteArray();
+        } finally {
+            workerPermits.release();
+        }
+    }
+    
+    /**
+     * Builds the configuration out of a raw URL query string.
+     * 
+     * @param rawQuery the raw query, may be {@code null}.
+     * @return the plot configuration.
+     * @throws IllegalArgumentException if a value is not valid, the plot has
+     *                                  more than 
+     *                                  {@link #MAXIMUM_PLOT_PIXELS} pixels, 
+     *                                  or more than
+     *                                  {@link #MAXIMUM_PLOT_VERTICES} 
+     *                                  vertices.
+     */
+    static TriangleWavePlotterConfiguration parseConfiguration(
+            String rawQuery) {
+        
+        TriangleWavePlotterConfiguration.Builder builder = 
+                TriangleWavePlotterConfiguration.builder();
+        
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return builder.build();
+        }
+        
+        for (String parameter : rawQuery.split("&")) {
+            if (parameter.isEmpty()) {
+                continue;
+            }
+            
+            int separatorIndex = parameter.indexOf('=');
+            
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException(
+                        "No value for parameter '" + parameter + "'.");
+            }
+            
+            String name = 
+                    URLDecoder.decode(parameter.substring(0, separatorIndex), 
+                                      StandardCharsets.UTF_8);
+            
+            String value = 
+                    URLDecoder.decode(parameter.substring(separatorIndex + 1), 
+                                      StandardCharsets.UTF_8);
+            
+            ConfigurationArgumentParser.parseOption(builder, name, value);
+        }
+        
+        return requirePlotSizeIsServable(builder.build());
+    }
+    
+    private static TriangleWavePlotterConfiguration requirePlotSizeIsServable(
+            TriangleWavePlotterConfiguration configuration) {
+        
+        long pixels = (long) configuration.getPlotWidthInPixels() 
+                           * configuration.getPlotHeightInPixels();
+        
+        if (pixels > MAXIMUM_PLOT_PIXELS) {
+            throw new IllegalArgumentException(
+                    "The plot is too large: " 
+                            + pixels 
+                            + " pixels. Must be at most " 
+                            + MAXIMUM_PLOT_PIXELS 
+                            + ".");
+        }
+        
+        if (configuration.getSampling() == TriangleWaveSampling.VERTICES) {
+            long vertices = TriangleWavePolyline.countVertices(configuration);
+            
+            if (vertices > MAXIMUM_PLOT_VERTICES) {
+                throw new IllegalArgumentException(
+                        "The plot has too many vertices: " 
+                                + vertices 
+                                + ". Must be at most " 
+                                + MAXIMUM_PLOT_VERTICES 
+                                + ".");
+            }
+        }
+        
+        return configuration;
+    }
+    
+    private static void sendText(HttpExchange exchange, 
+                                 int statusCode, 
+                                 String text) throws IOException {
+        byte[] bytes = 
+                String.valueOf(text).getBytes(StandardCharsets.UTF_8);
+        
+        exchange.getResponseHeaders().set(CONTENT_TYPE, TEXT_CONTENT_TYPE);
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
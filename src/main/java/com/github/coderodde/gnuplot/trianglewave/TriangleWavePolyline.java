@@ -0,0 +1,187 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.util.Arrays;
+
+/**
+ * This class computes the exact polyline of a triangle wave over an x-range. 
+ * Since the wave is piecewise linear, the polyline consists of the range end
+ * points and the peak and trough vertices in between, that is, about two 
+ * points per period regardless of the plot resolution. Callers drawing into
+ * a fixed number of pixel columns should check {@link #countVertices} and 
+ * decimate instead when the polyline is much denser than the pixels.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public final class TriangleWavePolyline {
+    
+    /**
+     * Receives the polyline vertices in the order of increasing x.
+     */
+    @FunctionalInterface
+    public interface VertexConsumer {
+        void accept(double x, double y);
+    }
+    
+    /**
+     * The average number of vertices per pixel column above which the 
+     * renderers decimate the polyline.
+     */
+    public static final long MAXIMUM_VERTICES_PER_COLUMN = 4L;
+    
+    private TriangleWavePolyline() {}
+    
+    /**
+     * Feeds the polyline of the wave over {@code [xRangeStart, xRangeEnd]} to
+     * {@code consumer}. If the range is reversed, the vertices are still 
+     * produced in the order of increasing x.
+     * 
+     * @param xRangeStart the start of the x-range.
+     * @param xRangeEnd   the end of the x-range.
+     * @param period      the period of the wave.
+     * @param amplitude   the amplitude of the wave.
+     * @param shift       the shift of the wave.
+     * @param consumer    the vertex consumer.
+     * @throws IllegalArgumentException if the period is too small to be 
+     *                                  resolved at the x-coordinates of the
+     *                                  range.
+     */
+    public static void forEachVertex(double xRangeStart,
+                                     double xRangeEnd,
+                                     double period,
+                                     double amplitude,
+                                     double shift,
+                                     VertexConsumer consumer) {
+        double lo = Math.min(xRangeStart, xRangeEnd);
+        double hi = Math.max(xRangeStart, xRangeEnd);
+        double halfPeriod = period / 2.0;
+        
+        consumer.accept(lo, 
+                        TriangleWave.evaluate(lo, period, amplitude, shift));
+        
+        if (lo == hi) {
+            return;
+        }
+        
+        // The m-th vertex is at s + (p / 2) * (m - 1/2) and has the value 
+        // a * (-1) ** (m - 1).
+        long m = (long) Math.floor((lo - shift) / halfPeriod + 0.5) + 1L;
+        
+        for (double x = vertexX(m, halfPeriod, shift); 
+                x < hi; 
+                x = vertexX(++m, halfPeriod, shift)) {
+            if (x > lo) {
+                consumer.accept(x, 
+                                ((m - 1L) & 1L) == 0L ? amplitude : -amplitude);
+            }
+            
+            if (vertexX(m + 1L, halfPeriod, shift) <= x) {
+                // Rounding would keep x from ever reaching hi:
+                throw new IllegalArgumentException(
+                        "The period " 
+                                + period 
+                                + " is too small for the x-range [" 
+                                + lo 
+                                + ", " 
+                                + hi 
+                                + "].");
+            }
+        }
+        
+        consumer.accept(hi, 
+                        TriangleWave.evaluate(hi, period, amplitude, shift));
+    }
+    
+    /**
+     * Feeds the polyline of the wave described by {@code configuration} to 
+     * {@code consumer}.
+     * 
+     * @param configuration the plot configuration.
+     * @param consumer      the vertex consumer.
+     */
+    public static void forEachVertex(
+            TriangleWavePlotterConfiguration configuration,
+            VertexConsumer consumer) {
+        
+        forEachVertex(configuration.getXRangeStart(),
+                      configuration.getXRangeEnd(),
+                      configuration.getPeriod(),
+                      configuration.getAmplitude(),
+                      configuration.getShift(),
+                      consumer);
+    }
+    
+    /**
+     * Returns the polyline of the wave described by {@code configuration} as 
+     * an array of interleaved {@code x, y} coordinates.
+     * 
+     * @param configuration the plot configuration.
+     * @return the interleaved vertex coordinates.
+     */
+    public static double[] computeVertices(
+            TriangleWavePlotterConfiguration configuration) {
+        
+        long numberOfVertices = countVertices(configuration);
+        
+        if (numberOfVertices > (Integer.MAX_VALUE - 8) / 2) {
+            throw new IllegalArgumentException(
+                    "Too many vertices: " + numberOfVertices + ".");
+        }
+        
+        long capacity = 2L * numberOfVertices;
+        
+        double[] vertices = new double[(int) capacity];
+        int[] size = { 0 };
+        
+        forEachVertex(configuration, (x, y) -> {
+            vertices[size[0]++] = x;
+            vertices[size[0]++] = y;
+        });
+        
+        return size[0] == vertices.length ? 
+                vertices : 
+                Arrays.copyOf(vertices, size[0]);
+    }
+    
+    /**
+     * Returns an upper bound of the number of vertices 
+     * {@link #forEachVertex(TriangleWavePlotterConfiguration, VertexConsumer)}
+     * produces for {@code configuration}, saturated at 
+     * {@link Long#MAX_VALUE}.
+     * 
+     * @param configuration the plot configuration.
+     * @return the maximum number of vertices.
+     */
+    public static long countVertices(
+            TriangleWavePlotterConfiguration configuration) {
+        
+        double range = Math.abs(configuration.getXRangeEnd() 
+                              - configuration.getXRangeStart());
+        
+        // The cast saturates, and so does the sum:
+        return (long) (2.0 * range / configuration.getPeriod() + 3.0);
+    }
+    
+    /**
+     * Returns {@code true} if the polyline of {@code configuration} has more
+     * than {@link #MAXIMUM_VERTICES_PER_COLUMN} vertices per pixel column on
+     * average, in which case a min/max decimation draws the same picture with
+     * far fewer points.
+     * 
+     * @param configuration   the plot configuration.
+     * @param numberOfColumns the number of pixel columns.
+     * @return whether the polyline should be decimated.
+     */
+    public static boolean isDenserThan(
+            TriangleWavePlotterConfiguration configuration,
+            int numberOfColumns) {
+        
+        return countVertices(configuration) 
+                > MAXIMUM_VERTICES_PER_COLUMN * Math.max(1L, numberOfColumns);
+    }
+    
+    private static double vertexX(long m, double halfPeriod, double shift) {
+        return shift + halfPeriod * (m - 0.5);
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This interface defines the API for the triangle wave rendering backends.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public interface TriangleWaveRenderer {
+    
+    /**
+     * Renders the triangle wave described by {@code configuration} into the 
+     * PNG file {@code outputFile}.
+     * 
+     * @param configuration the plot configuration.
+     * @param outputFile    the output PNG file.
+     * @throws IOException if the rendering fails.
+     */
+    void render(TriangleWavePlotterConfiguration configuration, 
+                Path outputFile) throws IOException;
+    
+    /**
+     * Renders the triangle wave described by {@code configuration} as PNG into
+     * {@code outputStream}. The stream is not closed.
+     * 
+     * @param configuration the plot configuration.
+     * @param outputStream  the stream receiving the PNG data.
+     * @throws IOException if the rendering fails.
+     */
+    void render(TriangleWavePlotterConfiguration configuration,
+                OutputStream outputStream) throws IOException;
+    
+    /**
+     * Renders the waves of {@code configurations} overlaid in a single plot 
+     * into the PNG file {@code outputFile}. All the waves must share the plot
+     * area.
+     * 
+     * @param configurations the configurations of the waves.
+     * @param outputFile     the output PNG file.
+     * @throws IOException if the rendering fails.
+     */
+    void renderOverlay(List<TriangleWavePlotterConfiguration> configurations,
+                       Path outputFile) throws IOException;
+    
+    /**
+     * Renders the waves of {@code configurations} overlaid in a single plot 
+     * as PNG into {@code outputStream}. The stream is not closed. All the 
+     * waves must share the plot area.
+     * 
+     * @param configurations the configurations of the waves.
+     * @param outputStream   the stream receiving the PNG data.
+     * @throws IOException if the rendering fails.
+     */
+    void renderOverlay(List<TriangleWavePlotterConfiguration> configurations,
+                       OutputStream outputStream) throws IOException;
+    
+    /**
+     * Starts rendering the triangle wave described by {@code configuration} 
+     * into the PNG file {@code outputFile}. The returned future completes with
+     * {@code outputFile}, or exceptionally with the {@link IOException} that
+     * made the rendering fail.
+     * <p>
+     * The default implementation runs 
+     * {@link #render(TriangleWavePlotterConfiguration, Path)} in the common 
+     * fork-join pool.
+     * 
+     * @param configuration the plot configuration.
+     * @param outputFile    the output PNG file.
+     * @return the future of the output file.
+     */
+    default CompletableFuture<Path> renderAsync(
+            TriangleWavePlotterConfiguration configuration,
+            Path outputFile) {
+        
+        CompletableFuture<Path> future = new CompletableFuture<>();
+        
+        ForkJoinPool.commonPool().execute(() -> {
+            try {
+                render(configuration, outputFile);
+                future.complete(outputFile);
+            } catch (IOException | RuntimeException ex) {
+                future.completeExceptionally(ex);
+            }
+        });
+        
+        return future;
+    }
+    
+    /**
+     * Returns the name of this backend, as accepted by the 
+     * {@code --backend} command line option.
+     * 
+     * @return the name of this backend.
+     */
+    String getName();
+    
+    /**
+     * Returns the version of this backend. Two renderers with the same name 
+     * and version produce the same PNG for the same configuration.
+     * 
+     * @return the version of this backend.
+     */
+    String getVersion();
+}
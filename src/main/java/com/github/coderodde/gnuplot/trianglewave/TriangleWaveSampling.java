@@ -0,0 +1,50 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+/**
+ * This enumeration lists the ways the triangle wave is turned into plotted 
+ * geometry.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @since 1.6 (Oct 17, 2026)
+ */
+public enum TriangleWaveSampling {
+    
+    /**
+     * The backend samples the function {@code f(x)} at its own rate.
+     */
+    FUNCTION("function"),
+    
+    /**
+     * Only the exact peak and trough vertices within the x-range are plotted.
+     * A polyline much denser than the pixel columns is decimated as in 
+     * {@link #MIN_MAX}.
+     */
+    VERTICES("vertices"),
+    
+    /**
+     * The wave is reduced to one minimum/maximum pair per pixel column.
+     */
+    MIN_MAX("minmax");
+    
+    private final String name;
+    
+    TriangleWaveSampling(String name) {
+        this.name = name;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public static TriangleWaveSampling fromName(String name) {
+        for (TriangleWaveSampling sampling : values()) {
+            if (sampling.name.equals(name)) {
+                return sampling;
+            }
+        }
+        
+        throw new IllegalArgumentException(
+                "Unknown sampling = '" + name + "'");
+    }
+}
@@ -0,0 +1,19 @@
+set key noautotitle
+{LINE_STYLES}
+
+set xrange [{X_RANGE_START}:{X_RANGE_END}]
+set yrange [{Y_RANGE_START}:{Y_RANGE_END}]
+
+set terminal pngcairo enhanced size {PLOT_WIDTH},{PLOT_HEIGHT}
+
+triangle(x, p, a, s) = (4 * a / p) * (x - s - (p / 2) * floor(2 * (x - s) / p + 0.5)) * (-1) ** floor(2 * (x - s) / p + 0.5)
+{WAVE_FUNCTIONS}
+{SWEEP_VALUES}
+
+do for [frame = 0:{LAST_FRAME}] {
+    sweep = sweep_values[frame + 1]
+    set output sprintf({OUTPUT}, frame)
+    plot {WAVES}
+}
+
+unset output
@@ -1,9 +1,6 @@
-p = {PERIOD}
-a = {AMPLITUDE}
-s = {SHIFT}
-
 set key noautotitle
-set style line 1 linecolor rgb '{COLOR}' linewidth {LINE_WIDTH}
+{LINE_STYLES}
+{DECORATIONS}
 
 set xrange [{X_RANGE_START}:{X_RANGE_END}]
 set yrange [{Y_RANGE_START}:{Y_RANGE_END}]
@@ -11,10 +8,9 @@ set yrange [{Y_RANGE_START}:{Y_RANGE_END}]
 # set xtics 0, 1 format "%d"
 
 set terminal pngcairo enhanced size {PLOT_WIDTH},{PLOT_HEIGHT}
-set output '{OUTPUT_FILE_NAME}'
-
-f(x) = (4 * a / p) * (x - s - (p / 2) * floor(2 * (x - s) / p + 0.5)) * (-1) ** floor(2 * (x - s) / p + 0.5)
-plot f(x) with lines ls 1
+set output {OUTPUT}
 
-replot
-exit
\ No newline at end of file
+triangle(x, p, a, s) = (4 * a / p) * (x - s - (p / 2) * floor(2 * (x - s) / p + 0.5)) * (-1) ** floor(2 * (x - s) / p + 0.5)
+{WAVE_FUNCTIONS}
+{WAVE_DATA}
+plot {WAVES}
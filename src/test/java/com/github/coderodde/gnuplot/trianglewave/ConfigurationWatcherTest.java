@@ -0,0 +1,153 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public final class ConfigurationWatcherTest {
+    
+    private static final long TIMEOUT_SECONDS = 20L;
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void testReloadSkipsUnchangedConfiguration() throws IOException {
+        Path configurationFile = temporaryFolder.newFile("wave.conf").toPath();
+        Files.writeString(configurationFile, "--period=3\n");
+        List<List<String>> changes = new ArrayList<>();
+        
+        try (ConfigurationWatcher watcher = 
+                new ConfigurationWatcher(
+                        configurationFile, 
+                        Duration.ZERO, 
+                        file -> TriangleWavePlotter.readConfigurationFile(
+                                file, 
+                                List.of("--amplitude=2")), 
+                        (configuration, changedProperties) ->
+                                changes.add(changedProperties))) {
+            
+            assertTrue(watcher.reload());
+            assertEquals(List.of(List.of("period", "amplitude")), changes);
+            
+            Files.writeString(configurationFile, 
+                              "# The same plot.\n  --period=3.0  \n\n");
+            
+            assertFalse(watcher.reload());
+            
+            Files.writeString(configurationFile, "--period=x\n");
+            assertFalse(watcher.reload());
+            assertEquals(3.0, watcher.getConfiguration().getPeriod(), 0.0);
+            
+            Files.writeString(configurationFile, "--period=4 --color=#abc\n");
+            assertTrue(watcher.reload());
+            assertEquals(List.of("period", "color"), changes.get(1));
+            assertEquals(2.0, watcher.getConfiguration().getAmplitude(), 0.0);
+        }
+    }
+    
+    @Test
+    public void testRunReportsFileChanges() throws Exception {
+        Path configurationFile = temporaryFolder.newFile("wave.conf").toPath();
+        Files.writeString(configurationFile, "--period=3\n");
+        BlockingQueue<List<String>> changes = new LinkedBlockingQueue<>();
+        
+        ConfigurationWatcher watcher = 
+                new ConfigurationWatcher(
+                        configurationFile, 
+                        ConfigurationWatcher.DEFAULT_DEBOUNCE_DELAY, 
+                        file -> TriangleWavePlotter.readConfigurationFile(
+                                file, 
+                                List.of()), 
+                        (configuration, changedProperties) ->
+                                changes.add(changedProperties));
+        
+        Thread watcherThread = new Thread(() -> {
+            try {
+                watcher.run();
+            } catch (IOException | InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        
+        watcherThread.start();
+        
+        try {
+            assertEquals(List.of("period"), 
+                         changes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            
+            Files.writeString(temporaryFolder.newFile("unrelated.conf")
+                                             .toPath(), 
+                              "--period=6\n");
+            
+            Files.writeString(configurationFile, "--shift=1\n--period=3\n");
+            
+            assertEquals(List.of("shift"), 
+                         changes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            
+            assertEquals(1.0, watcher.getConfiguration().getShift(), 0.0);
+        } finally {
+            watcher.close();
+            watcherThread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        }
+        
+        assertFalse(watcherThread.isAlive());
+    }
+    
+    @Test
+    public void testRunSurvivesThrowingListener() throws Exception {
+        Path configurationFile = temporaryFolder.newFile("wave.conf").toPath();
+        Files.writeString(configurationFile, "--period=3\n");
+        BlockingQueue<List<String>> changes = new LinkedBlockingQueue<>();
+        
+        ConfigurationWatcher watcher = 
+                new ConfigurationWatcher(
+                        configurationFile, 
+                        ConfigurationWatcher.DEFAULT_DEBOUNCE_DELAY, 
+                        file -> TriangleWavePlotter.readConfigurationFile(
+                                file, 
+                                List.of()), 
+                        (configuration, changedProperties) -> {
+                            changes.add(changedProperties);
+                            throw new IllegalStateException("Listener bug.");
+                        });
+        
+        Thread watcherThread = new Thread(() -> {
+            try {
+                watcher.run();
+            } catch (IOException | InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        
+        watcherThread.start();
+        
+        try {
+            assertEquals(List.of("period"), 
+                         changes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            
+            Files.writeString(configurationFile, "--period=5\n");
+            
+            assertEquals(List.of("period"), 
+                         changes.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            
+            assertEquals(5.0, watcher.getConfiguration().getPeriod(), 0.0);
+            assertTrue(watcherThread.isAlive());
+        } finally {
+            watcher.close();
+            watcherThread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        }
+        
+        assertFalse(watcherThread.isAlive());
+    }
+}
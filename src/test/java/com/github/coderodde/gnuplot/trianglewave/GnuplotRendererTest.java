@@ -0,0 +1,227 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public final class GnuplotRendererTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void testRenderThroughStandardInput() throws IOException {
+        testRender(GnuplotRenderer.ScriptInput.STANDARD_INPUT);
+    }
+    
+    @Test
+    public void testRenderThroughTemporaryFile() throws IOException {
+        testRender(GnuplotRenderer.ScriptInput.FILE);
+    }
+    
+    @Test
+    public void testRenderToByteArray() throws IOException {
+        Path stub = StubGnuplot.create(temporaryFolder.getRoot().toPath());
+        
+        for (GnuplotRenderer.ScriptInput scriptInput 
+                : GnuplotRenderer.ScriptInput.values()) {
+            byte[] png = 
+                    TriangleWavePlotter.plotToByteArray(
+                            new GnuplotRenderer(stub.toString(), scriptInput),
+                            new TriangleWavePlotterConfiguration());
+            
+            assertEquals(StubGnuplot.FAKE_PNG, new String(png));
+        }
+    }
+    
+    @Test
+    public void testRenderOverlayRunsGnuplotOnce() throws IOException {
+        Path stub = StubGnuplot.create(temporaryFolder.getRoot().toPath());
+        Path output = temporaryFolder.getRoot().toPath().resolve("out.png");
+        
+        TriangleWavePlotterConfiguration configuration1 = 
+                new TriangleWavePlotterConfiguration();
+        
+        TriangleWavePlotterConfiguration configuration2 = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPeriod(4.0)
+                                                .build();
+        
+        GnuplotRenderer renderer = new GnuplotRenderer(stub.toString());
+        renderer.renderOverlay(List.of(configuration1, configuration2), 
+                               output);
+        
+        assertEquals(StubGnuplot.FAKE_PNG, Files.readString(output));
+        assertEquals(StubGnuplot.FAKE_PNG, 
+                     new String(TriangleWavePlotter.plotToByteArray(
+                             renderer, 
+                             List.of(configuration1, configuration2))));
+    }
+    
+    @Test
+    public void testRenderManyAsynchronously() 
+            throws IOException, InterruptedException, ExecutionException {
+        Path stub = StubGnuplot.create(temporaryFolder.getRoot().toPath());
+        List<CompletableFuture<Path>> futures = new ArrayList<>();
+        
+        for (GnuplotRenderer.ScriptInput scriptInput 
+                : GnuplotRenderer.ScriptInput.values()) {
+            GnuplotRenderer renderer = 
+                    new GnuplotRenderer(stub.toString(), scriptInput);
+            
+            for (int i = 0; i < 8; i++) {
+                Path output = 
+                        temporaryFolder.getRoot()
+                                       .toPath()
+                                       .resolve(scriptInput.getName() 
+                                                + i 
+                                                + ".png");
+                
+                futures.add(
+                        TriangleWavePlotter.renderAsync(
+                                renderer,
+                                new TriangleWavePlotterConfiguration(), 
+                                output));
+            }
+        }
+        
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                         .get();
+        
+        for (CompletableFuture<Path> future : futures) {
+            assertEquals(StubGnuplot.FAKE_PNG, Files.readString(future.get()));
+        }
+    }
+    
+    @Test
+    public void testRenderAsyncFailsOnMissingExecutable() 
+            throws IOException, InterruptedException {
+        Path output = temporaryFolder.getRoot().toPath().resolve("out.png");
+        
+        CompletableFuture<Path> future = 
+                new GnuplotRenderer(
+                        temporaryFolder.getRoot() + "/no-such-gnuplot")
+                        .renderAsync(new TriangleWavePlotterConfiguration(), 
+                                     output);
+        
+        try {
+            future.get();
+            fail("The render should have failed.");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof IOException);
+        }
+    }
+    
+    @Test
+    public void testVerboseFailureIsDrainedAndReported() throws IOException {
+        Path stub = StubGnuplot.create(
+                temporaryFolder.getRoot().toPath(),
+                "verbose-stub.sh",
+                """
+                #!/bin/sh
+                cat > /dev/null
+                i=0
+                while [ $i -lt 20000 ]; do
+                    echo "warning: line $i" >&2
+                    i=$((i + 1))
+                done
+                echo "last words" >&2
+                exit 3
+                """);
+        
+        for (GnuplotRenderer.ScriptInput scriptInput 
+                : GnuplotRenderer.ScriptInput.values()) {
+            try {
+                new GnuplotRenderer(stub.toString(), scriptInput)
+                        .render(new TriangleWavePlotterConfiguration(),
+                                temporaryFolder.getRoot()
+                                               .toPath()
+                                               .resolve("out.png"));
+                
+                fail("The render should have failed.");
+            } catch (IOException ex) {
+                assertTrue(ex.getMessage().contains("return status: 3"));
+                assertTrue(ex.getMessage().endsWith("last words"));
+                assertFalse(ex.getMessage().contains("line 0\n"));
+            }
+        }
+    }
+    
+    @Test
+    public void testHungGnuplotIsKilledOnTimeout() throws IOException {
+        Path stub = StubGnuplot.create(
+                temporaryFolder.getRoot().toPath(),
+                "hung-stub.sh",
+                """
+                #!/bin/sh
+                sleep 60
+                """);
+        
+        long startTime = System.nanoTime();
+        
+        try {
+            new GnuplotRenderer(stub.toString(), 
+                                GnuplotRenderer.ScriptInput.STANDARD_INPUT,
+                                Duration.ofMillis(200L),
+                                1)
+                    .render(new TriangleWavePlotterConfiguration(),
+                            temporaryFolder.getRoot()
+                                           .toPath()
+                                           .resolve("out.png"));
+            
+            fail("The render should have timed out.");
+        } catch (IOException ex) {
+            assertTrue(ex.getMessage().contains("timed out"));
+        }
+        
+        assertTrue(System.nanoTime() - startTime 
+                < Duration.ofSeconds(30L).toNanos());
+    }
+    
+    @Test
+    public void testFailedRenderIsRetried() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        Path stub = StubGnuplot.create(directory);
+        Path flakyStub = StubGnuplot.create(
+                directory,
+                "flaky-stub.sh",
+                """
+                #!/bin/sh
+                if [ ! -f "$0.failed" ]; then
+                    touch "$0.failed"
+                    exit 1
+                fi
+                exec "%s" "$@"
+                """.formatted(stub));
+        
+        Path output = directory.resolve("out.png");
+        
+        new GnuplotRenderer(flakyStub.toString(), 
+                            GnuplotRenderer.ScriptInput.FILE,
+                            GnuplotRenderer.DEFAULT_TIMEOUT,
+                            1)
+                .render(new TriangleWavePlotterConfiguration(), output);
+        
+        assertEquals(StubGnuplot.FAKE_PNG, Files.readString(output));
+    }
+    
+    private void testRender(GnuplotRenderer.ScriptInput scriptInput) 
+            throws IOException {
+        Path stub = StubGnuplot.create(temporaryFolder.getRoot().toPath());
+        Path output = temporaryFolder.getRoot().toPath().resolve("out.png");
+        
+        new GnuplotRenderer(stub.toString(), scriptInput)
+                .render(new TriangleWavePlotterConfiguration(), output);
+        
+        assertEquals(StubGnuplot.FAKE_PNG, Files.readString(output));
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class GnuplotScriptTemplateTest {
+    
+    @Test
+    public void testRenderReplacesAllAnchors() {
+        GnuplotScriptTemplate template = 
+                GnuplotScriptTemplate.compile(
+                        "set xrange [{X_RANGE_START}:{X_RANGE_END}]\n"
+                        + "{LINE_STYLES}\n"
+                        + "set label '{/Symbol a}'\n"
+                        + "set output {OUTPUT}");
+        
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setXRangeStart(-2.0)
+                                                .setXRangeEnd(5.0)
+                                                .setColor("#abc")
+                                                .setLineWidth(3)
+                                                .build();
+        
+        assertEquals("set xrange [-2.0:5.0]\n"
+                     + "set style line 1 linecolor rgb '#aabbcc' "
+                     + "linewidth 3\n"
+                     + "set label '{/Symbol a}'\n"
+                     + "set output 'out.png'",
+                     template.render(configuration, "out.png"));
+    }
+    
+    @Test
+    public void testDefaultTemplateHasNoAnchorsLeft() throws IOException {
+        GnuplotScriptTemplate template = GnuplotScriptTemplate.getDefault();
+        String script = 
+                template.render(new TriangleWavePlotterConfiguration(), 
+                                "out.png");
+        
+        assertFalse(script.contains("{WAVES}"));
+        assertFalse(script.contains("{OUTPUT}"));
+        assertTrue(script.contains("set output 'out.png'\n"));
+        assertTrue(template.render(new TriangleWavePlotterConfiguration(), 
+                                   null)
+                           .contains("set output \n"));
+        assertSame(GnuplotScriptTemplate.getDefault(), 
+                   GnuplotScriptTemplate.getDefault());
+    }
+    
+    @Test
+    public void testOutputFileNameIsEscaped() throws IOException {
+        GnuplotScriptTemplate template = GnuplotScriptTemplate.getDefault();
+        
+        assertTrue(template.render(new TriangleWavePlotterConfiguration(), 
+                                   "it's.png")
+                           .contains("set output 'it''s.png'\n"));
+        
+        try {
+            template.render(new TriangleWavePlotterConfiguration(), 
+                            "a.png'\nsystem 'id");
+            fail("Accepted a line break in the output file name.");
+        } catch (IllegalArgumentException ex) {
+            // Expected.
+        }
+    }
+    
+    @Test
+    public void testVertexSamplingEmitsDataBlock() throws IOException {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                        .setPeriod(4.0)
+                        .setXRangeStart(-1.5)
+                        .setXRangeEnd(3.0)
+                        .setSampling(TriangleWaveSampling.VERTICES)
+                        .build();
+        
+        String script = 
+                GnuplotScriptTemplate.getDefault()
+                                     .render(configuration, "out.png");
+        
+        assertTrue(script.contains("$wave_1 << EOD\n"
+                                   + "-1.5 -0.5\n"
+                                   + "-1.0 -1.0\n"
+                                   + "1.0 1.0\n"
+                                   + "3.0 -1.0\n"
+                                   + "EOD\n"));
+        
+        assertTrue(script.contains("plot $wave_1 with lines ls 1"));
+    }
+    
+    @Test
+    public void testOverlayDefinesOneFunctionPerWave() throws IOException {
+        TriangleWavePlotterConfiguration configuration1 = 
+                new TriangleWavePlotterConfiguration();
+        
+        TriangleWavePlotterConfiguration configuration2 = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPeriod(4.0)
+                                                .setColor("#f00")
+                                                .setLineWidth(2)
+                                                .build();
+        
+        String script = 
+                GnuplotScriptTemplate.getDefault()
+                                     .render(List.of(configuration1, 
+                                                     configuration2),
+                                             "out.png");
+        
+        assertTrue(script.contains(
+                "set style line 2 linecolor rgb '#ff0000' linewidth 2\n"));
+        
+        assertTrue(script.contains("f_1(x) = triangle(x, "));
+        assertTrue(script.contains("f_2(x) = triangle(x, 4.0, "));
+        assertTrue(script.contains(
+                "plot f_1(x) with lines ls 1, f_2(x) with lines ls 2"));
+        
+        assertEquals(1, script.split("\nplot ", -1).length - 1);
+    }
+}
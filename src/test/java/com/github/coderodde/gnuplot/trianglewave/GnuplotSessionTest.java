@@ -0,0 +1,92 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public final class GnuplotSessionTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void testPlotBatchThroughOneSession() throws IOException {
+        Path stub = StubGnuplot.create(temporaryFolder.getRoot().toPath());
+        Path output1 = temporaryFolder.getRoot().toPath().resolve("1.png");
+        Path output2 = temporaryFolder.getRoot().toPath().resolve("2.png");
+        
+        TriangleWavePlotterConfiguration configuration = 
+                new TriangleWavePlotterConfiguration();
+        
+        List<TriangleWavePlotJob> jobs = 
+                List.of(new TriangleWavePlotJob(
+                                configuration, 
+                                output1.toString()),
+                        new TriangleWavePlotJob(
+                                configuration, 
+                                output2.toString()));
+        
+        assertEquals(2, TriangleWavePlotter.plotBatch(jobs, stub.toString()));
+        assertEquals(StubGnuplot.FAKE_PNG, Files.readString(output1));
+        assertEquals(StubGnuplot.FAKE_PNG, Files.readString(output2));
+    }
+    
+    @Test
+    public void testSessionRendererOverlaysWaves() throws IOException {
+        Path stub = StubGnuplot.create(temporaryFolder.getRoot().toPath());
+        Path output = temporaryFolder.getRoot().toPath().resolve("overlay.png");
+        
+        TriangleWavePlotterConfiguration configuration = 
+                new TriangleWavePlotterConfiguration();
+        
+        try (GnuplotSessionRenderer renderer = 
+                new GnuplotSessionRenderer(stub.toString())) {
+            renderer.renderOverlay(
+                    List.of(configuration, 
+                            configuration.toBuilder()
+                                         .setPeriod(2.0)
+                                         .build()), 
+                    output);
+        }
+        
+        assertEquals(StubGnuplot.FAKE_PNG, Files.readString(output));
+    }
+    
+    @Test(expected = IOException.class)
+    public void testPlotThrowsWhenNoOutputIsGenerated() throws IOException {
+        Path stub = StubGnuplot.create(temporaryFolder.getRoot().toPath());
+        Path output = temporaryFolder.getRoot().toPath().resolve("out.png");
+        
+        try (GnuplotSession gnuplotSession = 
+                new GnuplotSession(stub.toString())) {
+            gnuplotSession.plot("print 'hello'\n", output);
+        }
+    }
+    
+    @Test
+    public void testHungSessionTimesOut() throws IOException {
+        Path stub = StubGnuplot.create(
+                temporaryFolder.getRoot().toPath(),
+                "hung-stub.sh",
+                """
+                #!/bin/sh
+                sleep 60
+                """);
+        
+        Path output = temporaryFolder.getRoot().toPath().resolve("out.png");
+        
+        try (GnuplotSession gnuplotSession = 
+                new GnuplotSession(stub.toString(), Duration.ofMillis(200L))) {
+            gnuplotSession.plot("print 'hello'\n", output);
+            fail("The plot should have timed out.");
+        } catch (IOException ex) {
+            assertTrue(ex.getMessage().contains("timed out"));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class Java2DRendererTest {
+    
+    @Test
+    public void testRenderImageHonoursSizeAndColor() {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPlotWidth("480")
+                                                .setPlotHeight("300")
+                                                .setColor("#f00")
+                                                .setXRangeStart(-1.0)
+                                                .setXRangeEnd(1.0)
+                                                .setYRangeStart(-2.0)
+                                                .setYRangeEnd(2.0)
+                                                .setPeriod(4.0)
+                                                .build();
+        
+        BufferedImage image = new Java2DRenderer().renderImage(configuration);
+        
+        assertEquals(480, image.getWidth());
+        assertEquals(300, image.getHeight());
+        
+        // f(0) = 0, which is in the middle of the plot area:
+        int middleX = 60 + (480 - 60 - 20) / 2;
+        int middleY = 20 + (300 - 20 - 40) / 2;
+        
+        assertEquals(Color.RED.getRGB(), image.getRGB(middleX, middleY));
+    }
+    
+    @Test
+    public void testPlotToByteArrayAndByteBuffer() throws IOException {
+        TriangleWavePlotterConfiguration configuration = 
+                new TriangleWavePlotterConfiguration();
+        
+        Java2DRenderer renderer = new Java2DRenderer();
+        byte[] png = TriangleWavePlotter.plotToByteArray(renderer, 
+                                                         configuration);
+        
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertEquals(960, image.getWidth());
+        assertEquals(600, image.getHeight());
+        
+        ByteBuffer byteBuffer = ByteBuffer.allocate(png.length);
+        
+        assertEquals(png.length, 
+                     TriangleWavePlotter.plot(renderer, 
+                                              configuration, 
+                                              byteBuffer));
+        
+        assertArrayEquals(png, byteBuffer.array());
+    }
+    
+    @Test
+    public void testRenderOverlayDrawsAllWaves() throws IOException {
+        TriangleWavePlotterConfiguration configuration1 = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setColor("#f00")
+                                                .build();
+        
+        TriangleWavePlotterConfiguration configuration2 = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setColor("#00f")
+                                                .setAmplitude(0.5)
+                                                .build();
+        
+        byte[] png = TriangleWavePlotter.plotToByteArray(
+                new Java2DRenderer(),
+                List.of(configuration1, configuration2));
+        
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        boolean redFound = false;
+        boolean blueFound = false;
+        
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int rgb = image.getRGB(x, y);
+                redFound  |= rgb == Color.RED.getRGB();
+                blueFound |= rgb == Color.BLUE.getRGB();
+            }
+        }
+        
+        assertTrue(redFound);
+        assertTrue(blueFound);
+    }
+    
+    @Test(expected = IOException.class)
+    public void testPlotThrowsOnTooSmallByteBuffer() throws IOException {
+        TriangleWavePlotter.plot(new Java2DRenderer(), 
+                                 new TriangleWavePlotterConfiguration(), 
+                                 ByteBuffer.allocate(16));
+    }
+    
+    @Test
+    public void testParseColor() {
+        assertEquals(new Color(0x11bbcc), Java2DRenderer.parseColor("#1bc"));
+        assertEquals(new Color(0x123def), Java2DRenderer.parseColor("#123def"));
+        assertEquals(Color.GREEN, Java2DRenderer.parseColor("green"));
+        assertEquals(new Color(0x006400), 
+                     Java2DRenderer.parseColor("dark-green"));
+        
+        assertEquals(new Color(0xbebebe), Java2DRenderer.parseColor("Gray"));
+        assertEquals(new Color(0x40ff0000, true), 
+                     Java2DRenderer.parseColor("#bfff0000"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseColorThrowsOnUnknownColor() {
+        Java2DRenderer.parseColor("no-such-color");
+    }
+}
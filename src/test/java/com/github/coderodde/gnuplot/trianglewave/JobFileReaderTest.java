@@ -0,0 +1,138 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public final class JobFileReaderTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void testJsonLinesSkipsMalformedLines() throws IOException {
+        List<TriangleWavePlotJob> jobs = 
+                readJobs("jobs.jsonl",
+                         """
+                         {"period": 4, "color": "#abc", "output": "a.png"}
+                         {"period": 4, "output": 
+                         
+                         {"amplitude": -1, "output": "b.png"}
+                         {"shift": 15e-1, "sampling": "vertices", "output": "c\\u002epng"}
+                         """,
+                         2L);
+        
+        assertEquals(2, jobs.size());
+        assertEquals(4.0, jobs.get(0).getConfiguration().getPeriod(), 0.0);
+        assertEquals("#aabbcc", jobs.get(0).getConfiguration().getColor());
+        assertEquals("a.png", jobs.get(0).getOutputFileName());
+        assertEquals(1.5, jobs.get(1).getConfiguration().getShift(), 0.0);
+        assertEquals(TriangleWaveSampling.VERTICES, 
+                     jobs.get(1).getConfiguration().getSampling());
+        
+        assertEquals("c.png", jobs.get(1).getOutputFileName());
+    }
+    
+    @Test
+    public void testCsv() throws IOException {
+        List<TriangleWavePlotJob> jobs = 
+                readJobs("jobs.csv",
+                         """
+                         period, color, output
+                         2,,"a, b.png"
+                         3,"#123",c.png,extra
+                         5,"#123456","d ""quoted"".png"
+                         """,
+                         1L);
+        
+        assertEquals(2, jobs.size());
+        assertEquals(2.0, jobs.get(0).getConfiguration().getPeriod(), 0.0);
+        assertEquals("a, b.png", jobs.get(0).getOutputFileName());
+        assertEquals("#123456", jobs.get(1).getConfiguration().getColor());
+        assertEquals("d \"quoted\".png", jobs.get(1).getOutputFileName());
+    }
+    
+    @Test
+    public void testOptions() throws IOException {
+        List<TriangleWavePlotJob> jobs = 
+                readJobs("jobs.txt",
+                         """
+                         --period=3   a.png
+                         --period   b.png
+                         c.png
+                         """,
+                         1L);
+        
+        assertEquals(2, jobs.size());
+        assertEquals(3.0, jobs.get(0).getConfiguration().getPeriod(), 0.0);
+        assertEquals("c.png", jobs.get(1).getOutputFileName());
+    }
+    
+    @Test(expected = IOException.class)
+    public void testCsvWithoutOutputColumnIsRejected() throws IOException {
+        readJobs("jobs.csv", "period\n2\n", 0L);
+    }
+    
+    @Test
+    public void testParseFlatJsonObject() {
+        Map<String, String> object = 
+                JobFileReader.parseFlatJsonObject(
+                        " { \"a\" : \"x\\\"y\" , \"b\":true, \"c\": null } ");
+        
+        assertEquals("x\"y", object.get("a"));
+        assertEquals("true", object.get("b"));
+        assertTrue(object.containsKey("c"));
+        assertNull(object.get("c"));
+    }
+    
+    @Test
+    public void testParseFlatJsonNumbers() {
+        for (String number : new String[]{ "0", "-0", "12", "-3.25", 
+                                           "1e9", "2.5E-3", "7e+01" }) {
+            assertEquals(number, 
+                         JobFileReader.parseFlatJsonObject(
+                                 "{\"a\":" + number + "}").get("a"));
+        }
+        
+        for (String invalid : new String[]{ "-", "01", "1.", ".5", "1e", 
+                                            "1e+", "+1", "0x1", "1.2.3", 
+                                            "NaN" }) {
+            try {
+                JobFileReader.parseFlatJsonObject(
+                        "{\"a\":" + invalid + "}");
+                fail("'" + invalid + "' should be rejected.");
+            } catch (IllegalArgumentException ex) {
+                // Expected.
+            }
+        }
+    }
+    
+    private List<TriangleWavePlotJob> readJobs(String fileName, 
+                                               String content,
+                                               long expectedMalformedLines) 
+            throws IOException {
+        Path jobFile = temporaryFolder.getRoot().toPath().resolve(fileName);
+        Files.writeString(jobFile, content);
+        List<TriangleWavePlotJob> jobs = new ArrayList<>();
+        
+        try (JobFileReader jobFileReader = 
+                new JobFileReader(jobFile, 
+                                  JobFileFormat.fromFileName(jobFile), 
+                                  UnaryOperator.identity())) {
+            jobFileReader.forEach(jobs::add);
+            
+            assertEquals(expectedMalformedLines, 
+                         jobFileReader.getNumberOfMalformedLines());
+        }
+        
+        return jobs;
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class PixelColumnDecimatorTest {
+    
+    private static final double DELTA = 1e-9;
+    
+    @Test
+    public void testAnalyticDecimationMatchesStreamedVertices() {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPeriod(3.0)
+                                                .setAmplitude(2.0)
+                                                .setShift(0.7)
+                                                .setXRangeStart(-25.0)
+                                                .setXRangeEnd(40.0)
+                                                .build();
+        
+        PixelColumnDecimator analytic = 
+                PixelColumnDecimator.decimate(configuration, 100);
+        
+        PixelColumnDecimator streamed = 
+                new PixelColumnDecimator(-25.0, 40.0, 100);
+        
+        TriangleWavePolyline.forEachVertex(configuration, streamed);
+        
+        for (int column = 0; column < 100; column++) {
+            assertEquals(analytic.getMinimum(column), 
+                         streamed.getMinimum(column), 
+                         DELTA);
+            
+            assertEquals(analytic.getMaximum(column), 
+                         streamed.getMaximum(column),
+                         DELTA);
+        }
+    }
+    
+    @Test
+    public void testHugeRangeFillsEachColumn() {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPeriod(1.0)
+                                                .setXRangeStart(-1e12)
+                                                .setXRangeEnd(1e12)
+                                                .build();
+        
+        PixelColumnDecimator decimator = 
+                PixelColumnDecimator.decimate(configuration);
+        
+        assertEquals(960, decimator.getNumberOfColumns());
+        
+        int[] numberOfPoints = { 0 };
+        decimator.forEachPoint((x, y) -> numberOfPoints[0]++);
+        assertEquals(2 * 960, numberOfPoints[0]);
+        
+        for (int column = 0; column < 960; column++) {
+            assertEquals(-1.0, decimator.getMinimum(column), DELTA);
+            assertEquals( 1.0, decimator.getMaximum(column), DELTA);
+        }
+    }
+}
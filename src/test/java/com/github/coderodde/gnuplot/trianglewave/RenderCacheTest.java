@@ -0,0 +1,296 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public final class RenderCacheTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void testComputeKey() {
+        TriangleWavePlotterConfiguration configuration1 = 
+                new TriangleWavePlotterConfiguration();
+        
+        TriangleWavePlotterConfiguration configuration2 = 
+                new TriangleWavePlotterConfiguration();
+        
+        TriangleWavePlotterConfiguration configuration3 = 
+                configuration2.toBuilder().setLineWidth(3).build();
+        
+        Java2DRenderer renderer = new Java2DRenderer();
+        
+        assertEquals(RenderCache.computeKey(configuration1, renderer),
+                     RenderCache.computeKey(configuration2, renderer));
+        
+        assertNotEquals(RenderCache.computeKey(configuration1, renderer),
+                        RenderCache.computeKey(configuration3, renderer));
+    }
+    
+    @Test
+    public void testMemoryTierEvictsLeastRecentlyUsed() {
+        RenderCache renderCache = new RenderCache(10L, 2);
+        
+        renderCache.put("a", new byte[4]);
+        renderCache.put("b", new byte[4]);
+        assertNotNull(renderCache.get("a"));
+        renderCache.put("c", new byte[4]);
+        
+        assertNull(renderCache.get("b"));
+        assertNotNull(renderCache.get("a"));
+        assertNotNull(renderCache.get("c"));
+        assertEquals(1L, renderCache.getMemoryEvictionCount());
+        
+        // The byte limit:
+        renderCache.put("d", new byte[8]);
+        assertEquals(1, renderCache.getMemoryEntryCount());
+        assertEquals(8L, renderCache.getMemoryBytes());
+        assertEquals(3L, renderCache.getHitCount());
+        assertEquals(1L, renderCache.getMissCount());
+    }
+    
+    @Test
+    public void testDiskTierSurvivesRestart() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        RenderCache renderCache = new RenderCache(0L, 0, directory, 100L, 10);
+        
+        renderCache.put("a", new byte[]{ 1, 2, 3 });
+        renderCache = new RenderCache(0L, 0, directory, 100L, 10);
+        
+        assertArrayEquals(new byte[]{ 1, 2, 3 }, renderCache.get("a"));
+        assertEquals(1L, renderCache.getDiskHitCount());
+    }
+    
+    @Test
+    public void testDiskHitRefreshesModificationTime() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        RenderCache renderCache = new RenderCache(0L, 0, directory, 100L, 10);
+        
+        renderCache.put("a", new byte[]{ 1 });
+        
+        Path file = findDiskFile(directory, "a");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(0L));
+        Files.writeString(directory.resolve("b.png.tmp"), "partial");
+        
+        renderCache = new RenderCache(0L, 0, directory, 100L, 10);
+        
+        assertFalse(Files.exists(directory.resolve("b.png.tmp")));
+        assertNotNull(renderCache.get("a"));
+        assertTrue(Files.getLastModifiedTime(file).toMillis() > 0L);
+    }
+    
+    @Test
+    public void testDiskTierDropsEntriesOfMissingFiles() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        RenderCache renderCache = new RenderCache(0L, 0, directory, 100L, 10);
+        
+        renderCache.put("a", new byte[]{ 1, 2, 3 });
+        assertEquals(3L, renderCache.getDiskBytes());
+        
+        Files.delete(findDiskFile(directory, "a"));
+        
+        assertNull(renderCache.get("a"));
+        assertEquals(0, renderCache.getDiskEntryCount());
+        assertEquals(0L, renderCache.getDiskBytes());
+    }
+    
+    @Test
+    public void testReplacedDiskFileIsDeleted() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+        RenderCache renderCache = new RenderCache(0L, 0, directory, 100L, 1);
+        
+        renderCache.put("a", new byte[]{ 1 });
+        Path oldFile = findDiskFile(directory, "a");
+        renderCache.put("a", new byte[]{ 1 });
+        Path newFile = findDiskFile(directory, "a");
+        
+        // Each write gets a file of its own:
+        assertNotEquals(oldFile, newFile);
+        assertFalse(Files.exists(oldFile));
+        
+        renderCache.put("b", new byte[]{ 2 });
+        assertFalse(Files.exists(newFile));
+        
+        renderCache = new RenderCache(0L, 0, directory, 100L, 1);
+        
+        assertArrayEquals(new byte[]{ 2 }, renderCache.get("b"));
+        assertEquals(1, renderCache.getDiskEntryCount());
+    }
+    
+    @Test
+    public void testConcurrentMissesRenderOnce() throws Exception {
+        RenderCache renderCache = new RenderCache(1024L, 16);
+        AtomicInteger renderCount = new AtomicInteger();
+        CountDownLatch renderStarted = new CountDownLatch(1);
+        CountDownLatch renderReleased = new CountDownLatch(1);
+        
+        Thread renderingThread = new Thread(() -> {
+            try {
+                renderCache.getOrRender("a", () -> {
+                    renderCount.incrementAndGet();
+                    renderStarted.countDown();
+                    awaitUninterruptibly(renderReleased);
+                    return new byte[]{ 1 };
+                });
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        
+        byte[][] waitingResult = new byte[1][];
+        
+        Thread waitingThread = new Thread(() -> {
+            try {
+                waitingResult[0] = renderCache.getOrRender("a", () -> {
+                    renderCount.incrementAndGet();
+                    return new byte[]{ 2 };
+                });
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        
+        renderingThread.start();
+        assertTrue(renderStarted.await(10L, TimeUnit.SECONDS));
+        waitingThread.start();
+        
+        while (waitingThread.isAlive() 
+                && waitingThread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1L);
+        }
+        
+        renderReleased.countDown();
+        renderingThread.join();
+        waitingThread.join();
+        
+        assertEquals(1, renderCount.get());
+        assertArrayEquals(new byte[]{ 1 }, waitingResult[0]);
+    }
+    
+    @Test
+    public void testCachingRendererRendersOnlyOnMiss() throws IOException {
+        int[] renderCount = { 0 };
+        
+        TriangleWaveRenderer countingRenderer = new TriangleWaveRenderer() {
+            
+            @Override
+            public void render(TriangleWavePlotterConfiguration configuration, 
+                               Path outputFile) {
+                throw new UnsupportedOperationException();
+            }
+            
+            @Override
+            public void render(TriangleWavePlotterConfiguration configuration,
+                               OutputStream outputStream) throws IOException {
+                renderCount[0]++;
+                outputStream.write(configuration.getLineWidth());
+            }
+            
+            @Override
+            public void renderOverlay(
+                    List<TriangleWavePlotterConfiguration> configurations,
+                    Path outputFile) {
+                throw new UnsupportedOperationException();
+            }
+            
+            @Override
+            public void renderOverlay(
+                    List<TriangleWavePlotterConfiguration> configurations,
+                    OutputStream outputStream) {
+                throw new UnsupportedOperationException();
+            }
+            
+            @Override
+            public String getName() {
+                return "counting";
+            }
+            
+            @Override
+            public String getVersion() {
+                return "1";
+            }
+        };
+        
+        CachingRenderer cachingRenderer = 
+                new CachingRenderer(countingRenderer, 
+                                    new RenderCache(1024L, 16));
+        
+        TriangleWavePlotterConfiguration configuration = 
+                new TriangleWavePlotterConfiguration();
+        
+        byte[] png1 = TriangleWavePlotter.plotToByteArray(cachingRenderer, 
+                                                          configuration);
+        
+        byte[] png2 = TriangleWavePlotter.plotToByteArray(cachingRenderer, 
+                                                          configuration);
+        
+        assertArrayEquals(png1, png2);
+        assertEquals(1, renderCount[0]);
+        assertEquals(1L, cachingRenderer.getRenderCache().getHitCount());
+    }
+    
+    @Test
+    public void testCacheLimitOptions() throws IOException {
+        CachingRenderer cachingRenderer = 
+                (CachingRenderer) TriangleWavePlotter.selectRenderer(
+                        new String[]{ 
+                            "--backend=java", 
+                            "--cacheDirectory=" + temporaryFolder.getRoot(), 
+                            "--cacheMemoryEntries=0", 
+                            "--cacheDiskEntries=1", 
+                            "wave.png" });
+        
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPlotWidth("100")
+                                                .setPlotHeight("50")
+                                                .build();
+        
+        TriangleWavePlotter.plotToByteArray(cachingRenderer, configuration);
+        TriangleWavePlotter.plotToByteArray(
+                cachingRenderer, 
+                configuration.toBuilder().setPeriod(3.0).build());
+        
+        RenderCache renderCache = cachingRenderer.getRenderCache();
+        
+        assertEquals(0, renderCache.getMemoryEntryCount());
+        assertEquals(1, renderCache.getDiskEntryCount());
+        assertEquals(1L, renderCache.getDiskEvictionCount());
+    }
+    
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ex) {
+                // Keep waiting.
+            }
+        }
+    }
+    
+    private static Path findDiskFile(Path directory, String key) 
+            throws IOException {
+        try (DirectoryStream<Path> directoryStream = 
+                Files.newDirectoryStream(directory, key + "-*.png")) {
+            Iterator<Path> iterator = directoryStream.iterator();
+            Path file = iterator.next();
+            assertFalse(iterator.hasNext());
+            return file;
+        }
+    }
+}
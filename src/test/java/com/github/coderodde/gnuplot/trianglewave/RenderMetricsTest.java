@@ -0,0 +1,80 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class RenderMetricsTest {
+    
+    @Test
+    public void testPercentiles() {
+        RenderMetrics renderMetrics = new RenderMetrics();
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        
+        for (long nanos = 1L; nanos <= 1000L; nanos++) {
+            latencyHistogram.record(nanos, nanos != 1000L);
+        }
+        
+        RenderStageStatistics statistics = 
+                latencyHistogram.snapshot(RenderStage.RENDER);
+        
+        assertEquals(1000L, statistics.getCount());
+        assertEquals(1L, statistics.getFailureCount());
+        assertEquals(1000L, statistics.getMaximumNanos());
+        assertEquals(500.5, statistics.getMeanNanos(), 1e-9);
+        assertEquals(512L, statistics.getPercentileNanos(50.0));
+        assertEquals(1000L, statistics.getPercentileNanos(99.0));
+        assertEquals(0L, 
+                     renderMetrics.snapshot()
+                                  .getStatistics(RenderStage.RENDER)
+                                  .getPercentileNanos(50.0));
+    }
+    
+    @Test
+    public void testTimerRecordsFailureUnlessMarkedSuccessful() {
+        RenderMetrics renderMetrics = new RenderMetrics();
+        
+        try (RenderStageTimer timer = 
+                renderMetrics.startStage(RenderStage.PROCESS_SPAWN)) {
+            timer.markSuccessful();
+        }
+        
+        try (RenderStageTimer timer = 
+                renderMetrics.startStage(RenderStage.PROCESS_SPAWN)) {
+            // Failed.
+        }
+        
+        RenderStageStatistics statistics = 
+                renderMetrics.snapshot()
+                             .getStatistics(RenderStage.PROCESS_SPAWN);
+        
+        assertEquals(2L, statistics.getCount());
+        assertEquals(1L, statistics.getFailureCount());
+        assertTrue(renderMetrics.snapshot()
+                                .toString()
+                                .contains("processSpawn"));
+    }
+    
+    @Test
+    public void testJava2DRenderIsInstrumented() throws IOException {
+        long imageDrawingCount = getCount(RenderStage.IMAGE_DRAWING);
+        long pngEncodingCount = getCount(RenderStage.PNG_ENCODING);
+        
+        TriangleWavePlotter.plotToByteArray(
+                new Java2DRenderer(), 
+                new TriangleWavePlotterConfiguration());
+        
+        assertEquals(imageDrawingCount + 1, 
+                     getCount(RenderStage.IMAGE_DRAWING));
+        
+        assertEquals(pngEncodingCount + 1, 
+                     getCount(RenderStage.PNG_ENCODING));
+    }
+    
+    private static long getCount(RenderStage stage) {
+        return RenderMetrics.getDefault()
+                            .snapshot()
+                            .getStatistics(stage)
+                            .getCount();
+    }
+}
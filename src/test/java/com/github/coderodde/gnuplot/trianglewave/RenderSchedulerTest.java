@@ -0,0 +1,108 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public final class RenderSchedulerTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void testRenderAllOnSeveralWorkers() 
+            throws IOException, InterruptedException {
+        TriangleWaveRenderer renderer = new Java2DRenderer();
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPlotWidth("200")
+                                                .setPlotHeight("100")
+                                                .build();
+        
+        List<TriangleWavePlotJob> jobs = new ArrayList<>();
+        
+        for (int i = 0; i < 10; i++) {
+            jobs.add(new TriangleWavePlotJob(
+                    configuration, 
+                    temporaryFolder.getRoot()
+                                   .toPath()
+                                   .resolve(i + ".png")
+                                   .toString()));
+        }
+        
+        Path missingDirectory = 
+                temporaryFolder.getRoot().toPath().resolve("missing");
+        
+        jobs.add(new TriangleWavePlotJob(
+                configuration, 
+                missingDirectory.resolve("fail.png").toString()));
+        
+        List<RenderResult> results = new ArrayList<>();
+        RenderSummary summary = 
+                new RenderScheduler(() -> renderer, 3, 2)
+                        .renderAll(jobs, results::add);
+        
+        assertEquals(11, summary.getNumberOfJobs());
+        assertEquals(10, summary.getNumberOfSucceededJobs());
+        assertEquals(1, summary.getNumberOfFailedJobs());
+        assertEquals(11, results.size());
+        
+        for (int i = 0; i < 10; i++) {
+            Path output = temporaryFolder.getRoot()
+                                         .toPath()
+                                         .resolve(i + ".png");
+            
+            assertTrue(Files.size(output) > 0);
+        }
+        
+        for (RenderResult result : results) {
+            assertEquals(
+                    result.getJob().getOutputFileName().endsWith("fail.png"),
+                    !result.isSuccessful());
+        }
+    }
+    
+    @Test(timeout = 20_000L)
+    public void testThrowingConsumerCancelsRun() 
+            throws IOException, InterruptedException {
+        TriangleWaveRenderer renderer = new Java2DRenderer();
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPlotWidth("20")
+                                                .setPlotHeight("10")
+                                                .build();
+        
+        List<TriangleWavePlotJob> jobs = new ArrayList<>();
+        
+        for (int i = 0; i < 20; i++) {
+            jobs.add(new TriangleWavePlotJob(
+                    configuration, 
+                    temporaryFolder.getRoot()
+                                   .toPath()
+                                   .resolve(i + ".png")
+                                   .toString()));
+        }
+        
+        try {
+            new RenderScheduler(() -> renderer, 2, 1)
+                    .renderAll(jobs, result -> {
+                        throw new IllegalArgumentException("Consumer failed.");
+                    });
+            
+            fail("The consumer failure was not reported.");
+        } catch (IllegalStateException ex) {
+            assertTrue(ex.getCause() instanceof IllegalArgumentException);
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnZeroWorkers() {
+        new RenderScheduler(Java2DRenderer::new, 0, 1);
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import static org.junit.Assume.assumeFalse;
+
+/**
+ * Writes a POSIX shell script that mimics the parts of Gnuplot the plotter 
+ * relies on: it writes a fake PNG to the output file, or to the standard output
+ * after a bare {@code set output}, on {@code unset output} or end of input, 
+ * and echoes {@code print} messages to the standard error stream.
+ */
+final class StubGnuplot {
+    
+    static final String FAKE_PNG = "PNG";
+    
+    private static final String SCRIPT = 
+            """
+            #!/bin/sh
+            out=""
+            flush() {
+                if [ "$out" = "-" ]; then printf '%s'
+                elif [ -n "$out" ]; then printf '%s' > "$out"; fi
+                out=""
+            }
+            if [ -n "$1" ]; then exec < "$1"; fi
+            while IFS= read -r line; do
+                case "$line" in
+                    "set output '"*) out=${line#"set output '"}; out=${out%%"'"};;
+                    "set output"|"set output ") out="-";;
+                    "unset output") flush;;
+                    "print '"*) m=${line#"print '"}; echo "${m%%"'"}" >&2;;
+                esac
+            done
+            flush
+            """.formatted(FAKE_PNG, FAKE_PNG);
+    
+    private StubGnuplot() {}
+    
+    static Path create(Path directory) throws IOException {
+        return create(directory, "gnuplot-stub.sh", SCRIPT);
+    }
+    
+    /**
+     * Writes an executable shell script acting as a misbehaving Gnuplot.
+     */
+    static Path create(Path directory, String fileName, String script) 
+            throws IOException {
+        assumeFalse(File.separatorChar == '\\');
+        Path stub = directory.resolve(fileName);
+        Files.writeString(stub, script);
+        Files.setPosixFilePermissions(
+                stub, 
+                PosixFilePermissions.fromString("rwxr-xr-x"));
+        
+        return stub;
+    }
+}
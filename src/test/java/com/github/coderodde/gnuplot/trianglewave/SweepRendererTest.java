@@ -0,0 +1,230 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public final class SweepRendererTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void testFrameFileNames() {
+        Path outputFile = Path.of("frames", "wave.png");
+        
+        assertEquals(Path.of("frames", "wave-0007.png"), 
+                     SweepRenderer.getFrameFile(outputFile, 7, 100));
+        
+        assertEquals(Path.of("frames", "wave-00042.png"), 
+                     SweepRenderer.getFrameFile(outputFile, 42, 10001));
+        
+        assertEquals(Path.of("frames", "wave-%04d.png").toString(), 
+                     SweepRenderer.getFrameFileNamePattern(outputFile, 100));
+        
+        assertEquals("100%%-%04d", 
+                     SweepRenderer.getFrameFileNamePattern(Path.of("100%"), 
+                                                           3));
+    }
+    
+    @Test
+    public void testSweepValues() {
+        ParameterSweep sweep = 
+                new ParameterSweep(SweepParameter.PERIOD, 1.0, 3.0, 5);
+        
+        assertEquals(0.5, sweep.getStep(), 0.0);
+        assertEquals(1.0, sweep.getValue(0), 0.0);
+        assertEquals(3.0, sweep.getValue(4), 0.0);
+        
+        TriangleWavePlotterConfiguration configuration = 
+                new TriangleWavePlotterConfiguration();
+        
+        assertEquals(2.5, 
+                     sweep.createFrameConfiguration(configuration, 3)
+                          .getPeriod(), 
+                     0.0);
+        
+        assertEquals(2.0 * Math.PI, configuration.getPeriod(), 0.0);
+    }
+    
+    @Test
+    public void testSweepScriptLoopsOverFrames() throws IOException {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPeriod(4.0)
+                                                .build();
+        
+        String script = 
+                GnuplotScriptTemplate.getSweep()
+                                     .renderSweep(
+                                             configuration,
+                                             new ParameterSweep(
+                                                     SweepParameter.SHIFT,
+                                                     0.0,
+                                                     2.0,
+                                                     11),
+                                             "out-%04d.png");
+        
+        assertTrue(script.contains("f_1(x) = triangle(x, 4.0, 1.0, sweep)"));
+        assertTrue(script.contains("do for [frame = 0:10] {"));
+        assertTrue(script.contains("sweep = sweep_values[frame + 1]"));
+        assertTrue(script.contains("array sweep_values[11] = [0.0, 0.2, "));
+        assertTrue(script.contains(
+                "set output sprintf('out-%04d.png', frame)"));
+        assertTrue(script.contains("plot f_1(x) with lines ls 1"));
+    }
+    
+    @Test
+    public void testLoopAndParallelSweepsAgreeOnFrameParameters() 
+            throws IOException {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPeriod(4.0)
+                                                .build();
+        
+        ParameterSweep sweep = 
+                new ParameterSweep(SweepParameter.SHIFT, 0.0, 10.0, 3);
+        
+        String script = 
+                GnuplotScriptTemplate.getSweep()
+                                     .renderSweep(configuration, 
+                                                  sweep, 
+                                                  "out-%04d.png");
+        
+        String declaration = "array sweep_values[3] = [";
+        int start = script.indexOf(declaration) + declaration.length();
+        String[] loopValues = 
+                script.substring(start, script.indexOf(']', start))
+                      .split(", ");
+        
+        assertEquals(3, loopValues.length);
+        
+        for (int frame = 0; frame < 3; frame++) {
+            assertEquals(sweep.createFrameConfiguration(configuration, frame)
+                              .getShift(), 
+                         Double.parseDouble(loopValues[frame]), 
+                         0.0);
+        }
+        
+        // 10 wraps around 2 pi:
+        assertEquals(10.0 - 2.0 * Math.PI, 
+                     Double.parseDouble(loopValues[2]), 
+                     1e-12);
+    }
+    
+    @Test
+    public void testLoopSweepIgnoresStaleFrames() throws IOException {
+        Path stub = StubGnuplot.create(temporaryFolder.getRoot().toPath());
+        Path outputFile = temporaryFolder.getRoot().toPath().resolve("w.png");
+        Path lastFrameFile = SweepRenderer.getFrameFile(outputFile, 2, 3);
+        
+        // A frame left over from an earlier run:
+        Files.writeString(lastFrameFile, StubGnuplot.FAKE_PNG);
+        
+        try {
+            SweepRenderer.withGnuplotLoop(
+                    new GnuplotRenderer(stub.toString()), 
+                    SweepRenderer.DEFAULT_FRAME_DELAY)
+                         .render(createSmallConfiguration(), 
+                                 new ParameterSweep(SweepParameter.SHIFT, 
+                                                    0.0, 
+                                                    1.0, 
+                                                    3), 
+                                 outputFile);
+            
+            fail("Stale frames should not count as rendered.");
+        } catch (IOException | InterruptedException ex) {
+            // Expected.
+        }
+        
+        assertFalse(Files.exists(lastFrameFile));
+    }
+    
+    @Test
+    public void testParallelSweepWritesNumberedFrames() 
+            throws IOException, InterruptedException {
+        Path outputFile = temporaryFolder.getRoot().toPath().resolve("w.png");
+        RenderSummary summary = 
+                SweepRenderer.withScheduler(
+                        new RenderScheduler(Java2DRenderer::new, 2, 2),
+                        SweepRenderer.DEFAULT_FRAME_DELAY)
+                             .render(createSmallConfiguration(),
+                                     new ParameterSweep(
+                                             SweepParameter.AMPLITUDE, 
+                                             0.5, 
+                                             1.0, 
+                                             3),
+                                     outputFile);
+        
+        assertEquals(3, summary.getNumberOfSucceededJobs());
+        
+        for (int frame = 0; frame < 3; frame++) {
+            assertTrue(Files.size(
+                    SweepRenderer.getFrameFile(outputFile, frame, 3)) > 0L);
+        }
+    }
+    
+    @Test
+    public void testParallelSweepWritesAnimatedGif() 
+            throws IOException, InterruptedException {
+        Path outputFile = temporaryFolder.getRoot().toPath().resolve("w.gif");
+        
+        SweepRenderer.withScheduler(
+                new RenderScheduler(Java2DRenderer::new, 2, 2),
+                Duration.ofMillis(100L))
+                     .render(createSmallConfiguration(),
+                             new ParameterSweep(SweepParameter.SHIFT, 
+                                                0.0, 
+                                                1.0, 
+                                                4),
+                             outputFile);
+        
+        try (ImageInputStream imageInputStream = 
+                ImageIO.createImageInputStream(outputFile.toFile())) {
+            ImageReader imageReader = 
+                    ImageIO.getImageReaders(imageInputStream).next();
+            
+            imageReader.setInput(imageInputStream);
+            assertEquals(4, imageReader.getNumImages(true));
+            assertEquals(200, imageReader.getWidth(0));
+            imageReader.dispose();
+        }
+        
+        try (var files = Files.list(temporaryFolder.getRoot().toPath())) {
+            assertEquals(1L, files.count());
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testSweepRejectsInvalidParameterValues() 
+            throws IOException, InterruptedException {
+        SweepRenderer.withScheduler(
+                new RenderScheduler(Java2DRenderer::new, 1, 1),
+                SweepRenderer.DEFAULT_FRAME_DELAY)
+                     .render(createSmallConfiguration(),
+                             new ParameterSweep(SweepParameter.PERIOD, 
+                                                -1.0, 
+                                                1.0, 
+                                                3),
+                             temporaryFolder.getRoot()
+                                            .toPath()
+                                            .resolve("w.png"));
+    }
+    
+    private static TriangleWavePlotterConfiguration createSmallConfiguration() {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPlotWidth("200")
+                                                .setPlotHeight("100")
+                                                .build();
+        return configuration;
+    }
+}
@@ -0,0 +1,225 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class TiledRendererTest {
+    
+    @Test
+    public void testStreamingPngWriterRoundTrip() throws IOException {
+        int width = 70;
+        int height = 30;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        
+        try (StreamingPngWriter pngWriter = 
+                new StreamingPngWriter(outputStream, width, height)) {
+            byte[] row = new byte[3 * width];
+            
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    row[3 * x]     = (byte) x;
+                    row[3 * x + 1] = (byte) y;
+                    row[3 * x + 2] = (byte) (x + y);
+                }
+                
+                pngWriter.writeRow(row);
+            }
+        }
+        
+        BufferedImage image = 
+                ImageIO.read(
+                        new ByteArrayInputStream(outputStream.toByteArray()));
+        
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+        
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                assertEquals((x << 16) | (y << 8) | (x + y), 
+                             image.getRGB(x, y) & 0xffffff);
+            }
+        }
+    }
+    
+    @Test(expected = IOException.class)
+    public void testStreamingPngWriterRejectsMissingRows() throws IOException {
+        new StreamingPngWriter(new ByteArrayOutputStream(), 2, 2).close();
+    }
+    
+    @Test
+    public void testTiledPlotMatchesUntiledPlot() throws IOException {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPlotWidth("1000")
+                                                .setPlotHeight("120")
+                                                .setPeriod(3.0)
+                                                .setLineWidth(5)
+                                                .build();
+        
+        TiledRenderer tiledRenderer = 
+                new TiledRenderer(
+                        new RenderScheduler(Java2DRenderer::new, 3, 3), 
+                        128);
+        
+        BufferedImage tiledImage = 
+                ImageIO.read(
+                        new ByteArrayInputStream(
+                                TriangleWavePlotter.plotToByteArray(
+                                        tiledRenderer, 
+                                        configuration)));
+        
+        TriangleWavePlotterConfiguration undecoratedConfiguration = 
+                configuration.toBuilder().setDecorated(false).build();
+        
+        BufferedImage image = 
+                new Java2DRenderer().renderImage(undecoratedConfiguration);
+        
+        assertEquals(1000, tiledImage.getWidth());
+        assertEquals(120, tiledImage.getHeight());
+        
+        int numberOfDifferentPixels = 0;
+        
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                if (!areSimilarColors(image.getRGB(x, y), 
+                                      tiledImage.getRGB(x, y))) {
+                    numberOfDifferentPixels++;
+                }
+            }
+        }
+        
+        // Allow for the line caps at the image edges and for anti-aliasing 
+        // rounding:
+        assertTrue(numberOfDifferentPixels < 1000 * 120 / 1000);
+    }
+    
+    @Test
+    public void testTileDirectoryIsDeleted() throws IOException {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPlotWidth("300")
+                                                .setPlotHeight("50")
+                                                .build();
+        
+        TiledRenderer tiledRenderer = 
+                new TiledRenderer(
+                        new RenderScheduler(Java2DRenderer::new, 2, 2), 
+                        64);
+        
+        int numberOfTileDirectories = countTileDirectories();
+        TriangleWavePlotter.plotToByteArray(tiledRenderer, configuration);
+        assertEquals(numberOfTileDirectories, countTileDirectories());
+    }
+    
+    @Test
+    public void testTiledOverlayMatchesUntiledOverlay() throws IOException {
+        TriangleWavePlotterConfiguration configuration1 = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPlotWidth("600")
+                                                .setPlotHeight("100")
+                                                .setPeriod(3.0)
+                                                .setLineWidth(2)
+                                                .setDecorated(false)
+                                                .build();
+        
+        TriangleWavePlotterConfiguration configuration2 = 
+                configuration1.toBuilder()
+                              .setPeriod(5.0)
+                              .setLineWidth(6)
+                              .setColor("#ff0000")
+                              .build();
+        
+        List<TriangleWavePlotterConfiguration> configurations = 
+                List.of(configuration1, configuration2);
+        
+        TiledRenderer tiledRenderer = 
+                new TiledRenderer(
+                        new RenderScheduler(Java2DRenderer::new, 2, 2), 
+                        100);
+        
+        BufferedImage tiledImage = 
+                ImageIO.read(
+                        new ByteArrayInputStream(
+                                TriangleWavePlotter.plotToByteArray(
+                                        tiledRenderer, 
+                                        configurations)));
+        
+        BufferedImage image = new Java2DRenderer().renderImage(configurations);
+        
+        int numberOfDifferentPixels = 0;
+        
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                if (!areSimilarColors(image.getRGB(x, y), 
+                                      tiledImage.getRGB(x, y))) {
+                    numberOfDifferentPixels++;
+                }
+            }
+        }
+        
+        assertTrue(numberOfDifferentPixels < 600 * 100 / 1000);
+    }
+    
+    @Test
+    public void testTileConfigurationCoversItsPixels() {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setXRangeStart(0.0)
+                                                .setXRangeEnd(100.0)
+                                                .setPlotWidth("1000")
+                                                .build();
+        
+        TriangleWavePlotterConfiguration tileConfiguration = 
+                TiledRenderer.createTileConfiguration(configuration, 
+                                                      200, 
+                                                      100, 
+                                                      10);
+        
+        assertEquals(19.0, tileConfiguration.getXRangeStart(), 1e-9);
+        assertEquals(31.0, tileConfiguration.getXRangeEnd(), 1e-9);
+        assertEquals(120, tileConfiguration.getPlotWidthInPixels());
+        assertFalse(tileConfiguration.isDecorated());
+        assertTrue(configuration.isDecorated());
+    }
+    
+    private static boolean areSimilarColors(int rgb1, int rgb2) {
+        for (int shift = 0; shift < 24; shift += 8) {
+            int channel1 = (rgb1 >>> shift) & 0xff;
+            int channel2 = (rgb2 >>> shift) & 0xff;
+            
+            if (Math.abs(channel1 - channel2) > 16) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    private static int countTileDirectories() throws IOException {
+        Path temporaryDirectory = 
+                Path.of(System.getProperty("java.io.tmpdir"));
+        
+        int numberOfTileDirectories = 0;
+        
+        try (DirectoryStream<Path> paths = 
+                Files.newDirectoryStream(
+                        temporaryDirectory, 
+                        TiledRenderer.TEMPORARY_DIRECTORY_PREFIX + "*")) {
+            
+            for (Path path : paths) {
+                numberOfTileDirectories++;
+            }
+        }
+        
+        return numberOfTileDirectories;
+    }
+}
@@ -0,0 +1,208 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public final class TriangleWaveAudioWriterTest {
+    
+    private static final int SAMPLE_RATE = 8000;
+    private static final double SHIFT = 0.001;
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void testPcm16IsReadableByJavaSound()
+            throws IOException, UnsupportedAudioFileException {
+        
+        Path file = temporaryFolder.newFile("wave.wav").toPath();
+        new TriangleWaveAudioWriter(createConfiguration(), 
+                                    SHIFT, 
+                                    SAMPLE_RATE, 
+                                    0.5, 
+                                    false)
+                .write(file, TriangleWaveAudioWriter.Format.PCM_16);
+        
+        byte[] data;
+        
+        try (AudioInputStream audioInputStream = 
+                AudioSystem.getAudioInputStream(file.toFile())) {
+            AudioFormat format = audioInputStream.getFormat();
+            
+            assertEquals(AudioFormat.Encoding.PCM_SIGNED, 
+                         format.getEncoding());
+            
+            assertEquals(SAMPLE_RATE, format.getSampleRate(), 0.0f);
+            assertEquals(16, format.getSampleSizeInBits());
+            assertEquals(1, format.getChannels());
+            assertFalse(format.isBigEndian());
+            assertEquals(4000L, audioInputStream.getFrameLength());
+            
+            data = audioInputStream.readAllBytes();
+        }
+        
+        ByteBuffer samples = 
+                ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        
+        for (int i = 0; i < 4000; i++) {
+            double expected = 
+                    TriangleWave.evaluate((double) i / SAMPLE_RATE, 
+                                          0.01, 
+                                          0.5, 
+                                          0.001);
+            
+            assertEquals(expected * Short.MAX_VALUE, 
+                         samples.getShort(2 * i), 
+                         1.0);
+        }
+    }
+    
+    @Test
+    public void testPcm24AndFloat32() throws IOException {
+        TriangleWaveAudioWriter audioWriter = 
+                new TriangleWaveAudioWriter(createConfiguration(), 
+                                            SHIFT, 
+                                            SAMPLE_RATE, 
+                                            0.25, 
+                                            false);
+        
+        Path pcm24File = temporaryFolder.newFile("wave24.wav").toPath();
+        Path float32File = temporaryFolder.newFile("wave32.wav").toPath();
+        
+        audioWriter.write(pcm24File, TriangleWaveAudioWriter.Format.PCM_24);
+        audioWriter.write(float32File, 
+                          TriangleWaveAudioWriter.Format.FLOAT_32);
+        
+        ByteBuffer pcm24 = 
+                ByteBuffer.wrap(Files.readAllBytes(pcm24File))
+                          .order(ByteOrder.LITTLE_ENDIAN);
+        
+        ByteBuffer float32 = 
+                ByteBuffer.wrap(Files.readAllBytes(float32File))
+                          .order(ByteOrder.LITTLE_ENDIAN);
+        
+        assertEquals(44 + 2000 * 3, pcm24.capacity());
+        assertEquals(44 + 2000 * 4, float32.capacity());
+        assertEquals(3, float32.getShort(20));
+        
+        // The peak at t = 0.001 + 0.01 / 4:
+        int peak = 28;
+        int pcm24Peak = 
+                (pcm24.getShort(44 + 3 * peak) & 0xffff)
+                        | (pcm24.get(44 + 3 * peak + 2) << 16);
+        
+        assertEquals(0.5 * 0x7f_ffff, pcm24Peak, 1.0);
+        assertEquals(0.5f, float32.getFloat(44 + 4 * peak), 1e-6f);
+    }
+    
+    @Test
+    public void testBandLimitedWave() {
+        double[] bandLimited = new double[4800];
+        double[] naive = new double[bandLimited.length];
+        
+        new TriangleWaveAudioWriter(createConfiguration(), 
+                                    SHIFT, 
+                                    48_000, 
+                                    0.1, 
+                                    true)
+                .generate(0L, bandLimited, 0, bandLimited.length);
+        
+        new TriangleWaveAudioWriter(createConfiguration(), 
+                                    SHIFT, 
+                                    48_000, 
+                                    0.1, 
+                                    false)
+                .generate(0L, naive, 0, naive.length);
+        
+        // 100 Hz has 119 odd harmonics below 24 kHz:
+        for (int i = 0; i < naive.length; i++) {
+            assertEquals(naive[i], bandLimited[i], 0.005);
+        }
+        
+        TriangleWavePlotterConfiguration configuration = 
+                createConfiguration().toBuilder()
+                                     .setPeriod(1.0 / 15_000.0)
+                                     .build();
+        
+        new TriangleWaveAudioWriter(configuration, 0.0, 48_000, 0.1, true)
+                .generate(0L, bandLimited, 0, bandLimited.length);
+        
+        // Only the fundamental is below the Nyquist frequency:
+        for (int i = 0; i < bandLimited.length; i++) {
+            double expected = 
+                    8.0 * 0.5 / (Math.PI * Math.PI)
+                            * Math.sin(2.0 * Math.PI * 15_000.0 * i
+                                               / 48_000.0);
+            
+            assertEquals(expected, bandLimited[i], 1e-6);
+        }
+    }
+    
+    @Test
+    public void testShiftBeyondTwoPiSeconds() {
+        double[] samples = new double[800];
+        
+        new TriangleWaveAudioWriter(createConfiguration(), 
+                                    7.0, 
+                                    SAMPLE_RATE, 
+                                    0.1, 
+                                    false)
+                .generate(0L, samples, 0, samples.length);
+        
+        for (int i = 0; i < samples.length; i++) {
+            double expected = 
+                    TriangleWave.evaluate((double) i / SAMPLE_RATE, 
+                                          0.01, 
+                                          0.5, 
+                                          7.0);
+            
+            assertEquals(expected, samples[i], 1e-9);
+        }
+    }
+    
+    @Test
+    public void testRejectsTooManySamples() {
+        try {
+            new TriangleWaveAudioWriter(createConfiguration(), 
+                                        SHIFT, 
+                                        SAMPLE_RATE, 
+                                        1e300, 
+                                        false);
+            
+            fail("The data size would have overflowed.");
+        } catch (IllegalArgumentException ex) {
+            // Expected.
+        }
+        
+        // Just over 4 GiB of 16-bit samples:
+        try {
+            new TriangleWaveAudioWriter(createConfiguration(), 
+                                        SHIFT, 
+                                        1, 
+                                        (double) (1L << 31), 
+                                        false);
+            
+            fail("The data does not fit into a WAV file.");
+        } catch (IllegalArgumentException ex) {
+            // Expected.
+        }
+    }
+    
+    private static TriangleWavePlotterConfiguration createConfiguration() {
+        return TriangleWavePlotterConfiguration.builder()
+                                               .setPeriod(0.01)
+                                               .setAmplitude(0.5)
+                                               .build();
+    }
+}
@@ -1,11 +1,12 @@
 package com.github.coderodde.gnuplot.trianglewave;
 
+import java.util.List;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import static com.github.coderodde.gnuplot.trianglewave.TriangleWavePlotterConfiguration.validateHexColor;
 
 public final class TriangleWavePlotterConfigurationTest {
-   
+    
     @Test
     public void testValidateHexColor() {
         String c = "#1bc";
@@ -16,5 +17,153 @@ public final class TriangleWavePlotterConfigurationTest {
         
         c = "green";
         assertEquals("green", validateHexColor(c));
+        
+        c = "Dark-Green";
+        assertEquals("dark-green", validateHexColor(c));
+    }
+    
+    @Test
+    public void testBuilderValidatesPlotDimensions() {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPlotWidth(" 640 ")
+                                                .setPlotHeight("+480")
+                                                .build();
+        
+        assertEquals("640", configuration.getPlotWidth());
+        assertEquals("480", configuration.getPlotHeight());
+        
+        for (String dimension : new String[]{ "0", 
+                                              "-5", 
+                                              "1048577", 
+                                              "960,600", 
+                                              "960\nsystem 'id'" }) {
+            try {
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPlotWidth(dimension);
+                fail("Accepted plot width '" + dimension + "'.");
+            } catch (IllegalArgumentException ex) {
+                // Expected.
+            }
+        }
+    }
+    
+    @Test
+    public void testBuilderRejectsUnknownColors() {
+        for (String color : new String[]{ "no-such-color", 
+                                          "#12345", 
+                                          "#12345g", 
+                                          "red'", 
+                                          "red\nsystem 'id'" }) {
+            try {
+                TriangleWavePlotterConfiguration.builder().setColor(color);
+                fail("Accepted color '" + color + "'.");
+            } catch (IllegalArgumentException ex) {
+                // Expected.
+            }
+        }
+    }
+    
+    @Test
+    public void testBuildOverlayConfigurations() {
+        List<TriangleWavePlotterConfiguration> configurations = 
+                TriangleWavePlotter.buildOverlayConfigurations(
+                        new String[]{ "--amplitude=2",
+                                      "--wave",
+                                      "--period=4",
+                                      "--wave",
+                                      "--color=#f00",
+                                      "out.png" });
+        
+        assertEquals(2, configurations.size());
+        assertEquals(4.0, configurations.get(0).getPeriod(), 0.0);
+        assertEquals(2.0, configurations.get(0).getAmplitude(), 0.0);
+        assertEquals(2.0, configurations.get(1).getAmplitude(), 0.0);
+        assertEquals("#ff0000", configurations.get(1).getColor());
+        
+        assertEquals(1, 
+                     TriangleWavePlotter.buildOverlayConfigurations(
+                             new String[]{ "--period=4", "out.png" }).size());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testOverlayRequiresSharedPlotArea() {
+        TriangleWavePlotter.buildOverlayConfigurations(
+                new String[]{ "--wave", 
+                              "--xRangeEnd=5",
+                              "--wave",
+                              "--xRangeEnd=6",
+                              "out.png" });
+    }
+    
+    @Test
+    public void testFindChangedProperties() {
+        TriangleWavePlotterConfiguration configuration = 
+                new TriangleWavePlotterConfiguration();
+        
+        TriangleWavePlotterConfiguration copy = 
+                configuration.toBuilder().build();
+        
+        assertTrue(configuration.findChangedProperties(copy).isEmpty());
+        
+        TriangleWavePlotterConfiguration changed = 
+                configuration.toBuilder()
+                             .setPeriod(3.0)
+                             .setColor("#abc")
+                             .setDecorated(false)
+                             .build();
+        
+        assertEquals(List.of("period", "color", "decorated"), 
+                     changed.findChangedProperties(configuration));
+    }
+    
+    @Test
+    public void testBuilderRoundTripsAndEquality() {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPeriod(2.5)
+                                                .setColor("#abc")
+                                                .setPlotWidth("800")
+                                                .build();
+        
+        TriangleWavePlotterConfiguration copy = 
+                configuration.toBuilder().build();
+        
+        assertEquals(configuration, copy);
+        assertEquals(configuration.hashCode(), copy.hashCode());
+        assertEquals("#aabbcc", copy.getColor());
+        assertEquals(800, copy.getPlotWidthInPixels());
+        assertNotEquals(configuration, new TriangleWavePlotterConfiguration());
+    }
+    
+    @Test
+    public void testParseArgument() {
+        TriangleWavePlotterConfiguration.Builder builder = 
+                TriangleWavePlotterConfiguration.builder();
+        
+        ConfigurationArgumentParser.parseArgument(builder, "--period=4");
+        ConfigurationArgumentParser.parseArgument(builder, "--color=#f00");
+        ConfigurationArgumentParser.parseArgument(builder, "--backend=java2d");
+        
+        TriangleWavePlotterConfiguration configuration = builder.build();
+        
+        assertEquals(4.0, configuration.getPeriod(), 0.0);
+        assertEquals("#ff0000", configuration.getColor());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testParseArgumentRejectsOptionPrefix() {
+        ConfigurationArgumentParser.parseArgument(
+                TriangleWavePlotterConfiguration.builder(), 
+                "--periodic=3");
+    }
+    
+    @Test
+    public void testTokenize() {
+        assertEquals(List.of("--period=3", "--color=#abc"), 
+                     ConfigurationArgumentParser.tokenize(
+                             " \t--period=3   --color=#abc \n"));
+        
+        assertTrue(ConfigurationArgumentParser.tokenize("   ").isEmpty());
     }
 }
@@ -0,0 +1,171 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import javax.imageio.ImageIO;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class TriangleWavePlotterServerTest {
+    
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    
+    @Test
+    public void testParseConfiguration() {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterServer.parseConfiguration(
+                        "period=4&color=%23abc&plotWidth=100");
+        
+        assertEquals(4.0, configuration.getPeriod(), 0.0);
+        assertEquals("#aabbcc", configuration.getColor());
+        assertEquals("100", configuration.getPlotWidth());
+    }
+    
+    @Test
+    public void testRejectsScriptInjection() throws Exception {
+        try (TriangleWavePlotterServer server = 
+                new TriangleWavePlotterServer(0, new Java2DRenderer(), 1, 1)) {
+            server.start();
+            
+            assertTrue(server.getAddress().isLoopbackAddress());
+            
+            for (String query : new String[]{
+                    "color=red%27%0Asystem%20%27id%27%0A%23", 
+                    "color=red%27", 
+                    "plotWidth=960%0Asystem%20%22touch%20/tmp/x%22%0A%23", 
+                    "plotHeight=600%27", 
+                    "plotWidth=100000&plotHeight=100000", 
+                    "sampling=vertices&period=1e-9&xRangeEnd=1e9" }) {
+                assertEquals(query, 
+                             400, 
+                             get(server, "/plot?" + query).statusCode());
+            }
+        }
+    }
+    
+    @Test
+    public void testServesPng() throws Exception {
+        try (TriangleWavePlotterServer server = 
+                new TriangleWavePlotterServer(0, new Java2DRenderer(), 2, 2)) {
+            server.start();
+            
+            HttpResponse<byte[]> response = 
+                    get(server, "/plot?plotWidth=320&plotHeight=200");
+            
+            assertEquals(200, response.statusCode());
+            assertEquals("image/png", 
+                         response.headers()
+                                 .firstValue("Content-Type")
+                                 .orElse(null));
+            
+            assertEquals(320, 
+                         ImageIO.read(new ByteArrayInputStream(response.body()))
+                                .getWidth());
+            
+            assertEquals(400, get(server, "/plot?period=-1").statusCode());
+            
+            HttpResponse<byte[]> metricsResponse = get(server, "/metrics");
+            
+            assertEquals(200, metricsResponse.statusCode());
+            assertTrue(new String(metricsResponse.body()).contains("render"));
+        }
+    }
+    
+    @Test
+    public void testRejectsOverload() throws Exception {
+        CountDownLatch renderStarted = new CountDownLatch(1);
+        CountDownLatch renderMayFinish = new CountDownLatch(1);
+        
+        TriangleWaveRenderer blockingRenderer = new TriangleWaveRenderer() {
+            
+            @Override
+            public void render(TriangleWavePlotterConfiguration configuration, 
+                               Path outputFile) {
+                throw new UnsupportedOperationException();
+            }
+            
+            @Override
+            public void render(TriangleWavePlotterConfiguration configuration,
+                               OutputStream outputStream) throws IOException {
+                renderStarted.countDown();
+                
+                try {
+                    renderMayFinish.await();
+                } catch (InterruptedException ex) {
+                    throw new IOException(ex);
+                }
+                
+                outputStream.write(1);
+            }
+            
+            @Override
+            public void renderOverlay(
+                    List<TriangleWavePlotterConfiguration> configurations,
+                    Path outputFile) {
+                throw new UnsupportedOperationException();
+            }
+            
+            @Override
+            public void renderOverlay(
+                    List<TriangleWavePlotterConfiguration> configurations,
+                    OutputStream outputStream) {
+                throw new UnsupportedOperationException();
+            }
+            
+            @Override
+            public String getName() {
+                return "blocking";
+            }
+            
+            @Override
+            public String getVersion() {
+                return "1";
+            }
+        };
+        
+        try (TriangleWavePlotterServer server = 
+                new TriangleWavePlotterServer(0, blockingRenderer, 1, 0)) {
+            server.start();
+            
+            CompletableFuture<HttpResponse<byte[]>> first = 
+                    httpClient.sendAsync(
+                            createRequest(server, "/plot"), 
+                            HttpResponse.BodyHandlers.ofByteArray());
+            
+            renderStarted.await();
+            
+            HttpResponse<byte[]> second = get(server, "/plot");
+            
+            assertEquals(503, second.statusCode());
+            
+            renderMayFinish.countDown();
+            assertEquals(200, first.get().statusCode());
+        }
+    }
+    
+    private HttpResponse<byte[]> get(TriangleWavePlotterServer server, 
+                                     String path) throws Exception {
+        return httpClient.send(createRequest(server, path), 
+                               HttpResponse.BodyHandlers.ofByteArray());
+    }
+    
+    private static HttpRequest createRequest(TriangleWavePlotterServer server,
+                                             String path) {
+        return HttpRequest.newBuilder(
+                URI.create("http://" 
+                                   + server.getAddress().getHostAddress() 
+                                   + ":" 
+                                   + server.getPort() 
+                                   + path))
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class TriangleWavePolylineTest {
+    
+    private static final double DELTA = 1e-9;
+    
+    @Test
+    public void testVertices() {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPeriod(4.0)
+                                                .setAmplitude(2.0)
+                                                .setXRangeStart(-2.0)
+                                                .setXRangeEnd(3.0)
+                                                .build();
+        
+        assertArrayEquals(
+                new double[]{ -2.0,  0.0, 
+                              -1.0, -2.0, 
+                               1.0,  2.0,
+                               3.0, -2.0 },
+                TriangleWavePolyline.computeVertices(configuration),
+                DELTA);
+    }
+    
+    @Test
+    public void testVerticesMatchTheFunction() {
+        double[] count = { 0 };
+        
+        TriangleWavePolyline.forEachVertex(
+                -1e6, 
+                1e6, 
+                2.0, 
+                1.5, 
+                0.25, 
+                (x, y) -> {
+                    assertEquals(TriangleWave.evaluate(x, 2.0, 1.5, 0.25), 
+                                 y, 
+                                 1e-6);
+                    count[0]++;
+                });
+        
+        // Two vertices per period plus the range end points:
+        assertEquals(2e6 + 2, count[0], 1.0);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnresolvablePeriodIsRejected() {
+        TriangleWavePolyline.forEachVertex(1e9, 
+                                           1e9 + 1.0, 
+                                           1e-9, 
+                                           1.0, 
+                                           0.0, 
+                                           (x, y) -> {});
+    }
+    
+    @Test
+    public void testDensePolylineIsDecimated() throws IOException {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setSampling(
+                                                        TriangleWaveSampling
+                                                                .VERTICES)
+                                                .setPeriod(1e-9)
+                                                .setXRangeEnd(1e9)
+                                                .setPlotWidth("200")
+                                                .setPlotHeight("100")
+                                                .build();
+        
+        assertTrue(TriangleWavePolyline.isDenserThan(configuration, 200));
+        
+        // Decimated, the script holds at most a min/max pair per column:
+        String script = 
+                GnuplotScriptTemplate.getDefault()
+                                     .render(configuration, "wave.png");
+        
+        assertTrue(script.length() < 200 * 2 * 64);
+        assertEquals(200, 
+                     new Java2DRenderer().renderImage(configuration)
+                                         .getWidth());
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+public final class TriangleWaveSampleGeneratorTest {
+    
+    private static final double DELTA = 1e-9;
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void testGenerateMatchesTheFunction() {
+        TriangleWavePlotterConfiguration configuration = createConfiguration();
+        int numberOfSamples = 3_000_001;
+        double[] xs = new double[numberOfSamples];
+        double[] ys = new double[numberOfSamples];
+        
+        new TriangleWaveSampleGenerator(configuration, numberOfSamples)
+                .generate(xs, ys);
+        
+        assertEquals(-10.0, xs[0], DELTA);
+        assertEquals( 20.0, xs[numberOfSamples - 1], DELTA);
+        
+        for (int i = 0; i < numberOfSamples; i += 997) {
+            assertEquals(TriangleWave.evaluate(xs[i], configuration), 
+                         ys[i], 
+                         DELTA);
+        }
+    }
+    
+    @Test
+    public void testWriteBinaryAndRaw() throws IOException {
+        TriangleWavePlotterConfiguration configuration = createConfiguration();
+        TriangleWaveSampleGenerator generator = 
+                new TriangleWaveSampleGenerator(configuration, 1001);
+        
+        Path binaryFile = temporaryFolder.newFile("samples.bin").toPath();
+        Path rawFile = temporaryFolder.newFile("samples.raw").toPath();
+        
+        generator.write(binaryFile, TriangleWaveSampleGenerator.Format.BINARY);
+        generator.write(rawFile, TriangleWaveSampleGenerator.Format.RAW);
+        
+        ByteBuffer binary = 
+                ByteBuffer.wrap(Files.readAllBytes(binaryFile))
+                          .order(ByteOrder.LITTLE_ENDIAN);
+        
+        ByteBuffer raw = 
+                ByteBuffer.wrap(Files.readAllBytes(rawFile))
+                          .order(ByteOrder.LITTLE_ENDIAN);
+        
+        assertEquals(1001 * 16, binary.capacity());
+        assertEquals(1001 * 8, raw.capacity());
+        
+        for (int i = 0; i < 1001; i++) {
+            double x = binary.getDouble();
+            double y = binary.getDouble();
+            
+            assertEquals(-10.0 + 0.03 * i, x, DELTA);
+            assertEquals(TriangleWave.evaluate(x, configuration), y, DELTA);
+            assertEquals(y, raw.getDouble(), 0.0);
+        }
+    }
+    
+    @Test
+    public void testWriteCsv() throws IOException {
+        Path csvFile = temporaryFolder.newFile("samples.csv").toPath();
+        
+        new TriangleWaveSampleGenerator(createConfiguration(), 5)
+                .write(csvFile, TriangleWaveSampleGenerator.Format.CSV);
+        
+        List<String> lines = Files.readAllLines(csvFile);
+        
+        assertEquals(5, lines.size());
+        assertEquals("-10.0,", lines.get(0).substring(0, 6));
+        assertEquals("20.0,", lines.get(4).substring(0, 5));
+    }
+    
+    private static TriangleWavePlotterConfiguration createConfiguration() {
+        TriangleWavePlotterConfiguration configuration = 
+                TriangleWavePlotterConfiguration.builder()
+                                                .setPeriod(3.0)
+                                                .setAmplitude(2.0)
+                                                .setShift(0.5)
+                                                .setXRangeStart(-10.0)
+                                                .setXRangeEnd(20.0)
+                                                .build();
+        return configuration;
+    }
+}
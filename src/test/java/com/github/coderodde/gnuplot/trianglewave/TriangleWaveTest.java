@@ -0,0 +1,21 @@
+package com.github.coderodde.gnuplot.trianglewave;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class TriangleWaveTest {
+    
+    private static final double DELTA = 1e-9;
+    
+    @Test
+    public void testEvaluate() {
+        // Period 4, amplitude 2: peaks at x = 1 + 4k, troughs at x = -1 + 4k.
+        assertEquals( 0.0, TriangleWave.evaluate( 0.0, 4.0, 2.0, 0.0), DELTA);
+        assertEquals( 2.0, TriangleWave.evaluate( 1.0, 4.0, 2.0, 0.0), DELTA);
+        assertEquals( 0.0, TriangleWave.evaluate( 2.0, 4.0, 2.0, 0.0), DELTA);
+        assertEquals(-2.0, TriangleWave.evaluate( 3.0, 4.0, 2.0, 0.0), DELTA);
+        assertEquals(-2.0, TriangleWave.evaluate(-1.0, 4.0, 2.0, 0.0), DELTA);
+        assertEquals( 1.0, TriangleWave.evaluate( 0.5, 4.0, 2.0, 0.0), DELTA);
+        assertEquals( 2.0, TriangleWave.evaluate( 2.0, 4.0, 2.0, 1.0), DELTA);
+    }
+}